@@ -0,0 +1,44 @@
+package org.example.benchmarks;
+
+import org.example.world.Platform;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+/**
+ * Dados determinísticos compartilhados pelos benchmarks
+ */
+final class BenchmarkData {
+
+    static final int SCREEN_WIDTH = 1280;
+    static final int SCREEN_HEIGHT = 720;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Fileira de plataformas da esquerda para a direita com vãos e alturas alcançáveis
+     */
+    static ArrayList<Platform> platformRow(int count, long seed) {
+        Random random = new Random(seed);
+        ArrayList<Platform> platforms = new ArrayList<>(count);
+
+        int x = 0;
+        int y = 500;
+        for (int i = 0; i < count; i++) {
+            int width = 80 + random.nextInt(120);
+            platforms.add(new Platform(x, y, width, 20));
+
+            x += width + 40 + random.nextInt(60);
+            y = Math.max(200, Math.min(600, y + random.nextInt(81) - 40));
+        }
+        return platforms;
+    }
+
+    static <T> ArrayList<T> shuffled(ArrayList<T> list, long seed) {
+        ArrayList<T> copy = new ArrayList<>(list);
+        Collections.shuffle(copy, new Random(seed));
+        return copy;
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.benchmarks;
+
+import org.example.fhysics.SweepAndPrune;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Rectangle;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Player x atores (inimigos andando + orbs parados): laço por ator x sweep and prune
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadphaseBenchmark {
+
+    private static final int WORLD_WIDTH = 50_000;
+
+    @Param({"100", "1000", "10000"})
+    public int actorCount;
+
+    private Rectangle player;
+    private Rectangle[] actors;
+    private int[] speeds;
+
+    private SweepAndPrune broadphase;
+    private SweepAndPrune.Proxy playerProxy;
+    private SweepAndPrune.Proxy[] proxies;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+        player = new Rectangle(WORLD_WIDTH / 2, 400, 32, 48);
+        actors = new Rectangle[actorCount];
+        speeds = new int[actorCount];
+
+        broadphase = new SweepAndPrune();
+        playerProxy = broadphase.add(player, SweepAndPrune.Kind.PLAYER, 0);
+        proxies = new SweepAndPrune.Proxy[actorCount];
+
+        for (int i = 0; i < actorCount; i++) {
+            boolean enemy = i % 4 == 0;
+            actors[i] = enemy
+                    ? new Rectangle(random.nextInt(WORLD_WIDTH), 300 + random.nextInt(300), 30, 30)
+                    : new Rectangle(random.nextInt(WORLD_WIDTH), 200 + random.nextInt(400), 16, 16);
+            speeds[i] = enemy ? (random.nextBoolean() ? 2 : -2) : 0;
+            proxies[i] = broadphase.add(actors[i],
+                    enemy ? SweepAndPrune.Kind.ENEMY : SweepAndPrune.Kind.ORB, enemy ? 32 : 0);
+            proxies[i].setBounds(actors[i].x, actors[i].y, actors[i].width, actors[i].height);
+        }
+    }
+
+    private void moveActors() {
+        player.x = (player.x + 3) % WORLD_WIDTH;
+        for (int i = 0; i < actorCount; i++) {
+            if (speeds[i] != 0) {
+                actors[i].x = Math.floorMod(actors[i].x + speeds[i], WORLD_WIDTH);
+            }
+        }
+    }
+
+    @Benchmark
+    public int bruteForce() {
+        moveActors();
+        int hits = 0;
+        for (Rectangle actor : actors) {
+            if (player.intersects(actor)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int sweepAndPrune() {
+        moveActors();
+        playerProxy.setBounds(player.x, player.y, player.width, player.height);
+        for (int i = 0; i < actorCount; i++) {
+            if (speeds[i] != 0) {
+                proxies[i].setBounds(actors[i].x, actors[i].y, actors[i].width, actors[i].height);
+            }
+        }
+
+        int hits = 0;
+        int pairs = broadphase.findPairs();
+        for (int i = 0; i < pairs; i++) {
+            if (player.intersects((Rectangle) broadphase.getPairB(i).owner)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
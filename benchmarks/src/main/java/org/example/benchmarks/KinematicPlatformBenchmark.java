@@ -0,0 +1,161 @@
+package org.example.benchmarks;
+
+import org.example.fhysics.GroundSupportIndex;
+import org.example.fhysics.PlatformSpatialGrid;
+import org.example.world.KinematicPlatformSystem;
+import org.example.world.Platform;
+import org.example.world.PlatformIntervalIndex;
+import org.example.world.PlatformStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Um tick de plataformas MOVING com RIDERS atores em cima: Platform.update() um a um e cada ator
+ * procurando de novo a plataforma sob os pés x KinematicPlatformSystem (um laço + delta pelo contato).
+ *
+ * O lado cinemático paga a mesma manutenção que o SimulationKernel: listener com store, grade,
+ * índice por x reordenado uma vez e trechos de chão descartados num passe só, depois do passo.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KinematicPlatformBenchmark {
+
+    private static final int RIDERS = 64;
+    private static final int RIDER_WIDTH = 30;
+
+    @Param({"100", "1000", "10000"})
+    public int platformCount;
+
+    private ArrayList<Platform> perObjectPlatforms;
+    private ArrayList<Platform> kinematicPlatforms;
+    private final PlatformStore store = new PlatformStore();
+    private final KinematicPlatformSystem kinematics = new KinematicPlatformSystem();
+    private final PlatformSpatialGrid grid = new PlatformSpatialGrid();
+    private final PlatformIntervalIndex index = new PlatformIntervalIndex();
+    private final GroundSupportIndex groundSupport = new GroundSupportIndex();
+
+    private int[] oldX;
+    private int[] oldY;
+    private final int[] carrier = new int[RIDERS];
+    private final double[] riderX = new double[RIDERS];
+    private final double[] riderBottom = new double[RIDERS];
+
+    @Setup
+    public void setup() {
+        perObjectPlatforms = createPlatforms();
+        kinematicPlatforms = createPlatforms();
+        store.rebuild(kinematicPlatforms);
+        grid.rebuild(store);
+        index.rebuild(kinematicPlatforms);
+        groundSupport.reset(RIDERS);
+        kinematics.rebuild(store);
+        kinematics.setMovedListener(this::onPlatformMoved);
+        kinematics.resetRiders(RIDERS);
+
+        oldX = new int[platformCount];
+        oldY = new int[platformCount];
+        for (int r = 0; r < RIDERS; r++) {
+            int slot = r * (platformCount / RIDERS);
+            Platform platform = kinematicPlatforms.get(slot);
+            riderX[r] = platform.x + 10;
+            riderBottom[r] = platform.y;
+            kinematics.setRiderContact(r, slot);
+        }
+    }
+
+    private ArrayList<Platform> createPlatforms() {
+        Random random = new Random(42L);
+        ArrayList<Platform> platforms = new ArrayList<>();
+        for (int i = 0; i < platformCount; i++) {
+            int x = i * 300;
+            int y = 200 + random.nextInt(300);
+            platforms.add(new Platform(x, y, 120, 20, Platform.PlatformType.MOVING,
+                    x + 80 + random.nextInt(60), y, 0.8f + random.nextFloat() * 1.2f));
+        }
+        return platforms;
+    }
+
+    @Benchmark
+    public double perObject() {
+        // Antes de mover: cada ator acha a plataforma sob os pés (varredura da lista)
+        for (int r = 0; r < RIDERS; r++) {
+            carrier[r] = -1;
+            for (int i = 0; i < perObjectPlatforms.size(); i++) {
+                Platform platform = perObjectPlatforms.get(i);
+                if (riderX[r] + RIDER_WIDTH > platform.x && riderX[r] < platform.x + platform.width
+                        && Math.abs(riderBottom[r] - platform.y) <= 1) {
+                    carrier[r] = i;
+                    break;
+                }
+            }
+        }
+
+        for (int i = 0; i < perObjectPlatforms.size(); i++) {
+            Platform platform = perObjectPlatforms.get(i);
+            oldX[i] = platform.x;
+            oldY[i] = platform.y;
+            platform.update(0);
+        }
+
+        double total = 0;
+        for (int r = 0; r < RIDERS; r++) {
+            if (carrier[r] < 0) continue;
+            Platform platform = perObjectPlatforms.get(carrier[r]);
+            riderX[r] += platform.x - oldX[carrier[r]];
+            riderBottom[r] += platform.y - oldY[carrier[r]];
+            total += riderX[r];
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double kinematic() {
+        kinematics.step(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        index.resort();
+        groundSupport.flushInvalidations();
+
+        double total = 0;
+        for (int r = 0; r < RIDERS; r++) {
+            int body = kinematics.getCarrier(r, riderX[r], riderX[r] + RIDER_WIDTH, riderBottom[r]);
+            if (body < 0) continue;
+            riderX[r] += kinematics.getDeltaX(body);
+            riderBottom[r] += kinematics.getDeltaY(body);
+            total += riderX[r];
+        }
+        return total;
+    }
+
+    // Mesma manutenção do SimulationKernel.onKinematicPlatformMoved (o índice por x fica para o resort)
+    private void onPlatformMoved(Platform platform) {
+        int slot = store.slotOf(platform);
+        if (slot < 0) return;
+
+        int oldX = store.x[slot];
+        int oldY = store.y[slot];
+        int left = Math.min(oldX, platform.x);
+        int top = Math.min(oldY, platform.y);
+        groundSupport.queueInvalidate(left, top,
+                Math.max(oldX + store.width[slot], platform.x + platform.width) - left,
+                Math.max(oldY + store.height[slot], platform.y + platform.height) - top);
+
+        store.sync(slot);
+        grid.update(platform);
+    }
+}
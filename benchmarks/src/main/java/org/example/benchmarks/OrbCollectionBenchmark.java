@@ -0,0 +1,80 @@
+package org.example.benchmarks;
+
+import org.example.entities.EnergyOrbEntity;
+import org.example.fhysics.PhysicsEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Color;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Teste de coleta de orbs em regime (nenhum orb ao alcance): Rectangle por orb x aritmética.
+ * Com o profiler de GC do BenchmarkRunner, gc.alloc.rate.norm de primitiveOverlap deve ficar em 0 B/op.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrbCollectionBenchmark {
+
+    private static final int ORB_SIZE = 16;
+
+    @Param({"100", "1000"})
+    public int orbCount;
+
+    private final ArrayList<EnergyOrbEntity> orbs = new ArrayList<>();
+    private Rectangle playerHitbox;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+        orbs.clear();
+        for (int i = 0; i < orbCount; i++) {
+            orbs.add(new EnergyOrbEntity(200 + random.nextInt(20_000), 100 + random.nextInt(400), 10, Color.CYAN));
+        }
+        // Player longe de todos os orbs: só o custo do teste, sem coletas
+        playerHitbox = new Rectangle(-5_000, 300, 32, 48);
+    }
+
+    @Benchmark
+    public int rectanglePerOrb() {
+        int hits = 0;
+        for (EnergyOrbEntity orb : orbs) {
+            if (orb.isCollected()) continue;
+            Rectangle orbHitbox = new Rectangle((int) orb.getX() - ORB_SIZE / 2, (int) orb.getY() - ORB_SIZE / 2,
+                    ORB_SIZE, ORB_SIZE);
+            if (playerHitbox.intersects(orbHitbox)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int primitiveOverlap() {
+        int hits = 0;
+        for (int i = 0; i < orbs.size(); i++) {
+            EnergyOrbEntity orb = orbs.get(i);
+            if (orb.isCollected()) continue;
+            if (PhysicsEngine.overlapsCenteredSquare(playerHitbox, (int) orb.getX(), (int) orb.getY(), ORB_SIZE)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
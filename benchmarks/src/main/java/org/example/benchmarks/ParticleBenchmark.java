@@ -0,0 +1,91 @@
+package org.example.benchmarks;
+
+import org.example.world.ParticleSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Atualização e renderização (em BufferedImage fora da tela) do sistema de partículas
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticleBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int particleCount;
+
+    // cyberpunk, energy ou hologram
+    @Param({"cyberpunk", "energy", "hologram"})
+    public String particleType;
+
+    private ParticleSystem particleSystem;
+    private BufferedImage target;
+    private Graphics2D g2d;
+
+    @Setup
+    public void setup() {
+        particleSystem = new ParticleSystem();
+        Random random = new Random(42L);
+
+        // Vida "infinita": o benchmark mede sempre a mesma quantidade de partículas
+        for (int i = 0; i < particleCount; i++) {
+            float x = random.nextInt(BenchmarkData.SCREEN_WIDTH);
+            float y = random.nextInt(BenchmarkData.SCREEN_HEIGHT);
+            float velocityX = random.nextFloat() * 2 - 1;
+            float velocityY = random.nextFloat() * 2 - 1;
+            particleSystem.addParticle(createParticle(x, y, velocityX, velocityY, Integer.MAX_VALUE));
+        }
+
+        target = new BufferedImage(BenchmarkData.SCREEN_WIDTH, BenchmarkData.SCREEN_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        g2d = target.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    }
+
+    @TearDown
+    public void tearDown() {
+        g2d.dispose();
+    }
+
+    private ParticleSystem.Particle createParticle(float x, float y, float velocityX, float velocityY, int life) {
+        switch (particleType) {
+            case "energy":
+                return new ParticleSystem.EnergyParticle(x, y, velocityX, velocityY, life);
+            case "hologram":
+                return new ParticleSystem.HologramParticle(x, y, velocityX, velocityY, life);
+            default:
+                return new ParticleSystem.CyberpunkParticle(x, y, velocityX, velocityY, life);
+        }
+    }
+
+    @Benchmark
+    public ParticleSystem update() {
+        particleSystem.update();
+        return particleSystem;
+    }
+
+    @Benchmark
+    public BufferedImage render() {
+        particleSystem.render(g2d);
+        return target;
+    }
+}
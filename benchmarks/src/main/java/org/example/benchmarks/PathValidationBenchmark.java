@@ -0,0 +1,47 @@
+package org.example.benchmarks;
+
+import org.example.world.PathValidationSystem;
+import org.example.world.Platform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validação de acessibilidade (BFS entre plataformas) em mapas de tamanhos diferentes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathValidationBenchmark {
+
+    @Param({"10", "100", "500", "2000"})
+    public int platformCount;
+
+    private ArrayList<Platform> platforms;
+
+    @Setup
+    public void setup() {
+        // Embaralhado para que a ordenação dentro de validateMap também seja medida
+        platforms = BenchmarkData.shuffled(BenchmarkData.platformRow(platformCount, 42L), 7L);
+    }
+
+    @Benchmark
+    public boolean validateMap() {
+        // validateMap ordena a lista recebida; uma cópia mantém a entrada igual entre chamadas
+        return PathValidationSystem.validateMap(new ArrayList<>(platforms));
+    }
+}
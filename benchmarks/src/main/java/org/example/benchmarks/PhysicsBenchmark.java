@@ -0,0 +1,60 @@
+package org.example.benchmarks;
+
+import org.example.fhysics.PhysicsEngine;
+import org.example.objects.Player;
+import org.example.world.Platform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Colisão player x plataformas com cada vez mais plataformas no mundo
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhysicsBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int platformCount;
+
+    private ArrayList<Platform> platforms;
+    private Player player;
+    private int startX;
+    private int startY;
+
+    @Setup
+    public void setup() {
+        platforms = BenchmarkData.platformRow(platformCount, 42L);
+
+        // Player caindo sobre a plataforma do meio: exercita os dois laços (horizontal e vertical)
+        Platform middle = platforms.get(platformCount / 2);
+        startX = middle.x + middle.width / 4;
+        startY = middle.y - 60;
+        player = new Player(startX, startY);
+    }
+
+    @Benchmark
+    public Player checkPlayerPlatformCollisions() {
+        player.x = startX;
+        player.y = startY;
+        player.velocityX = 4;
+        player.velocityY = 12;
+        PhysicsEngine.checkPlayerPlatformCollisions(player, platforms);
+        return player;
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.benchmarks;
+
+import org.example.world.Platform;
+import org.example.world.PlatformIntervalIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Janela de câmera e rolagem do mundo: lista varrida inteira x índice ordenado por x
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlatformIndexBenchmark {
+
+    private static final int SCROLL_STEP = 240; // Espaçamento médio da fileira
+    private static final int SCROLL_RESET_X = 1_000_000_000; // Recomeça antes de estourar o int
+
+    @Param({"100", "1000", "10000"})
+    public int platformCount;
+
+    private ArrayList<Platform> platforms;
+    private PlatformIntervalIndex index;
+    private final ArrayList<Platform> out = new ArrayList<>();
+
+    private int windowX;
+
+    // Rolagem: mesmo número de plataformas entrando à direita e saindo à esquerda
+    private ArrayList<Platform> scrollList;
+    private PlatformIntervalIndex scrollIndex;
+    private int scrollListNextX;
+    private int scrollIndexNextX;
+    private int span;
+
+    @Setup
+    public void setup() {
+        platforms = BenchmarkData.platformRow(platformCount, 42L);
+        index = new PlatformIntervalIndex(BenchmarkData.shuffled(platforms, 7L));
+
+        Platform middle = platforms.get(platformCount / 2);
+        windowX = middle.x - BenchmarkData.SCREEN_WIDTH / 2;
+
+        Platform last = platforms.get(platformCount - 1);
+        span = last.x + last.width;
+        resetScrollList();
+        resetScrollIndex();
+    }
+
+    private void resetScrollList() {
+        scrollList = new ArrayList<>(platforms);
+        scrollListNextX = span;
+    }
+
+    private void resetScrollIndex() {
+        scrollIndex = new PlatformIntervalIndex(platforms);
+        scrollIndexNextX = span;
+    }
+
+    @Benchmark
+    public ArrayList<Platform> windowLinearScan() {
+        out.clear();
+        int maxX = windowX + BenchmarkData.SCREEN_WIDTH;
+        for (Platform platform : platforms) {
+            if (platform.x <= maxX && platform.x + platform.width >= windowX) {
+                out.add(platform);
+            }
+        }
+        return out;
+    }
+
+    @Benchmark
+    public ArrayList<Platform> windowIndexQuery() {
+        return index.queryOverlapping(windowX, windowX + BenchmarkData.SCREEN_WIDTH, out);
+    }
+
+    @Benchmark
+    public int scrollRemoveIf() {
+        if (scrollListNextX > SCROLL_RESET_X) resetScrollList();
+        scrollList.add(new Platform(scrollListNextX, 500, 120, 20));
+        scrollListNextX += SCROLL_STEP;
+        int cleanupX = scrollListNextX - span;
+        scrollList.removeIf(platform -> platform.x < cleanupX);
+        return scrollList.size();
+    }
+
+    @Benchmark
+    public int scrollIndex() {
+        if (scrollIndexNextX > SCROLL_RESET_X) resetScrollIndex();
+        scrollIndex.add(new Platform(scrollIndexNextX, 500, 120, 20));
+        scrollIndexNextX += SCROLL_STEP;
+        scrollIndex.removeBefore(scrollIndexNextX - span, null);
+        return scrollIndex.size();
+    }
+}
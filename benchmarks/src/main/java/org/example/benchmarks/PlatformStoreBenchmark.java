@@ -0,0 +1,69 @@
+package org.example.benchmarks;
+
+import org.example.world.Platform;
+import org.example.world.PlatformStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Varredura completa das plataformas (ex: busca de respawn): lista de Platform x colunas do PlatformStore
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlatformStoreBenchmark {
+
+    private static final int WORLD_WIDTH = 200_000;
+
+    @Param({"1000", "10000", "100000"})
+    public int platformCount;
+
+    private final ArrayList<Platform> platforms = new ArrayList<>();
+    private final PlatformStore store = new PlatformStore();
+    private final PlatformStore.Slots slots = new PlatformStore.Slots();
+    private final Rectangle window = new Rectangle(WORLD_WIDTH / 2, 0, 1600, 800);
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+        platforms.clear();
+        for (int i = 0; i < platformCount; i++) {
+            platforms.add(new Platform(random.nextInt(WORLD_WIDTH), 100 + random.nextInt(600),
+                    64 + random.nextInt(192), 20));
+        }
+        store.rebuild(platforms);
+    }
+
+    @Benchmark
+    public int platformList() {
+        int hits = 0;
+        for (Platform platform : platforms) {
+            if (window.intersects(platform.getHitbox())) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int storeColumns() {
+        return store.queryRect(window.x, window.y, window.x + window.width, window.y + window.height, slots).size;
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.benchmarks;
+
+import org.example.graphics.SpriteRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Desenho de sprites (escala e espelhamento) em BufferedImage fora da tela
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpriteRenderBenchmark {
+
+    @Param({"16", "32", "64"})
+    public int spriteSize;
+
+    @Param({"1", "2", "4"})
+    public int scale;
+
+    @Param({"false", "true"})
+    public boolean flipX;
+
+    private SpriteRenderer renderer;
+    private BufferedImage sprite;
+    private BufferedImage target;
+    private Graphics2D g2d;
+
+    @Setup
+    public void setup() {
+        renderer = SpriteRenderer.getInstance();
+
+        // Sprite gerado em memória: o benchmark não depende dos arquivos de resources
+        sprite = new BufferedImage(spriteSize, spriteSize, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D spriteG = sprite.createGraphics();
+        spriteG.setColor(new Color(0, 255, 255, 200));
+        spriteG.fillOval(0, 0, spriteSize, spriteSize);
+        spriteG.setColor(new Color(255, 0, 255));
+        spriteG.drawRect(0, 0, spriteSize - 1, spriteSize - 1);
+        spriteG.dispose();
+
+        target = new BufferedImage(BenchmarkData.SCREEN_WIDTH, BenchmarkData.SCREEN_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        g2d = target.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        g2d.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage renderSprite() {
+        renderer.renderSprite(g2d, sprite, 200, 150, scale, flipX);
+        return target;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.benchmarks;
+
+import org.example.levels.InfiniteWorldSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Geração de plataformas para trechos de mundo de tamanhos diferentes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldGenerationBenchmark {
+
+    // Largura do trecho gerado em pixels
+    @Param({"1000", "10000", "100000"})
+    public int span;
+
+    private InfiniteWorldSystem worldSystem;
+
+    @Setup
+    public void setup() {
+        worldSystem = new InfiniteWorldSystem();
+    }
+
+    @Benchmark
+    public ArrayList<InfiniteWorldSystem.PlatformData> generatePlatforms() {
+        // Seed fixa a cada chamada: todas as iterações geram o mesmo mundo
+        worldSystem.setSeed(42L);
+        return worldSystem.generatePlatforms(0, span);
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.benchmarks;
+
+import org.example.fhysics.PlatformSpatialGrid;
+import org.example.fhysics.WorldQuery;
+import org.example.world.Platform;
+import org.example.world.PlatformStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consultas de ponto, retângulo, raio e mais próxima: varredura linear da lista x WorldQuery (grade + colunas).
+ * Cada chamada faz PROBES consultas em posições fixas espalhadas pelo mundo.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldQueryBenchmark {
+
+    private static final int WORLD_WIDTH = 200_000;
+    private static final int PROBES = 256;
+    private static final double RAY_LENGTH = 600;
+    private static final double NEAREST_RADIUS = 500;
+
+    @Param({"1000", "10000", "100000"})
+    public int platformCount;
+
+    private final ArrayList<Platform> platforms = new ArrayList<>();
+    private final PlatformStore store = new PlatformStore();
+    private final PlatformSpatialGrid grid = new PlatformSpatialGrid();
+    private final WorldQuery query = new WorldQuery(store, grid);
+    private final PlatformStore.Slots slots = new PlatformStore.Slots();
+    private final WorldQuery.Hit hit = new WorldQuery.Hit();
+
+    private final int[] probeX = new int[PROBES];
+    private final int[] probeY = new int[PROBES];
+    private final double[] rayX = new double[PROBES];
+    private final double[] rayY = new double[PROBES];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+        platforms.clear();
+        for (int i = 0; i < platformCount; i++) {
+            platforms.add(new Platform(random.nextInt(WORLD_WIDTH), 100 + random.nextInt(600),
+                    64 + random.nextInt(192), 20));
+        }
+        store.rebuild(platforms);
+        grid.rebuild(store);
+
+        for (int i = 0; i < PROBES; i++) {
+            probeX[i] = random.nextInt(WORLD_WIDTH);
+            probeY[i] = 100 + random.nextInt(600);
+            double angle = random.nextDouble() * Math.PI * 2;
+            rayX[i] = Math.cos(angle);
+            rayY[i] = Math.sin(angle);
+        }
+    }
+
+    // === PONTO (sensor de borda) ===
+
+    @Benchmark
+    public int pointLinear() {
+        int hits = 0;
+        for (int p = 0; p < PROBES; p++) {
+            int px = probeX[p], py = probeY[p];
+            for (Platform platform : platforms) {
+                if (px >= platform.x && px <= platform.x + platform.width &&
+                        py >= platform.y && py <= platform.y + platform.height) {
+                    hits++;
+                    break;
+                }
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int pointQuery() {
+        int hits = 0;
+        for (int p = 0; p < PROBES; p++) {
+            if (query.hasPlatformAt(probeX[p], probeY[p])) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    // === RETÂNGULO (hitbox do player) ===
+
+    @Benchmark
+    public int overlapLinear() {
+        int hits = 0;
+        Rectangle box = new Rectangle(0, 0, 32, 48);
+        for (int p = 0; p < PROBES; p++) {
+            box.setLocation(probeX[p], probeY[p]);
+            for (Platform platform : platforms) {
+                if (box.intersects(platform.getHitbox())) {
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int overlapQuery() {
+        int hits = 0;
+        for (int p = 0; p < PROBES; p++) {
+            hits += query.queryOverlap(probeX[p], probeY[p], 32, 48, slots).size;
+        }
+        return hits;
+    }
+
+    // === RAIO ===
+
+    @Benchmark
+    public double raycastLinear() {
+        double total = 0;
+        for (int p = 0; p < PROBES; p++) {
+            double best = -1;
+            for (Platform platform : platforms) {
+                double t = WorldQuery.rayBoxDistance(probeX[p], probeY[p], rayX[p], rayY[p],
+                        platform.x, platform.y, platform.width, platform.height);
+                if (t >= 0 && t <= RAY_LENGTH && (best < 0 || t < best)) {
+                    best = t;
+                }
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double raycastQuery() {
+        double total = 0;
+        for (int p = 0; p < PROBES; p++) {
+            total += query.raycast(probeX[p], probeY[p], rayX[p], rayY[p], RAY_LENGTH, hit) ? hit.distance : -1;
+        }
+        return total;
+    }
+
+    // === MAIS PRÓXIMA ===
+
+    @Benchmark
+    public double nearestLinear() {
+        double total = 0;
+        for (int p = 0; p < PROBES; p++) {
+            double px = probeX[p], py = probeY[p];
+            double best = NEAREST_RADIUS * NEAREST_RADIUS;
+            for (Platform platform : platforms) {
+                double dx = Math.max(Math.max(platform.x - px, 0), px - (platform.x + platform.width));
+                double dy = Math.max(Math.max(platform.y - py, 0), py - (platform.y + platform.height));
+                best = Math.min(best, dx * dx + dy * dy);
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double nearestQuery() {
+        double total = 0;
+        for (int p = 0; p < PROBES; p++) {
+            total += query.nearest(probeX[p], probeY[p], NEAREST_RADIUS, hit) >= 0
+                    ? hit.distance * hit.distance : NEAREST_RADIUS * NEAREST_RADIUS;
+        }
+        return total;
+    }
+}
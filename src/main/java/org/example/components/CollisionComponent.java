@@ -22,6 +22,8 @@ public class CollisionComponent implements Component {
     public boolean isSolid = true;
     public boolean isTrigger = false; // Para colisões que não bloqueiam movimento
     public String collisionLayer = "default";
+    public int layer = CollisionLayers.DEFAULT;                      // Bit da camada (CollisionLayers)
+    public int collisionMask = CollisionLayers.maskFor(CollisionLayers.DEFAULT); // Camadas com que colide
     
     // Lista de entidades em colisão
     private List<Entity> collidingEntities;
@@ -79,10 +81,24 @@ public class CollisionComponent implements Component {
      * @return true se há colisão
      */
     public boolean checkCollision(Entity other) {
-        CollisionComponent otherCollision = other.getComponent(CollisionComponent.class);
+        return checkCollision(other, other.getComponent(CollisionComponent.class));
+    }
+
+    /**
+     * Mesma verificação, com o componente da outra entidade já resolvido
+     * @param other outra entidade
+     * @param otherCollision CollisionComponent de other (pode ser null)
+     * @return true se há colisão
+     */
+    public boolean checkCollision(Entity other, CollisionComponent otherCollision) {
         if (otherCollision == null || !otherCollision.isActive()) {
             return false;
         }
+
+        // Camadas que não colidem: descarta com um AND, antes da geometria
+        if ((collisionMask & otherCollision.layer) == 0) {
+            return false;
+        }
         
         return hitbox.intersects(otherCollision.getHitbox());
     }
@@ -95,13 +111,43 @@ public class CollisionComponent implements Component {
     public boolean checkCollision(Rectangle rect) {
         return hitbox.intersects(rect);
     }
+
+    /**
+     * Verifica colisão com um retângulo de uma camada (ex: plataforma)
+     * @param rect retângulo para verificar
+     * @param rectLayer camada do retângulo
+     * @return true se as camadas colidem e há sobreposição
+     */
+    public boolean checkCollision(Rectangle rect, int rectLayer) {
+        return (collisionMask & rectLayer) != 0 && hitbox.intersects(rect);
+    }
+
+    /**
+     * Colide com alguma das camadas? Permite pular categorias inteiras numa consulta
+     * @param layers bits de CollisionLayers
+     */
+    public boolean collidesWith(int layers) {
+        return (collisionMask & layers) != 0;
+    }
+
+    public boolean isInLayer(int layers) {
+        return (layer & layers) != 0;
+    }
     
     /**
      * Processa colisão com outra entidade
      * @param other outra entidade
      */
     public void processCollision(Entity other) {
-        CollisionComponent otherCollision = other.getComponent(CollisionComponent.class);
+        processCollision(other, other.getComponent(CollisionComponent.class));
+    }
+
+    /**
+     * Mesmo processamento, com o componente da outra entidade já resolvido
+     * @param other outra entidade
+     * @param otherCollision CollisionComponent de other (pode ser null)
+     */
+    public void processCollision(Entity other, CollisionComponent otherCollision) {
         if (otherCollision == null) return;
         
         boolean wasColliding = collidingEntities.contains(other);
@@ -180,7 +226,23 @@ public class CollisionComponent implements Component {
     public boolean isTrigger() { return isTrigger; }
     public void setTrigger(boolean trigger) { this.isTrigger = trigger; }
     public String getCollisionLayer() { return collisionLayer; }
-    public void setCollisionLayer(String layer) { this.collisionLayer = layer; }
+    public void setCollisionLayer(String layer) {
+        this.collisionLayer = layer;
+        setLayer(CollisionLayers.fromName(layer));
+    }
+
+    /**
+     * Define a camada e copia a máscara correspondente da matriz
+     * @param layer bit de CollisionLayers
+     */
+    public void setLayer(int layer) {
+        this.layer = layer;
+        this.collisionMask = CollisionLayers.maskFor(layer);
+    }
+
+    public int getLayer() { return layer; }
+    public int getCollisionMask() { return collisionMask; }
+    public void setCollisionMask(int collisionMask) { this.collisionMask = collisionMask; }
     
     // Callbacks
     public void setOnCollisionEnter(CollisionCallback callback) { this.onCollisionEnter = callback; }
@@ -0,0 +1,122 @@
+package org.example.components;
+
+/**
+ * Camadas de colisão como bits e a matriz de quem colide com quem.
+ *
+ * Cada CollisionComponent (e cada tipo do broadphase) pertence a uma camada; a máscara dela é a
+ * linha da matriz. Um par é descartado com um único AND (mascaraA & camadaB) antes de qualquer teste
+ * de geometria, e uma consulta pode pular categorias inteiras (ex: nada colide com PLATFORM).
+ *
+ * A matriz é simétrica e deve ser configurada na inicialização, antes de criar as entidades:
+ * componentes copiam a máscara da camada quando a camada é definida.
+ */
+public final class CollisionLayers {
+
+    public static final int NONE = 0;
+    public static final int DEFAULT = 1;
+    public static final int PLAYER = 1 << 1;
+    public static final int ENEMY = 1 << 2;
+    public static final int FLYING_ENEMY = 1 << 3;
+    public static final int ORB = 1 << 4;
+    public static final int PLATFORM = 1 << 5;
+    public static final int TRIGGER = 1 << 6;
+    public static final int HAZARD = 1 << 7;
+    public static final int ALL = -1;
+
+    private static final int LAYER_COUNT = 32;
+
+    // Linha i = camadas com que a camada (1 << i) colide
+    private static final int[] matrix = new int[LAYER_COUNT];
+
+    static {
+        resetMatrix();
+    }
+
+    private CollisionLayers() {
+    }
+
+    /**
+     * Matriz padrão: o player colide com tudo, inimigos com plataformas e DEFAULT com tudo
+     * (componentes que nunca escolheram camada continuam se comportando como antes)
+     */
+    public static void resetMatrix() {
+        for (int i = 0; i < LAYER_COUNT; i++) {
+            matrix[i] = NONE;
+        }
+        setCollides(DEFAULT, ALL, true);
+        setCollides(PLAYER, ENEMY | FLYING_ENEMY | ORB | PLATFORM | TRIGGER | HAZARD, true);
+        setCollides(ENEMY, PLATFORM, true);
+        setCollides(FLYING_ENEMY, PLATFORM, true);
+    }
+
+    /**
+     * Liga ou desliga a colisão entre as camadas de layers e as de others (nos dois sentidos)
+     */
+    public static void setCollides(int layers, int others, boolean collides) {
+        for (int i = 0; i < LAYER_COUNT; i++) {
+            int bit = 1 << i;
+            if ((layers & bit) != 0) {
+                matrix[i] = collides ? matrix[i] | others : matrix[i] & ~others;
+            }
+            if ((others & bit) != 0) {
+                matrix[i] = collides ? matrix[i] | layers : matrix[i] & ~layers;
+            }
+        }
+    }
+
+    /**
+     * Máscara da camada (união das linhas, se layer tiver mais de um bit)
+     */
+    public static int maskFor(int layer) {
+        int mask = NONE;
+        for (int i = 0; i < LAYER_COUNT; i++) {
+            if ((layer & (1 << i)) != 0) {
+                mask |= matrix[i];
+            }
+        }
+        return mask;
+    }
+
+    public static boolean collides(int layerA, int layerB) {
+        return (maskFor(layerA) & layerB) != 0;
+    }
+
+    /**
+     * Converte os nomes antigos (String) em bit. "sprites/player" é o nome que o PlayerEntity usava.
+     */
+    public static int fromName(String name) {
+        if (name == null) return DEFAULT;
+        switch (name) {
+            case "player":
+            case "sprites/player":
+                return PLAYER;
+            case "enemy":
+                return ENEMY;
+            case "flying_enemy":
+                return FLYING_ENEMY;
+            case "orb":
+                return ORB;
+            case "platform":
+                return PLATFORM;
+            case "trigger":
+                return TRIGGER;
+            case "hazard":
+                return HAZARD;
+            default:
+                return DEFAULT;
+        }
+    }
+
+    public static String nameOf(int layer) {
+        switch (layer) {
+            case PLAYER: return "player";
+            case ENEMY: return "enemy";
+            case FLYING_ENEMY: return "flying_enemy";
+            case ORB: return "orb";
+            case PLATFORM: return "platform";
+            case TRIGGER: return "trigger";
+            case HAZARD: return "hazard";
+            default: return "default";
+        }
+    }
+}
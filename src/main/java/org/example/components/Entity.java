@@ -19,6 +19,9 @@ public class Entity {
     // Posição e dimensões básicas (usadas por vários componentes)
     public float x, y;
     public float width, height;
+
+    // Posição no início do último tick (usada na interpolação da renderização)
+    public float lastTickX, lastTickY;
     
     public Entity(String id, String name) {
         this.id = id;
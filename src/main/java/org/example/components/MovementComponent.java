@@ -28,6 +28,9 @@ public class MovementComponent implements Component {
     // Forças aplicadas
     private float forceX = 0;
     private float forceY = 0;
+
+    // Integrado pelo MovementBatch (update() por entidade não move)
+    private boolean batched = false;
     
     public MovementComponent(Entity entity) {
         this.entity = entity;
@@ -35,7 +38,7 @@ public class MovementComponent implements Component {
     
     @Override
     public void update(float deltaTime) {
-        if (!active || !canMove) return;
+        if (!active || !canMove || batched) return;
         
         // Aplicar forças
         velocityX += forceX * deltaTime;
@@ -125,7 +128,21 @@ public class MovementComponent implements Component {
         velocityY = 0;
     }
     
+    /**
+     * Substitui as forças acumuladas (usado pelo MovementBatch ao devolver o estado)
+     * @param forceX força horizontal
+     * @param forceY força vertical
+     */
+    public void setForce(float forceX, float forceY) {
+        this.forceX = forceX;
+        this.forceY = forceY;
+    }
+
     // Getters e Setters
+    public float getForceX() { return forceX; }
+    public float getForceY() { return forceY; }
+    public boolean isBatched() { return batched; }
+    public void setBatched(boolean batched) { this.batched = batched; }
     public float getVelocityX() { return velocityX; }
     public float getVelocityY() { return velocityY; }
     public boolean isFacingRight() { return facingRight; }
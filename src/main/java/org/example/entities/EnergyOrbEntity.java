@@ -60,7 +60,7 @@ public class EnergyOrbEntity extends Entity {
     private void setupCallbacks() {
         // Callback de colisão
         collision.setOnCollisionEnter((thisEntity, other, otherCollision) -> {
-            if (otherCollision.getCollisionLayer().equals("sprites/player")) {
+            if (otherCollision.isInLayer(CollisionLayers.PLAYER)) {
                 collectOrb();
             }
         });
@@ -102,16 +102,12 @@ public class EnergyOrbEntity extends Entity {
         
         // Efeito visual de coleta
         render.setAlpha(0.0f);
-<<<<<<< HEAD
 
-=======
-        
-        System.out.println("Orb coletada! Energia: " + energyValue);
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     }
     
     // Métodos para compatibilidade
     public boolean isCollected() { return collected; }
+    public void collect() { collectOrb(); }
     public int getEnergyValue() { return energyValue; }
     public Color getOrbColor() { return orbColor; }
     
@@ -361,7 +361,7 @@ public class FlyingEnemy extends Entity {
     }
 
     private void handleCollision(Entity other, CollisionComponent otherCollision) {
-        if (otherCollision.getCollisionLayer().equals("player")) {
+        if (otherCollision.isInLayer(CollisionLayers.PLAYER)) {
             handlePlayerCollision(other);
         }
     }
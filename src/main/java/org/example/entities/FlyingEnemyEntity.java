@@ -72,7 +72,7 @@ public class FlyingEnemyEntity extends Entity {
     private void setupCallbacks() {
         // Callback de colisão
         collision.setOnCollisionEnter((thisEntity, other, otherCollision) -> {
-            if (otherCollision.getCollisionLayer().equals("sprites/player")) {
+            if (otherCollision.isInLayer(CollisionLayers.PLAYER)) {
                 handlePlayerCollision(other);
             }
         });
@@ -0,0 +1,193 @@
+package org.example.fhysics;
+
+import org.example.world.PlatformStore;
+
+import java.util.Arrays;
+
+/**
+ * Chão de apoio de cada inimigo terrestre, para o sensor de borda não varrer plataformas todo tick.
+ *
+ * Para cada inimigo guarda o trecho de chão em que ele está andando: a plataforma sob o sensor mais
+ * as vizinhas encostadas na mesma altura, unidas num único retângulo (left..right, top..bottom).
+ * Enquanto o sensor cair dentro desse retângulo o teste é O(1); só ao sair dele (na borda de verdade)
+ * os candidatos são varridos de novo e o trecho é recalculado.
+ *
+ * Os trechos só ficam inválidos quando uma plataforma se move, quebra ou sai do mundo: quem mexe na
+ * plataforma chama invalidate() com o retângulo afetado. Plataformas que andam todo tick vão para
+ * queueInvalidate() e são descartadas juntas em flushInvalidations(), num único passe pelos inimigos.
+ */
+public class GroundSupportIndex {
+
+    private static final int NONE = -1;
+
+    private int[] supportSlot = new int[0]; // Slot da plataforma sob o sensor (NONE = sem trecho)
+    private int[] supportGeneration = new int[0]; // Geração do slot quando o trecho foi guardado
+    private int[] left = new int[0];
+    private int[] right = new int[0];
+    private int[] top = new int[0];
+    private int[] bottom = new int[0];
+
+    // Retângulos pendentes (plataformas que se moveram desde o último flush)
+    private int[] pendingLeft = new int[16];
+    private int[] pendingRight = new int[16];
+    private int[] pendingTop = new int[16];
+    private int[] pendingBottom = new int[16];
+    private int pendingCount = 0;
+
+    /**
+     * Esquece todos os trechos e prepara espaço para enemyCount inimigos
+     */
+    public void reset(int enemyCount) {
+        if (supportSlot.length < enemyCount) {
+            supportSlot = new int[enemyCount];
+            supportGeneration = new int[enemyCount];
+            left = new int[enemyCount];
+            right = new int[enemyCount];
+            top = new int[enemyCount];
+            bottom = new int[enemyCount];
+        }
+        Arrays.fill(supportSlot, NONE);
+        pendingCount = 0;
+    }
+
+    /**
+     * Existe chão no ponto do sensor? Usa o trecho guardado e só varre os candidatos fora dele.
+     */
+    public boolean hasGroundAt(int enemyIndex, int sensorX, int sensorY,
+                               PlatformStore store, PlatformStore.Slots candidates) {
+        if (enemyIndex < 0 || enemyIndex >= supportSlot.length) {
+            return findSupport(sensorX, sensorY, store, candidates) != NONE;
+        }
+
+        // Slot vivo com a mesma geração: ainda é a plataforma do trecho, não outra que reaproveitou o slot
+        int cached = supportSlot[enemyIndex];
+        if (cached != NONE && store.isAlive(cached) && store.getGeneration(cached) == supportGeneration[enemyIndex]
+                && sensorX >= left[enemyIndex] && sensorX <= right[enemyIndex]
+                && sensorY >= top[enemyIndex] && sensorY <= bottom[enemyIndex]) {
+            return true;
+        }
+
+        int slot = findSupport(sensorX, sensorY, store, candidates);
+        supportSlot[enemyIndex] = slot;
+        if (slot != NONE) {
+            supportGeneration[enemyIndex] = store.getGeneration(slot);
+            cacheSpan(enemyIndex, slot, store, candidates);
+        }
+        return slot != NONE;
+    }
+
+    // Mesmo teste de ponto do sensor de borda, contra os candidatos
+    private int findSupport(int sensorX, int sensorY, PlatformStore store, PlatformStore.Slots candidates) {
+        int[] xs = store.x, ys = store.y, ws = store.width, hs = store.height;
+        for (int i = 0; i < candidates.size; i++) {
+            int slot = candidates.ids[i];
+            if (sensorX >= xs[slot] && sensorX <= xs[slot] + ws[slot] &&
+                    sensorY >= ys[slot] && sensorY <= ys[slot] + hs[slot]) {
+                return slot;
+            }
+        }
+        return NONE;
+    }
+
+    // Une a plataforma de apoio com as vizinhas encostadas de mesma altura e espessura
+    private void cacheSpan(int enemyIndex, int slot, PlatformStore store, PlatformStore.Slots candidates) {
+        int[] xs = store.x, ys = store.y, ws = store.width, hs = store.height;
+        int spanLeft = xs[slot];
+        int spanRight = xs[slot] + ws[slot];
+        int spanTop = ys[slot];
+        int spanHeight = hs[slot];
+
+        boolean grew = true;
+        while (grew) {
+            grew = false;
+            for (int i = 0; i < candidates.size; i++) {
+                int other = candidates.ids[i];
+                if (ys[other] != spanTop || hs[other] != spanHeight) continue;
+
+                int otherRight = xs[other] + ws[other];
+                if (xs[other] <= spanRight && otherRight >= spanLeft
+                        && (xs[other] < spanLeft || otherRight > spanRight)) {
+                    spanLeft = Math.min(spanLeft, xs[other]);
+                    spanRight = Math.max(spanRight, otherRight);
+                    grew = true;
+                }
+            }
+        }
+
+        left[enemyIndex] = spanLeft;
+        right[enemyIndex] = spanRight;
+        top[enemyIndex] = spanTop;
+        bottom[enemyIndex] = spanTop + spanHeight;
+    }
+
+    /**
+     * Descarta os trechos que tocam o retângulo (plataforma que se moveu, quebrou ou foi removida)
+     */
+    public void invalidate(int x, int y, int width, int height) {
+        for (int i = 0; i < supportSlot.length; i++) {
+            if (supportSlot[i] != NONE && left[i] <= x + width && right[i] >= x
+                    && top[i] <= y + height && bottom[i] >= y) {
+                supportSlot[i] = NONE;
+            }
+        }
+    }
+
+    /**
+     * Guarda o retângulo para o próximo flushInvalidations() (chamar antes de consultar os trechos)
+     */
+    public void queueInvalidate(int x, int y, int width, int height) {
+        if (pendingCount == pendingLeft.length) {
+            int capacity = pendingCount * 2;
+            pendingLeft = Arrays.copyOf(pendingLeft, capacity);
+            pendingRight = Arrays.copyOf(pendingRight, capacity);
+            pendingTop = Arrays.copyOf(pendingTop, capacity);
+            pendingBottom = Arrays.copyOf(pendingBottom, capacity);
+        }
+        pendingLeft[pendingCount] = x;
+        pendingRight[pendingCount] = x + width;
+        pendingTop[pendingCount] = y;
+        pendingBottom[pendingCount] = y + height;
+        pendingCount++;
+    }
+
+    /**
+     * Descarta de uma vez os trechos que tocam algum retângulo pendente: um passe pelos inimigos,
+     * com a caixa que envolve todos os pendentes como rejeição rápida
+     */
+    public void flushInvalidations() {
+        if (pendingCount == 0) return;
+
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (int p = 0; p < pendingCount; p++) {
+            minX = Math.min(minX, pendingLeft[p]);
+            maxX = Math.max(maxX, pendingRight[p]);
+            minY = Math.min(minY, pendingTop[p]);
+            maxY = Math.max(maxY, pendingBottom[p]);
+        }
+
+        for (int i = 0; i < supportSlot.length; i++) {
+            if (supportSlot[i] == NONE || left[i] > maxX || right[i] < minX
+                    || top[i] > maxY || bottom[i] < minY) continue;
+            for (int p = 0; p < pendingCount; p++) {
+                if (left[i] <= pendingRight[p] && right[i] >= pendingLeft[p]
+                        && top[i] <= pendingBottom[p] && bottom[i] >= pendingTop[p]) {
+                    supportSlot[i] = NONE;
+                    break;
+                }
+            }
+        }
+        pendingCount = 0;
+    }
+
+    public void invalidate(int enemyIndex) {
+        if (enemyIndex >= 0 && enemyIndex < supportSlot.length) {
+            supportSlot[enemyIndex] = NONE;
+        }
+    }
+
+    public void invalidateAll() {
+        Arrays.fill(supportSlot, NONE);
+        pendingCount = 0;
+    }
+}
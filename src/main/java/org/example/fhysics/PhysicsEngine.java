@@ -1,9 +1,11 @@
 package org.example.fhysics;
 
+import java.awt.Rectangle;
 import java.util.ArrayList;
 
 import org.example.ui.GameConfig;
 import org.example.world.Platform;
+import org.example.world.PlatformStore;
 import org.example.objects.Enemy;
 import org.example.objects.EnergyOrb;
 import org.example.objects.Player;
@@ -25,68 +27,134 @@ public class PhysicsEngine {
         enemy.y += enemy.velocityY;
     }
 
+    // Varreduras por tick: contato + deslizamento no eixo livre + folga para quinas
+    private static final int MAX_SWEEP_PASSES = 3;
+    private static final SweptCollision.Hit playerHit = new SweptCollision.Hit();
+
+    /**
+     * Move o player pelo deslocamento do tick com colisão contínua contra os candidatos:
+     * para no primeiro contato, zera a velocidade do eixo atingido e desliza o resto no outro eixo.
+     */
     public static void checkPlayerPlatformCollisions(Player player, ArrayList<Platform> platforms) {
+        movePlayer(player, platforms, null, null);
+    }
+
+    /**
+     * Mesma colisão do player lendo os candidatos direto das colunas do PlatformStore
+     * @return slot da plataforma em que o player pousou neste tick, ou -1
+     */
+    public static int checkPlayerPlatformCollisions(Player player, PlatformStore store, PlatformStore.Slots candidates) {
+        return movePlayer(player, null, store, candidates);
+    }
+
+    private static int movePlayer(Player player, ArrayList<Platform> platforms,
+                                   PlatformStore store, PlatformStore.Slots candidates) {
         player.isOnGround = false;
 
         // Salvar posição atual antes de aplicar movimento
         int oldX = player.x;
         int oldY = player.y;
 
-        // Aplicar movimento horizontal primeiro
-        player.x += (int)player.velocityX;
-        player.hitbox.setLocation(player.x, player.y);
+        double x = oldX;
+        double y = oldY;
+        int groundSlot = -1;
+        SweptCollision.Hit hit = playerHit;
 
-        // Verificar colisões horizontais
-        for (Platform platform : platforms) {
-            if (player.getHitbox().intersects(platform.getHitbox())) {
-                // Colisão horizontal - reverter movimento X
-                player.x = oldX;
-                player.velocityX = 0;
-                player.hitbox.setLocation(player.x, player.y);
-                break;
-            }
+        // Dash, molas e poços podem passar da menor dimensão: divide o tick, cada pedaço com as suas varreduras
+        int minExtent = Math.min(player.width, player.height);
+        if (store != null) {
+            minExtent = Math.min(minExtent, store.getMinExtent());
         }
+        int steps = subStepsFor((int) player.velocityX, (int) player.velocityY, minExtent);
+        double stepX = (double) (int) player.velocityX / steps;
+        double stepY = (double) (int) player.velocityY / steps;
 
-        // Aplicar movimento vertical
-        player.y += (int)player.velocityY;
-        player.hitbox.setLocation(player.x, player.y);
+        for (int step = 0; step < steps && (stepX != 0 || stepY != 0); step++) {
+            double dx = stepX;
+            double dy = stepY;
 
-        // Verificar colisões verticais
-        for (Platform platform : platforms) {
-            if (player.getHitbox().intersects(platform.getHitbox())) {
-                resolveVerticalCollision(player, platform, oldY);
+            for (int pass = 0; pass < MAX_SWEEP_PASSES && (dx != 0 || dy != 0); pass++) {
+                boolean contact = store != null
+                        ? SweptCollision.sweep(x, y, player.width, player.height, dx, dy, store, candidates, hit)
+                        : SweptCollision.sweep(x, y, player.width, player.height, dx, dy, platforms, hit);
+                if (!contact) {
+                    x += dx;
+                    y += dy;
+                    break;
+                }
+
+                // Já estava dentro (plataforma deslocada, respawn): expulsa como antes e encerra o tick
+                if (hit.startedInside) {
+                    player.x = (int) x;
+                    player.y = (int) y;
+                    resolveVerticalCollision(player, hit.top, hit.height, oldY);
+                    return player.isOnGround ? hit.slot : -1;
+                }
+
+                x += dx * hit.time;
+                y += dy * hit.time;
+                double remaining = 1.0 - hit.time;
+
+                if (hit.normalX != 0) {
+                    // Colisão lateral: encosta na parede e segue só na vertical (também nos próximos pedaços)
+                    x = hit.normalX < 0 ? hit.left - player.width : hit.left + hit.width;
+                    player.velocityX = 0;
+                    dx = 0;
+                    stepX = 0;
+                    dy *= remaining;
+                } else {
+                    // Pousou em cima ou bateu a cabeça
+                    y = hit.normalY < 0 ? hit.top - player.height : hit.top + hit.height;
+                    if (hit.normalY < 0) {
+                        player.isOnGround = true;
+                        groundSlot = hit.slot;
+                    }
+                    player.velocityY = 0;
+                    dy = 0;
+                    stepY = 0;
+                    dx *= remaining;
+                }
             }
         }
+
+        // Truncar em direção à origem mantém o player do lado de fora do contato
+        player.x = oldX + (int) (x - oldX);
+        player.y = oldY + (int) (y - oldY);
+        player.hitbox.setLocation(player.x, player.y);
+        return groundSlot;
+    }
+
+    /**
+     * Quantos sub-passos um deslocamento de (dx, dy) no tick precisa para nenhum pedaço andar mais que
+     * minExtent (menor dimensão entre o ator e os colisores). Ticks lentos ficam em 1; o máximo é
+     * GameConfig.MAX_PHYSICS_SUBSTEPS.
+     */
+    public static int subStepsFor(double dx, double dy, int minExtent) {
+        double distance = Math.max(Math.abs(dx), Math.abs(dy));
+        if (minExtent <= 0 || distance <= minExtent) return 1;
+        return (int) Math.min(GameConfig.MAX_PHYSICS_SUBSTEPS, Math.ceil(distance / minExtent));
     }
 
-    private static void resolveVerticalCollision(Player player, Platform platform, int previousY) {
+    private static void resolveVerticalCollision(Player player, int platformY, int platformHeight, int previousY) {
         // Colisão vindo de cima (aterrissando na plataforma)
-        if (player.velocityY > 0 && previousY + player.height <= platform.y + 5) {
-            player.y = platform.y - player.height;
+        if (player.velocityY > 0 && previousY + player.height <= platformY + 5) {
+            player.y = platformY - player.height;
             player.velocityY = 0;
             player.isOnGround = true;
-<<<<<<< HEAD
-=======
-            System.out.println("Player aterrissou na plataforma em Y=" + player.y);
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         }
         // Colisão vindo de baixo (batendo a cabeça)
-        else if (player.velocityY < 0 && previousY >= platform.y + platform.height - 5) {
-            player.y = platform.y + platform.height;
+        else if (player.velocityY < 0 && previousY >= platformY + platformHeight - 5) {
+            player.y = platformY + platformHeight;
             player.velocityY = 0;
-<<<<<<< HEAD
-=======
-            System.out.println("Player bateu a cabeça na plataforma");
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         }
         // Se não conseguiu resolver, colocar em posição segura
         else {
             if (player.velocityY > 0) {
-                player.y = platform.y - player.height;
+                player.y = platformY - player.height;
                 player.velocityY = 0;
                 player.isOnGround = true;
             } else {
-                player.y = platform.y + platform.height;
+                player.y = platformY + platformHeight;
                 player.velocityY = 0;
             }
         }
@@ -100,11 +168,71 @@ public class PhysicsEngine {
 
         for (Platform platform : platforms) {
             if (enemy.getHitbox().intersects(platform.getHitbox())) {
-                resolveEnemyPlatformCollision(enemy, platform);
+                resolveEnemyPlatformCollision(enemy, platform.x, platform.y, platform.width, platform.height);
             }
         }
     }
 
+    /**
+     * @return slot da plataforma em que o inimigo pousou, ou -1
+     */
+    public static int checkEnemyPlatformCollisions(Enemy enemy, PlatformStore store, PlatformStore.Slots candidates) {
+        enemy.isOnGround = false;
+        int groundSlot = -1;
+
+        Rectangle box = enemy.getHitbox();
+        int[] xs = store.x, ys = store.y, ws = store.width, hs = store.height;
+        for (int i = 0; i < candidates.size; i++) {
+            int slot = candidates.ids[i];
+            if (box.intersects(xs[slot], ys[slot], ws[slot], hs[slot])) {
+                resolveEnemyPlatformCollision(enemy, xs[slot], ys[slot], ws[slot], hs[slot]);
+                if (groundSlot < 0 && enemy.isOnGround) {
+                    groundSlot = slot;
+                }
+            }
+        }
+        return groundSlot;
+    }
+
+    /**
+     * Colisão do inimigo com sub-passos: o deslocamento do tick (desde startX, startY) é refeito em
+     * pedaços quando passa da menor dimensão entre o inimigo e as plataformas, testando cada pedaço.
+     * Com 1 passo (o caso comum) é o mesmo teste de sempre.
+     *
+     * @return slot da plataforma em que o inimigo pousou, ou -1
+     */
+    public static int checkEnemyPlatformCollisions(Enemy enemy, double startX, double startY,
+                                                   PlatformStore store, PlatformStore.Slots candidates) {
+        double dx = enemy.x - startX;
+        double dy = enemy.y - startY;
+        int steps = subStepsFor(dx, dy, Math.min(Math.min(enemy.width, enemy.height), store.getMinExtent()));
+        if (steps == 1) {
+            return checkEnemyPlatformCollisions(enemy, store, candidates);
+        }
+
+        double stepX = dx / steps;
+        double stepY = dy / steps;
+        boolean grounded = false;
+        int groundSlot = -1;
+        enemy.x = startX;
+        enemy.y = startY;
+        for (int step = 0; step < steps; step++) {
+            double expectedX = enemy.x + stepX;
+            enemy.x = expectedX;
+            enemy.y += stepY;
+            updateEnemyHitbox(enemy);
+            int landed = checkEnemyPlatformCollisions(enemy, store, candidates);
+            if (landed >= 0) groundSlot = landed;
+
+            // Apoiado em qualquer pedaço conta (depois de pousar, os pedaços seguintes só encostam)
+            grounded |= enemy.isOnGround;
+            if (enemy.x != expectedX) stepX = 0;   // Bateu de lado
+            if (enemy.velocityY == 0) stepY = 0;   // Pousou ou bateu a cabeça
+        }
+        enemy.isOnGround = grounded;
+        return groundSlot;
+    }
+
     // Impedir que inimigos caiam das plataformas: detectar borda e inverter direção
     public static void preventEnemyFallFromPlatforms(Enemy enemy, ArrayList<Platform> platforms) {
         if (!enemy.isOnGround) return;
@@ -124,31 +252,68 @@ public class PhysicsEngine {
         }
 
         if (!groundAhead) {
-            // Inverter direção e recuar um pouco
-            enemy.direction *= -1;
-            enemy.x += enemy.direction * 2;
-            updateEnemyHitbox(enemy);
+            turnAroundAtEdge(enemy);
+        }
+    }
+
+    public static void preventEnemyFallFromPlatforms(Enemy enemy, PlatformStore store, PlatformStore.Slots candidates) {
+        if (!enemy.isOnGround) return;
+
+        int sensorX = (int)(enemy.x + (enemy.direction == 1 ? enemy.width + 1 : -1));
+        int sensorY = (int)(enemy.y + enemy.height + 1);
+
+        int[] xs = store.x, ys = store.y, ws = store.width, hs = store.height;
+        for (int i = 0; i < candidates.size; i++) {
+            int slot = candidates.ids[i];
+            if (sensorX >= xs[slot] && sensorX <= xs[slot] + ws[slot] &&
+                    sensorY >= ys[slot] && sensorY <= ys[slot] + hs[slot]) {
+                return;
+            }
         }
+        turnAroundAtEdge(enemy);
     }
 
-    private static void resolveEnemyPlatformCollision(Enemy enemy, Platform platform) {
+    /**
+     * Sensor de borda com o chão de apoio guardado no índice: O(1) enquanto o inimigo anda no mesmo trecho
+     */
+    public static void preventEnemyFallFromPlatforms(Enemy enemy, int enemyIndex, GroundSupportIndex support,
+                                                     PlatformStore store, PlatformStore.Slots candidates) {
+        if (!enemy.isOnGround) return;
+
+        int sensorX = (int)(enemy.x + (enemy.direction == 1 ? enemy.width + 1 : -1));
+        int sensorY = (int)(enemy.y + enemy.height + 1);
+
+        if (!support.hasGroundAt(enemyIndex, sensorX, sensorY, store, candidates)) {
+            turnAroundAtEdge(enemy);
+        }
+    }
+
+    private static void turnAroundAtEdge(Enemy enemy) {
+        // Inverter direção e recuar um pouco
+        enemy.direction *= -1;
+        enemy.x += enemy.direction * 2;
+        updateEnemyHitbox(enemy);
+    }
+
+    private static void resolveEnemyPlatformCollision(Enemy enemy, int platformX, int platformY,
+                                                      int platformWidth, int platformHeight) {
         // Colisão por cima
-        if (enemy.velocityY > 0 && enemy.y <= platform.y) {
-            enemy.y = platform.y - enemy.height;
+        if (enemy.velocityY > 0 && enemy.y <= platformY) {
+            enemy.y = platformY - enemy.height;
             enemy.velocityY = 0;
             enemy.isOnGround = true;
         }
         // Colisão por baixo
         else if (enemy.velocityY < 0) {
-            enemy.y = platform.y + platform.height;
+            enemy.y = platformY + platformHeight;
             enemy.velocityY = 0;
         }
         // Colisões laterais - inverter direção
         else if (enemy.velocityX > 0) {
-            enemy.x = platform.x - enemy.width;
+            enemy.x = platformX - enemy.width;
             enemy.direction = -1;
         } else if (enemy.velocityX < 0) {
-            enemy.x = platform.x + platform.width;
+            enemy.x = platformX + platformWidth;
             enemy.direction = 1;
         }
 
@@ -169,6 +334,18 @@ public class PhysicsEngine {
         return false; // Sem colisão ou não é pulo em cima
     }
 
+    /**
+     * Mesmo teste de Rectangle.intersects contra um quadrado centrado em (centerX, centerY),
+     * só com aritmética (sem criar Rectangle por orb por tick)
+     */
+    public static boolean overlapsCenteredSquare(Rectangle box, int centerX, int centerY, int size) {
+        int left = centerX - size / 2;
+        int top = centerY - size / 2;
+        return box.width > 0 && box.height > 0 && size > 0
+                && left < box.x + box.width && box.x < left + size
+                && top < box.y + box.height && box.y < top + size;
+    }
+
     public static boolean checkPlayerOrbCollision(Player player, EnergyOrb orb) {
         return !orb.isCollected() && player.getHitbox().intersects(orb.getHitbox());
     }
@@ -183,10 +360,6 @@ public class PhysicsEngine {
                 enemy.getHitbox().setLocation((int)enemy.x, (int)enemy.y);
             }
         } catch (Exception e) {
-<<<<<<< HEAD
-=======
-            System.out.println("Erro ao atualizar hitbox do enemy: " + e.getMessage());
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,400 @@
+package org.example.fhysics;
+
+import org.example.ui.GameConfig;
+import org.example.world.Platform;
+import org.example.world.PlatformStore;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * Grade hash uniforme de plataformas para consultas de colisão por vizinhança.
+ *
+ * Cada plataforma é registrada em todas as células que o hitbox cobre (células de
+ * GameConfig.SPATIAL_GRID_CELL_SIZE px). Uma consulta visita só as células da área pedida,
+ * então o custo por tick depende de quantas plataformas estão perto, não do tamanho do mundo.
+ *
+ * - insert/remove/update mantêm a grade conforme plataformas entram, saem ou se movem; toda
+ *   entrada é um slot do PlatformStore (insert exige o slot)
+ * - query() devolve os candidatos na ordem de inserção (ordem dos slots no rebuild),
+ *   sem duplicatas e sem alocar: o chamador reaproveita a lista de saída
+ * - querySlots() devolve os slots do PlatformStore, para a física ler as colunas direto
+ * - Não é thread-safe: consultas e alterações na mesma thread da simulação; a exceção é
+ *   querySlotsShared(), só leitura, para etapas paralelas com a grade parada
+ */
+public class PlatformSpatialGrid {
+
+    private static final int INITIAL_CAPACITY = 256; // Potência de 2
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+
+    /**
+     * Plataforma registrada + células que ela ocupa
+     */
+    private static final class Entry {
+        final Platform platform;
+        final long order;
+        final int slot; // Slot no PlatformStore
+        int minCellX, minCellY, maxCellX, maxCellY;
+        int queryStamp;
+
+        Entry(Platform platform, long order, int slot) {
+            this.platform = platform;
+            this.order = order;
+            this.slot = slot;
+        }
+    }
+
+    private final int cellSize;
+
+    // Tabela hash aberta (célula -> plataformas), chaves long sem boxing
+    private long[] keys;
+    private ArrayList<Entry>[] cells;
+    private int occupied = 0;
+
+    private final IdentityHashMap<Platform, Entry> entries = new IdentityHashMap<>();
+    private final ArrayList<Entry> queryScratch = new ArrayList<>();
+
+    private long nextOrder = 0;
+    private int queryStamp = 0;
+
+    // Faixa vertical ocupada (limita consultas com altura "infinita")
+    private int minOccupiedCellY = Integer.MAX_VALUE;
+    private int maxOccupiedCellY = Integer.MIN_VALUE;
+
+    public PlatformSpatialGrid() {
+        this(GameConfig.SPATIAL_GRID_CELL_SIZE);
+    }
+
+    public PlatformSpatialGrid(int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("cellSize deve ser positivo: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        allocateTable(INITIAL_CAPACITY);
+    }
+
+    // === MANUTENÇÃO ===
+
+    /**
+     * Recria a grade com as plataformas (views) do store, guardando o slot de cada uma
+     */
+    public void rebuild(PlatformStore store) {
+        clear();
+        for (int slot = 0; slot < store.getHighWater(); slot++) {
+            Platform view = store.getView(slot);
+            if (view != null) {
+                insert(view, slot);
+            }
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        allocateTable(INITIAL_CAPACITY);
+        nextOrder = 0;
+        minOccupiedCellY = Integer.MAX_VALUE;
+        maxOccupiedCellY = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Registra a view de um slot do PlatformStore: quem adiciona plataformas põe no store primeiro
+     * e passa o slot devolvido (sem slot a física, que lê as colunas, nunca a veria)
+     */
+    public void insert(Platform platform, int slot) {
+        if (slot < 0) {
+            throw new IllegalArgumentException("plataforma sem slot no PlatformStore: " + platform);
+        }
+        if (platform == null || entries.containsKey(platform)) return;
+
+        Entry entry = new Entry(platform, nextOrder++, slot);
+        entries.put(platform, entry);
+        computeCells(entry);
+        addToCells(entry);
+    }
+
+    public void remove(Platform platform) {
+        Entry entry = entries.remove(platform);
+        if (entry != null) {
+            removeFromCells(entry);
+        }
+    }
+
+    /**
+     * Reposiciona uma plataforma que se moveu (só mexe nas células se a cobertura mudou).
+     * Plataforma fora da grade é ignorada: quem a cria passa por insert(platform, slot).
+     */
+    public void update(Platform platform) {
+        Entry entry = entries.get(platform);
+        if (entry == null) return;
+
+        int oldMinX = entry.minCellX, oldMinY = entry.minCellY;
+        int oldMaxX = entry.maxCellX, oldMaxY = entry.maxCellY;
+        computeCells(entry);
+        if (oldMinX == entry.minCellX && oldMinY == entry.minCellY
+                && oldMaxX == entry.maxCellX && oldMaxY == entry.maxCellY) {
+            return;
+        }
+
+        int newMinX = entry.minCellX, newMinY = entry.minCellY;
+        int newMaxX = entry.maxCellX, newMaxY = entry.maxCellY;
+        entry.minCellX = oldMinX;
+        entry.minCellY = oldMinY;
+        entry.maxCellX = oldMaxX;
+        entry.maxCellY = oldMaxY;
+        removeFromCells(entry);
+
+        entry.minCellX = newMinX;
+        entry.minCellY = newMinY;
+        entry.maxCellX = newMaxX;
+        entry.maxCellY = newMaxY;
+        addToCells(entry);
+    }
+
+    public boolean contains(Platform platform) {
+        return entries.containsKey(platform);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    // === CONSULTAS ===
+
+    /**
+     * Plataformas cujas células tocam o retângulo (candidatos: o teste exato fica com quem chama)
+     */
+    public ArrayList<Platform> query(Rectangle area, ArrayList<Platform> out) {
+        return query(area.x, area.y, area.width, area.height, out);
+    }
+
+    /**
+     * Plataformas cujas células tocam [x, x+width] x [y, y+height]; limpa e preenche out
+     */
+    public ArrayList<Platform> query(int x, int y, int width, int height, ArrayList<Platform> out) {
+        out.clear();
+        ArrayList<Entry> found = collect(x, y, width, height);
+        for (int i = 0; i < found.size(); i++) {
+            out.add(found.get(i).platform);
+        }
+        found.clear();
+        return out;
+    }
+
+    /**
+     * Mesma consulta, devolvendo os slots do PlatformStore
+     */
+    public PlatformStore.Slots querySlots(int x, int y, int width, int height, PlatformStore.Slots out) {
+        out.clear();
+        ArrayList<Entry> found = collect(x, y, width, height);
+        for (int i = 0; i < found.size(); i++) {
+            out.add(found.get(i).slot);
+        }
+        found.clear();
+        return out;
+    }
+
+    /**
+     * Igual a querySlots, mas só lê a grade (sem carimbo nem lista interna): várias threads podem
+     * consultar ao mesmo tempo enquanto ninguém altera a grade. Os slots saem em ordem crescente.
+     */
+    public PlatformStore.Slots querySlotsShared(int x, int y, int width, int height, PlatformStore.Slots out) {
+        out.clear();
+        if (entries.isEmpty()) return out;
+
+        int minCellX = cellOf(x);
+        int maxCellX = cellOf((long) x + Math.max(0, width));
+        int minCellY = Math.max(cellOf(y), minOccupiedCellY);
+        int maxCellY = Math.min(cellOf((long) y + Math.max(0, height)), maxOccupiedCellY);
+
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                ArrayList<Entry> cell = getCell(pack(cx, cy));
+                if (cell == null) continue;
+
+                for (int i = 0; i < cell.size(); i++) {
+                    Entry entry = cell.get(i);
+                    // Plataforma em várias células: conta só na primeira célula da consulta que ela ocupa
+                    if (cx != Math.max(minCellX, entry.minCellX)
+                            || cy != Math.max(minCellY, entry.minCellY)) continue;
+
+                    out.add(entry.slot);
+                    for (int j = out.size - 1; j > 0 && out.ids[j - 1] > out.ids[j]; j--) {
+                        int swap = out.ids[j];
+                        out.ids[j] = out.ids[j - 1];
+                        out.ids[j - 1] = swap;
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    // Entradas das células da área, sem repetição e em ordem de inserção (em queryScratch)
+    private ArrayList<Entry> collect(int x, int y, int width, int height) {
+        ArrayList<Entry> found = queryScratch;
+        found.clear();
+        if (entries.isEmpty()) return found;
+
+        int minCellX = cellOf(x);
+        int maxCellX = cellOf((long) x + Math.max(0, width));
+        int minCellY = Math.max(cellOf(y), minOccupiedCellY);
+        int maxCellY = Math.min(cellOf((long) y + Math.max(0, height)), maxOccupiedCellY);
+        if (minCellY > maxCellY) return found;
+
+        int stamp = ++queryStamp;
+
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                ArrayList<Entry> cell = getCell(pack(cx, cy));
+                if (cell == null) continue;
+
+                for (int i = 0; i < cell.size(); i++) {
+                    Entry entry = cell.get(i);
+                    if (entry.queryStamp != stamp) {
+                        entry.queryStamp = stamp;
+                        insertSorted(found, entry);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    // Poucos candidatos por consulta: inserção ordenada é mais barata que ordenar no fim
+    private static void insertSorted(ArrayList<Entry> found, Entry entry) {
+        int i = found.size();
+        found.add(entry);
+        while (i > 0 && found.get(i - 1).order > entry.order) {
+            found.set(i, found.get(i - 1));
+            i--;
+        }
+        found.set(i, entry);
+    }
+
+    // === CÉLULAS ===
+
+    private void computeCells(Entry entry) {
+        Rectangle bounds = entry.platform.getHitbox();
+        int x, y, width, height;
+        if (bounds != null) {
+            x = bounds.x;
+            y = bounds.y;
+            width = bounds.width;
+            height = bounds.height;
+        } else {
+            x = entry.platform.x;
+            y = entry.platform.y;
+            width = entry.platform.width;
+            height = entry.platform.height;
+        }
+
+        entry.minCellX = cellOf(x);
+        entry.minCellY = cellOf(y);
+        entry.maxCellX = cellOf((long) x + Math.max(0, width));
+        entry.maxCellY = cellOf((long) y + Math.max(0, height));
+    }
+
+    private void addToCells(Entry entry) {
+        for (int cx = entry.minCellX; cx <= entry.maxCellX; cx++) {
+            for (int cy = entry.minCellY; cy <= entry.maxCellY; cy++) {
+                getOrCreateCell(pack(cx, cy)).add(entry);
+            }
+        }
+        minOccupiedCellY = Math.min(minOccupiedCellY, entry.minCellY);
+        maxOccupiedCellY = Math.max(maxOccupiedCellY, entry.maxCellY);
+    }
+
+    private void removeFromCells(Entry entry) {
+        for (int cx = entry.minCellX; cx <= entry.maxCellX; cx++) {
+            for (int cy = entry.minCellY; cy <= entry.maxCellY; cy++) {
+                ArrayList<Entry> cell = getCell(pack(cx, cy));
+                if (cell != null) {
+                    cell.remove(entry);
+                }
+            }
+        }
+    }
+
+    private int cellOf(long coordinate) {
+        return (int) Math.floorDiv(coordinate, cellSize);
+    }
+
+    private static long pack(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    // === TABELA HASH ===
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void allocateTable(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        cells = new ArrayList[capacity];
+        occupied = 0;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private ArrayList<Entry> getCell(long key) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while (keys[index] != EMPTY_KEY) {
+            if (keys[index] == key) {
+                return cells[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    // Células vazias ficam na tabela (o mundo volta a passar por elas); rebuild/clear limpam
+    private ArrayList<Entry> getOrCreateCell(long key) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while (keys[index] != EMPTY_KEY) {
+            if (keys[index] == key) {
+                return cells[index];
+            }
+            index = (index + 1) & mask;
+        }
+
+        if ((occupied + 1) * 2 > keys.length) {
+            grow();
+            return getOrCreateCell(key);
+        }
+
+        ArrayList<Entry> cell = new ArrayList<>(4);
+        keys[index] = key;
+        cells[index] = cell;
+        occupied++;
+        return cell;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        ArrayList<Entry>[] oldCells = cells;
+        allocateTable(oldKeys.length * 2);
+
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY_KEY) continue;
+
+            int index = hash(oldKeys[i]) & mask;
+            while (keys[index] != EMPTY_KEY) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = oldKeys[i];
+            cells[index] = oldCells[i];
+            occupied++;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package org.example.fhysics;
+
+import org.example.components.CollisionLayers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Broadphase único para os atores dinâmicos: sweep and prune no eixo x.
+ *
+ * Cada ator colidível (player, inimigos, orbs, perigos) registra um {@link Proxy} e atualiza os
+ * limites a cada tick. findPairs() reordena os proxies por x (quase ordenados entre ticks, então a
+ * ordenação por inserção é ~O(n)), varre o eixo e emite só os pares que se sobrepõem e cujos tipos
+ * interagem. Os handlers de colisão (narrow phase) consomem esses pares em vez de varrer listas.
+ *
+ * Limites "gordos": cada proxy é expandido pela margem fixa + o dobro do deslocamento desde o
+ * último tick, para que um par calculado antes dos atores andarem continue válido depois.
+ */
+public class SweepAndPrune {
+
+    public enum Kind {
+        PLAYER(CollisionLayers.PLAYER),
+        ENEMY(CollisionLayers.ENEMY),
+        FLYING_ENEMY(CollisionLayers.FLYING_ENEMY),
+        ORB(CollisionLayers.ORB),
+        GOLD_ORB(CollisionLayers.ORB);
+
+        public final int layer; // Bit em CollisionLayers
+
+        Kind(int layer) {
+            this.layer = layer;
+        }
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+
+    /**
+     * Representante de um ator no broadphase
+     */
+    public static final class Proxy {
+        public final Object owner;
+        public final Kind kind;
+        private final int fatMargin;
+
+        int minX, minY, maxX, maxY;
+        private double lastX, lastY;
+        private boolean hasLast = false;
+        boolean active = true;
+        int pairStamp = 0;
+
+        private Proxy(Object owner, Kind kind, int fatMargin) {
+            this.owner = owner;
+            this.kind = kind;
+            this.fatMargin = fatMargin;
+        }
+
+        /**
+         * Atualiza os limites (posição do tick atual) já com a margem de segurança
+         */
+        public void setBounds(double x, double y, int width, int height) {
+            double motion = hasLast ? Math.max(Math.abs(x - lastX), Math.abs(y - lastY)) : 0;
+            int margin = fatMargin + (int) Math.ceil(motion * 2);
+
+            minX = (int) Math.floor(x) - margin;
+            minY = (int) Math.floor(y) - margin;
+            maxX = (int) Math.ceil(x) + width + margin;
+            maxY = (int) Math.ceil(y) + height + margin;
+
+            lastX = x;
+            lastY = y;
+            hasLast = true;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    private final ArrayList<Proxy> proxies = new ArrayList<>();
+    private final ArrayList<Proxy> activeSweep = new ArrayList<>();
+    private final int[] interactionMask = new int[KINDS.length];
+
+    // Pares do último findPairs() (a = tipo de menor ordinal, ex: o player)
+    private Proxy[] pairA = new Proxy[64];
+    private Proxy[] pairB = new Proxy[64];
+    private int pairCount = 0;
+
+    private int stamp = 0;
+
+    /**
+     * Interações iniciais tiradas da matriz de CollisionLayers (por padrão: player com todos os
+     * outros tipos e mais nada com nada)
+     */
+    public SweepAndPrune() {
+        for (Kind a : KINDS) {
+            for (Kind b : KINDS) {
+                if (CollisionLayers.collides(a.layer, b.layer)) {
+                    setInteraction(a, b, true);
+                }
+            }
+        }
+    }
+
+    public void setInteraction(Kind a, Kind b, boolean interacts) {
+        if (interacts) {
+            interactionMask[a.ordinal()] |= 1 << b.ordinal();
+            interactionMask[b.ordinal()] |= 1 << a.ordinal();
+        } else {
+            interactionMask[a.ordinal()] &= ~(1 << b.ordinal());
+            interactionMask[b.ordinal()] &= ~(1 << a.ordinal());
+        }
+    }
+
+    public boolean interacts(Kind a, Kind b) {
+        return (interactionMask[a.ordinal()] & (1 << b.ordinal())) != 0;
+    }
+
+    // === REGISTRO ===
+
+    /**
+     * Registra um ator. fatMargin: folga fixa em px (0 para objetos parados)
+     */
+    public Proxy add(Object owner, Kind kind, int fatMargin) {
+        Proxy proxy = new Proxy(owner, kind, fatMargin);
+        proxies.add(proxy);
+        return proxy;
+    }
+
+    public void remove(Proxy proxy) {
+        proxies.remove(proxy);
+    }
+
+    public void clear() {
+        proxies.clear();
+        activeSweep.clear();
+        pairCount = 0;
+    }
+
+    public int size() {
+        return proxies.size();
+    }
+
+    // === PARES ===
+
+    /**
+     * Reordena por x e emite os pares sobrepostos que interagem. Retorna quantos pares saíram.
+     */
+    public int findPairs() {
+        stamp++;
+        pairCount = 0;
+        sortByMinX();
+
+        ArrayList<Proxy> active = activeSweep;
+        active.clear();
+
+        for (int i = 0; i < proxies.size(); i++) {
+            Proxy proxy = proxies.get(i);
+            if (!proxy.active) continue;
+
+            int mask = interactionMask[proxy.kind.ordinal()];
+
+            // Tira da varredura quem já terminou antes deste começar; testa o resto
+            int kept = 0;
+            for (int j = 0; j < active.size(); j++) {
+                Proxy other = active.get(j);
+                if (other.maxX <= proxy.minX) continue;
+                active.set(kept++, other);
+
+                if ((mask & (1 << other.kind.ordinal())) != 0
+                        && other.minY < proxy.maxY && proxy.minY < other.maxY) {
+                    addPair(other, proxy);
+                }
+            }
+            while (active.size() > kept) {
+                active.remove(active.size() - 1);
+            }
+
+            if (mask != 0) {
+                active.add(proxy);
+            }
+        }
+
+        active.clear();
+        return pairCount;
+    }
+
+    private void addPair(Proxy a, Proxy b) {
+        if (pairCount == pairA.length) {
+            pairA = Arrays.copyOf(pairA, pairCount * 2);
+            pairB = Arrays.copyOf(pairB, pairCount * 2);
+        }
+        if (a.kind.ordinal() > b.kind.ordinal()) {
+            Proxy swap = a;
+            a = b;
+            b = swap;
+        }
+        pairA[pairCount] = a;
+        pairB[pairCount] = b;
+        pairCount++;
+        a.pairStamp = stamp;
+        b.pairStamp = stamp;
+    }
+
+    // Entre ticks a ordem quase não muda: inserção é linear nesse caso
+    private void sortByMinX() {
+        for (int i = 1; i < proxies.size(); i++) {
+            Proxy proxy = proxies.get(i);
+            int j = i - 1;
+            while (j >= 0 && proxies.get(j).minX > proxy.minX) {
+                proxies.set(j + 1, proxies.get(j));
+                j--;
+            }
+            proxies.set(j + 1, proxy);
+        }
+    }
+
+    public int getPairCount() {
+        return pairCount;
+    }
+
+    public Proxy getPairA(int index) {
+        return pairA[index];
+    }
+
+    public Proxy getPairB(int index) {
+        return pairB[index];
+    }
+
+    /**
+     * O proxy entrou em algum par no último findPairs()
+     */
+    public boolean isCandidate(Proxy proxy) {
+        return proxy != null && proxy.pairStamp == stamp;
+    }
+}
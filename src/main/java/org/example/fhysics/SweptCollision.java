@@ -0,0 +1,154 @@
+package org.example.fhysics;
+
+import org.example.world.Platform;
+import org.example.world.PlatformStore;
+
+import java.awt.Rectangle;
+import java.util.List;
+
+/**
+ * Colisão contínua (swept AABB): em vez de mover e testar só a posição final, calcula o
+ * instante de impacto (0..1 do deslocamento do tick) contra cada candidato e devolve o mais cedo.
+ *
+ * Não existe túnel em nenhuma velocidade: uma plataforma no caminho sempre é encontrada,
+ * mesmo que o deslocamento seja maior que ela. Contato encostado (bordas iguais) só conta
+ * se o movimento vai para dentro, igual ao Rectangle.intersects das plataformas.
+ */
+public final class SweptCollision {
+
+    /**
+     * Resultado de uma varredura (reaproveitável para não alocar por tick)
+     */
+    public static final class Hit {
+        public Platform platform; // null quando o contato veio de um slot sem view
+        public int slot;          // Slot no PlatformStore (-1 na varredura por lista)
+        public int left, top, width, height; // Geometria do que foi atingido
+        public double time;   // Fração do deslocamento até o contato (0..1)
+        public int normalX;   // -1/1 quando bateu de lado
+        public int normalY;   // -1 = pousou em cima, 1 = bateu a cabeça
+        public boolean startedInside; // Já começou sobreposto (time = 0, sem normal)
+        boolean found;
+
+        void clear() {
+            platform = null;
+            slot = -1;
+            time = 1.0;
+            normalX = 0;
+            normalY = 0;
+            startedInside = false;
+            found = false;
+        }
+    }
+
+    private SweptCollision() {
+    }
+
+    /**
+     * Primeiro contato de uma caixa (x, y, width, height) andando (dx, dy) contra os candidatos.
+     * Plataformas que já sobrepõem a caixa no início têm prioridade (startedInside).
+     *
+     * @return true se houve contato antes do fim do deslocamento
+     */
+    public static boolean sweep(double x, double y, int width, int height, double dx, double dy,
+                                List<Platform> candidates, Hit hit) {
+        hit.clear();
+
+        for (int i = 0; i < candidates.size(); i++) {
+            Platform platform = candidates.get(i);
+            Rectangle box = platform.getHitbox();
+            if (box == null) continue;
+
+            test(x, y, width, height, dx, dy, box.x, box.y, box.width, box.height, platform, -1, hit);
+        }
+        return hit.found;
+    }
+
+    /**
+     * Mesma varredura lendo a geometria direto das colunas do PlatformStore
+     */
+    public static boolean sweep(double x, double y, int width, int height, double dx, double dy,
+                                PlatformStore store, PlatformStore.Slots candidates, Hit hit) {
+        hit.clear();
+
+        int[] xs = store.x, ys = store.y, ws = store.width, hs = store.height;
+        for (int i = 0; i < candidates.size; i++) {
+            int slot = candidates.ids[i];
+            test(x, y, width, height, dx, dy, xs[slot], ys[slot], ws[slot], hs[slot], null, slot, hit);
+        }
+        if (hit.found && hit.slot >= 0) {
+            hit.platform = store.getView(hit.slot);
+        }
+        return hit.found;
+    }
+
+    private static void test(double x, double y, int width, int height, double dx, double dy,
+                             int boxX, int boxY, int boxWidth, int boxHeight,
+                             Platform platform, int slot, Hit hit) {
+        double left = boxX, top = boxY;
+        double right = left + boxWidth, bottom = top + boxHeight;
+
+        // Sobreposição estrita já no início: o chamador decide como expulsar
+        if (x < right && x + width > left && y < bottom && y + height > top) {
+            if (!hit.startedInside) {
+                hit.clear();
+                record(hit, platform, slot, boxX, boxY, boxWidth, boxHeight, 0);
+                hit.startedInside = true;
+            }
+            return;
+        }
+        if (hit.startedInside) return;
+
+        // Slabs: intervalo de tempo em que cada eixo se sobrepõe
+        double xEntry, xExit;
+        if (dx > 0) {
+            xEntry = (left - (x + width)) / dx;
+            xExit = (right - x) / dx;
+        } else if (dx < 0) {
+            xEntry = (right - x) / dx;
+            xExit = (left - (x + width)) / dx;
+        } else if (x < right && x + width > left) {
+            xEntry = Double.NEGATIVE_INFINITY;
+            xExit = Double.POSITIVE_INFINITY;
+        } else {
+            return;
+        }
+
+        double yEntry, yExit;
+        if (dy > 0) {
+            yEntry = (top - (y + height)) / dy;
+            yExit = (bottom - y) / dy;
+        } else if (dy < 0) {
+            yEntry = (bottom - y) / dy;
+            yExit = (top - (y + height)) / dy;
+        } else if (y < bottom && y + height > top) {
+            yEntry = Double.NEGATIVE_INFINITY;
+            yExit = Double.POSITIVE_INFINITY;
+        } else {
+            return;
+        }
+
+        double entry = Math.max(xEntry, yEntry);
+        double exit = Math.min(xExit, yExit);
+        if (entry >= exit || entry < 0 || entry >= 1) return;
+
+        // Empate (quina exata): prefere o eixo vertical, pousar na borda é melhor que travar
+        boolean vertical = yEntry >= xEntry;
+        if (entry < hit.time || (entry == hit.time && vertical && hit.normalY == 0)) {
+            record(hit, platform, slot, boxX, boxY, boxWidth, boxHeight, entry);
+            hit.normalX = vertical ? 0 : (dx > 0 ? -1 : 1);
+            hit.normalY = vertical ? (dy > 0 ? -1 : 1) : 0;
+        }
+    }
+
+    private static void record(Hit hit, Platform platform, int slot, int boxX, int boxY,
+                               int boxWidth, int boxHeight, double time) {
+        hit.found = true;
+        hit.platform = platform;
+        hit.slot = slot;
+        hit.left = boxX;
+        hit.top = boxY;
+        hit.width = boxWidth;
+        hit.height = boxHeight;
+        hit.time = time;
+    }
+}
@@ -0,0 +1,296 @@
+package org.example.fhysics;
+
+import org.example.world.Platform;
+import org.example.world.PlatformStore;
+
+/**
+ * Consultas geométricas sobre as plataformas do mundo: ponto, sobreposição de retângulo, raio e
+ * plataforma mais próxima.
+ *
+ * Usa a grade (PlatformSpatialGrid) para achar candidatos e as colunas do PlatformStore para o teste
+ * exato, então o custo depende de quantas plataformas estão perto da consulta, não do tamanho do mundo.
+ * Os resultados vão para buffers do chamador (Slots e Hit), sem alocar por consulta.
+ *
+ * - Ponto: bordas inclusivas, igual ao sensor de borda dos inimigos
+ * - Retângulo: sobreposição estrita, igual ao Rectangle.intersects das plataformas
+ * - Só lê a grade: várias threads podem consultar ao mesmo tempo com a grade parada, cada uma com o
+ *   próprio WorldQuery (o buffer interno de candidatos não é compartilhável)
+ */
+public class WorldQuery {
+
+    /**
+     * Resultado de raycast / mais próxima (reaproveitável)
+     */
+    public static final class Hit {
+        public Platform platform; // View do slot atingido
+        public int slot = -1;
+        public double distance;   // Distância da origem até o ponto
+        public double x, y;       // Ponto de contato (raio) ou ponto mais próximo da plataforma
+        public int normalX;       // -1/1 quando o raio bateu de lado
+        public int normalY;       // -1 = bateu em cima, 1 = bateu embaixo (0 = origem já dentro)
+        public boolean found;
+
+        public void clear() {
+            platform = null;
+            slot = -1;
+            distance = Double.POSITIVE_INFINITY;
+            x = 0;
+            y = 0;
+            normalX = 0;
+            normalY = 0;
+            found = false;
+        }
+    }
+
+    private final PlatformStore store;
+    private final PlatformSpatialGrid grid;
+    private final PlatformStore.Slots candidates = new PlatformStore.Slots();
+
+    public WorldQuery(PlatformStore store, PlatformSpatialGrid grid) {
+        this.store = store;
+        this.grid = grid;
+    }
+
+    // === PONTO E RETÂNGULO ===
+
+    /**
+     * Plataformas que contêm o ponto (bordas inclusivas), em ordem de slot
+     */
+    public PlatformStore.Slots queryPoint(int px, int py, PlatformStore.Slots out) {
+        grid.querySlotsShared(px, py, 0, 0, out);
+
+        int[] xs = store.x, ys = store.y, ws = store.width, hs = store.height;
+        int kept = 0;
+        for (int i = 0; i < out.size; i++) {
+            int slot = out.ids[i];
+            if (px >= xs[slot] && px <= xs[slot] + ws[slot] && py >= ys[slot] && py <= ys[slot] + hs[slot]) {
+                out.ids[kept++] = slot;
+            }
+        }
+        out.size = kept;
+        return out;
+    }
+
+    /**
+     * Primeira plataforma (menor slot) que contém o ponto, ou -1
+     */
+    public int firstAtPoint(int px, int py) {
+        queryPoint(px, py, candidates);
+        return candidates.size > 0 ? candidates.ids[0] : -1;
+    }
+
+    public boolean hasPlatformAt(int px, int py) {
+        return firstAtPoint(px, py) >= 0;
+    }
+
+    /**
+     * Plataformas que sobrepõem o retângulo (sobreposição estrita), em ordem de slot
+     */
+    public PlatformStore.Slots queryOverlap(int x, int y, int width, int height, PlatformStore.Slots out) {
+        out.clear();
+        if (width <= 0 || height <= 0) return out;
+        grid.querySlotsShared(x, y, width, height, out);
+
+        int[] xs = store.x, ys = store.y, ws = store.width, hs = store.height;
+        int kept = 0;
+        for (int i = 0; i < out.size; i++) {
+            int slot = out.ids[i];
+            if (x < xs[slot] + ws[slot] && x + width > xs[slot] && y < ys[slot] + hs[slot] && y + height > ys[slot]) {
+                out.ids[kept++] = slot;
+            }
+        }
+        out.size = kept;
+        return out;
+    }
+
+    // === RAIO ===
+
+    /**
+     * Primeira plataforma no caminho do raio (ox, oy) na direção (dirX, dirY), até maxDistance.
+     * Percorre as células da grade na ordem em que o raio passa (DDA) e para na primeira célula
+     * que já garante o contato mais próximo.
+     *
+     * @return true se o raio atingiu alguma plataforma
+     */
+    public boolean raycast(double ox, double oy, double dirX, double dirY, double maxDistance, Hit hit) {
+        hit.clear();
+        double length = Math.sqrt(dirX * dirX + dirY * dirY);
+        if (length == 0 || !(maxDistance > 0) || Double.isInfinite(maxDistance)) {
+            throw new IllegalArgumentException("Raio precisa de direção e distância máxima finita");
+        }
+        double dx = dirX / length;
+        double dy = dirY / length;
+
+        int cellSize = grid.getCellSize();
+        int cellX = (int) Math.floor(ox / cellSize);
+        int cellY = (int) Math.floor(oy / cellSize);
+        int stepX = dx > 0 ? 1 : (dx < 0 ? -1 : 0);
+        int stepY = dy > 0 ? 1 : (dy < 0 ? -1 : 0);
+
+        // Distância até a próxima borda de célula em cada eixo e distância entre bordas
+        double nextX = stepX > 0 ? ((cellX + 1) * (double) cellSize - ox) / dx
+                : stepX < 0 ? (cellX * (double) cellSize - ox) / dx : Double.POSITIVE_INFINITY;
+        double nextY = stepY > 0 ? ((cellY + 1) * (double) cellSize - oy) / dy
+                : stepY < 0 ? (cellY * (double) cellSize - oy) / dy : Double.POSITIVE_INFINITY;
+        double deltaX = stepX != 0 ? cellSize / Math.abs(dx) : Double.POSITIVE_INFINITY;
+        double deltaY = stepY != 0 ? cellSize / Math.abs(dy) : Double.POSITIVE_INFINITY;
+
+        int[] xs = store.x, ys = store.y, ws = store.width, hs = store.height;
+        double cellEntry = 0;
+        while (cellEntry <= maxDistance) {
+            grid.querySlotsShared(cellX * cellSize, cellY * cellSize, cellSize - 1, cellSize - 1, candidates);
+            for (int i = 0; i < candidates.size; i++) {
+                int slot = candidates.ids[i];
+                double t = rayBoxDistance(ox, oy, dx, dy, xs[slot], ys[slot], ws[slot], hs[slot]);
+                if (t >= 0 && t <= maxDistance && (t < hit.distance || (t == hit.distance && slot < hit.slot))) {
+                    hit.found = true;
+                    hit.slot = slot;
+                    hit.distance = t;
+                }
+            }
+
+            double cellExit = Math.min(nextX, nextY);
+            if (hit.found && hit.distance <= cellExit) break;
+
+            if (nextX < nextY) {
+                cellX += stepX;
+                cellEntry = nextX;
+                nextX += deltaX;
+            } else {
+                cellY += stepY;
+                cellEntry = nextY;
+                nextY += deltaY;
+            }
+        }
+
+        if (hit.found) {
+            finishRayHit(ox, oy, dx, dy, hit);
+        }
+        return hit.found;
+    }
+
+    /**
+     * Distância do raio (direção unitária) até a caixa, 0 se a origem está dentro, -1 se não atinge
+     */
+    public static double rayBoxDistance(double ox, double oy, double dx, double dy,
+                                        int left, int top, int width, int height) {
+        double near = Double.NEGATIVE_INFINITY;
+        double far = Double.POSITIVE_INFINITY;
+
+        if (dx != 0) {
+            double t1 = (left - ox) / dx;
+            double t2 = (left + width - ox) / dx;
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+        } else if (ox < left || ox > left + width) {
+            return -1;
+        }
+
+        if (dy != 0) {
+            double t1 = (top - oy) / dy;
+            double t2 = (top + height - oy) / dy;
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+        } else if (oy < top || oy > top + height) {
+            return -1;
+        }
+
+        if (far < 0 || near > far) return -1;
+        return Math.max(near, 0);
+    }
+
+    // Ponto e normal do contato (a normal sai do eixo que entrou por último na caixa)
+    private void finishRayHit(double ox, double oy, double dx, double dy, Hit hit) {
+        int slot = hit.slot;
+        hit.platform = store.getView(slot);
+        hit.x = ox + dx * hit.distance;
+        hit.y = oy + dy * hit.distance;
+        if (hit.distance == 0) return;
+
+        double left = store.x[slot], top = store.y[slot];
+        double right = left + store.width[slot], bottom = top + store.height[slot];
+        double entryX = dx > 0 ? (left - ox) / dx : dx < 0 ? (right - ox) / dx : Double.NEGATIVE_INFINITY;
+        double entryY = dy > 0 ? (top - oy) / dy : dy < 0 ? (bottom - oy) / dy : Double.NEGATIVE_INFINITY;
+        if (entryY >= entryX) {
+            hit.normalY = dy > 0 ? -1 : 1;
+        } else {
+            hit.normalX = dx > 0 ? -1 : 1;
+        }
+    }
+
+    // === MAIS PRÓXIMA ===
+
+    /**
+     * Plataforma mais próxima do ponto (distância até a borda da caixa, 0 se o ponto está dentro),
+     * até maxDistance. Procura em anéis de células a partir da célula do ponto e para quando nenhum
+     * anel seguinte pode ter algo mais perto.
+     *
+     * @return slot da plataforma ou -1
+     */
+    public int nearest(double px, double py, double maxDistance, Hit hit) {
+        hit.clear();
+        if (!(maxDistance >= 0) || Double.isInfinite(maxDistance)) {
+            throw new IllegalArgumentException("Distância máxima precisa ser finita: " + maxDistance);
+        }
+
+        int cellSize = grid.getCellSize();
+        int centerX = (int) Math.floor(px / cellSize);
+        int centerY = (int) Math.floor(py / cellSize);
+        int maxRing = (int) Math.ceil(maxDistance / cellSize) + 1;
+        double best = maxDistance * maxDistance;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Tudo que falta está no anel atual ou além: pelo menos (ring - 1) células de distância
+            double reach = (ring - 1) * (double) cellSize;
+            if (ring > 0 && (reach > maxDistance || (hit.found && best <= reach * reach))) break;
+
+            if (ring == 0) {
+                best = nearestIn(centerX, centerY, centerX, centerY, px, py, best, hit);
+                continue;
+            }
+            int minX = centerX - ring, maxX = centerX + ring;
+            int minY = centerY - ring, maxY = centerY + ring;
+            best = nearestIn(minX, minY, maxX, minY, px, py, best, hit);
+            best = nearestIn(minX, maxY, maxX, maxY, px, py, best, hit);
+            best = nearestIn(minX, minY + 1, minX, maxY - 1, px, py, best, hit);
+            best = nearestIn(maxX, minY + 1, maxX, maxY - 1, px, py, best, hit);
+        }
+
+        if (hit.found) {
+            int slot = hit.slot;
+            hit.platform = store.getView(slot);
+            hit.distance = Math.sqrt(best);
+            hit.x = clamp(px, store.x[slot], store.x[slot] + store.width[slot]);
+            hit.y = clamp(py, store.y[slot], store.y[slot] + store.height[slot]);
+        }
+        return hit.slot;
+    }
+
+    // Candidatos de um bloco de células; devolve a menor distância ao quadrado encontrada
+    private double nearestIn(int minCellX, int minCellY, int maxCellX, int maxCellY,
+                             double px, double py, double best, Hit hit) {
+        if (minCellY > maxCellY) return best;
+
+        int cellSize = grid.getCellSize();
+        grid.querySlotsShared(minCellX * cellSize, minCellY * cellSize,
+                (maxCellX - minCellX + 1) * cellSize - 1, (maxCellY - minCellY + 1) * cellSize - 1, candidates);
+
+        int[] xs = store.x, ys = store.y, ws = store.width, hs = store.height;
+        for (int i = 0; i < candidates.size; i++) {
+            int slot = candidates.ids[i];
+            double ddx = Math.max(Math.max(xs[slot] - px, 0), px - (xs[slot] + ws[slot]));
+            double ddy = Math.max(Math.max(ys[slot] - py, 0), py - (ys[slot] + hs[slot]));
+            double distance = ddx * ddx + ddy * ddy;
+            if (distance < best || (distance == best && (!hit.found || slot < hit.slot))) {
+                best = distance;
+                hit.found = true;
+                hit.slot = slot;
+            }
+        }
+        return best;
+    }
+
+    private static double clamp(double value, int min, int max) {
+        return value < min ? min : (value > max ? max : value);
+    }
+}
@@ -1,6 +1,5 @@
 package org.example.main;
 
-<<<<<<< HEAD
 import java.net.URL;
 import javax.swing.ImageIcon;
 import java.awt.CardLayout;
@@ -10,23 +9,14 @@ import java.awt.event.KeyListener;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 
-=======
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
 import org.example.audio.AudioManager;
 import org.example.ui.GamePanel;
 import org.example.ui.MenuSystem;
+import org.example.ui.RenderMode;
+import org.example.ui.SimulationSpeed;
 
-<<<<<<< HEAD
 
 import org.example.world.MapTheme;
-=======
-import javax.swing.JFrame;
-import javax.swing.JPanel;
-import java.awt.CardLayout;
-import java.awt.event.KeyEvent;
-import java.awt.event.KeyListener;
-
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
 public class CyberRunnerGame extends JFrame implements KeyListener {
 
     // Gerenciador de layouts
@@ -40,7 +30,6 @@ public class CyberRunnerGame extends JFrame implements KeyListener {
     // Estados
     boolean gameActive = false;
 
-<<<<<<< HEAD
     // Sistema de tela cheia
     private boolean isFullScreen = false;
     private int windowedWidth = 1280;
@@ -48,7 +37,21 @@ public class CyberRunnerGame extends JFrame implements KeyListener {
     private int windowedX = 100;
     private int windowedY = 100;
 
+    // Modo de renderização e velocidade da simulação escolhidos na inicialização
+    private final RenderMode renderMode;
+    private final SimulationSpeed simulationSpeed;
+
     public CyberRunnerGame() {
+        this(RenderMode.PASSIVE);
+    }
+
+    public CyberRunnerGame(RenderMode renderMode) {
+        this(renderMode, SimulationSpeed.realTime());
+    }
+
+    public CyberRunnerGame(RenderMode renderMode, SimulationSpeed simulationSpeed) {
+        this.renderMode = renderMode;
+        this.simulationSpeed = simulationSpeed;
 
         // Configurar janela principal
         this.setTitle("Cyber Runner");
@@ -57,40 +60,18 @@ public class CyberRunnerGame extends JFrame implements KeyListener {
 
         setWindowIcon();
 
-=======
-    public CyberRunnerGame() {
-        // Configurar janela principal
-        this.setTitle("Cyber Runner - The Ultimate Cyber Adventure");
-        this.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        this.setResizable(false);
-
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         // Configurar layout de cards
         cardLayout = new CardLayout();
         mainPanel = new JPanel(cardLayout);
 
         // Inicializar sistemas
-        menuSystem = new MenuSystem();
-<<<<<<< HEAD
+        menuSystem = new MenuSystem(renderMode);
 
         // Conectar o MenuSystem ao Frame
         menuSystem.setGameFrame(this);
 
         // Adicionar painéis ao CardLayout
         mainPanel.add(menuSystem, "MENU");
-=======
-        gamePanel = new GamePanel();
-
-        // CORREÇÃO: Conectar sistemas bidirecionalmente ANTES de adicionar ao layout
-        menuSystem.setGamePanel(gamePanel);
-        menuSystem.setGameFrame(this); // Adicionar referência ao frame no menu
-        gamePanel.setMenuSystem(menuSystem);
-        gamePanel.setGameFrame(this);
-
-        // Adicionar painéis ao CardLayout
-        mainPanel.add(menuSystem, "MENU");
-        mainPanel.add(gamePanel, "GAME");
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
 
         // Configurar janela
         this.add(mainPanel);
@@ -103,7 +84,6 @@ public class CyberRunnerGame extends JFrame implements KeyListener {
 
         this.setVisible(true);
 
-<<<<<<< HEAD
         switchToMenu();
 
     }
@@ -128,7 +108,8 @@ public class CyberRunnerGame extends JFrame implements KeyListener {
     public void startNewGame(MapTheme selectedTheme) {
 
         // 1. Crie uma NOVA instância do GamePanel com o tema selecionado
-        gamePanel = new GamePanel(selectedTheme);
+        gamePanel = new GamePanel(selectedTheme, renderMode);
+        gamePanel.setSimulationSpeed(simulationSpeed);
 
         // 2. Conecte o novo GamePanel ao Menu e ao Frame
         gamePanel.setGameFrame(this);
@@ -149,220 +130,35 @@ public class CyberRunnerGame extends JFrame implements KeyListener {
     }
 
     public void switchToMenu() {
-=======
-        // Focar no menu inicialmente
-        switchToMenu();
-    }
-
-    // CORREÇÃO: Método melhorado para alternar para o jogo
-    public void switchToGame() {
-        System.out.println("=== INICIANDO JOGO ===");
-
-        // Parar qualquer game loop ativo primeiro
-        if (gamePanel.isGameLoopActive()) {
-            gamePanel.stopGameLoop();
-            try {
-                Thread.sleep(100); // Dar tempo para parar
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }
-
-        // Resetar o jogo ANTES de trocar de tela
-        gamePanel.resetGame();
-
-        // Trocar para a tela do jogo
-        cardLayout.show(mainPanel, "GAME");
-        gameActive = true;
-
-        // Música do jogo
-        AudioManager.playGameMusic();
-
-        // Garantir foco no painel do jogo
-        gamePanel.requestFocusInWindow();
-
-        // Aguardar um pouco antes de iniciar o game loop
-        javax.swing.SwingUtilities.invokeLater(() -> {
-            try {
-                Thread.sleep(50);
-                if (!gamePanel.isGameLoopActive()) {
-                    gamePanel.startGameLoop();
-                    System.out.println("Game loop iniciado!");
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        });
-    }
-
-    // CORREÇÃO: Método melhorado para alternar para o menu
-    public void switchToMenu() {
-        System.out.println("=== VOLTANDO AO MENU ===");
-
-        // Parar o game loop primeiro
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         if (gamePanel != null && gamePanel.isGameLoopActive()) {
             gamePanel.stopGameLoop();
         }
 
-<<<<<<< HEAD
-        cardLayout.show(mainPanel, "MENU");
-        gameActive = false;
-        AudioManager.playMenuMusic();
-        menuSystem.requestFocusInWindow();
-
-        if (menuSystem.getCurrentState() == MenuSystem.GameState.GAME_OVER) {
-=======
-        // Trocar para a tela do menu
         cardLayout.show(mainPanel, "MENU");
         gameActive = false;
-
-        // Música do menu
         AudioManager.playMenuMusic();
-
-        // Focar no menu
         menuSystem.requestFocusInWindow();
 
-        // CORREÇÃO: Resetar o estado do menu
         if (menuSystem.getCurrentState() == MenuSystem.GameState.GAME_OVER) {
-            // Se veio do game over, voltar ao menu principal
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
             menuSystem.showMainMenu();
         }
     }
 
-<<<<<<< HEAD
-    public void onGameOver(int score, int orbs, int enemies) {
-=======
-    // CORREÇÃO: Método de game over melhorado
     public void onGameOver(int score, int orbs, int enemies) {
-        System.out.println("=== GAME OVER ===");
-        System.out.println("Score: " + score + ", Orbs: " + orbs + ", Enemies: " + enemies);
-
-        // Parar o game loop
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         if (gamePanel.isGameLoopActive()) {
             gamePanel.stopGameLoop();
         }
 
-<<<<<<< HEAD
-        menuSystem.triggerGameOver(score, orbs, enemies);
-        cardLayout.show(mainPanel, "MENU");
-        gameActive = false;
-        menuSystem.requestFocusInWindow();
-    }
-
-=======
-        // Notificar o menu system sobre o game over
         menuSystem.triggerGameOver(score, orbs, enemies);
-
-        // Mudar para o menu (que agora mostrará a tela de game over)
         cardLayout.show(mainPanel, "MENU");
         gameActive = false;
-
-        // Garantir foco no menu
         menuSystem.requestFocusInWindow();
     }
 
-    // Pausar/resumir jogo
-    public void pauseGame() {
-        if (gameActive && gamePanel.isGameLoopActive()) {
-            gamePanel.pauseGame();
-        }
-    }
-
-    public void resumeGame() {
-        if (gameActive && gamePanel.isGamePaused()) {
-            gamePanel.resumeGame();
-        }
-    }
-
-    public boolean isGameActive() {
-        return gameActive;
-    }
-
-    @Override
-    public void keyPressed(KeyEvent e) {
-        // Teclas globais que funcionam em qualquer tela
-        switch (e.getKeyCode()) {
-            case KeyEvent.VK_ESCAPE:
-                if (gameActive) {
-                    // ESC durante o jogo volta para o menu
-                    switchToMenu();
-                }
-                break;
-
-            case KeyEvent.VK_F11:
-                // Toggle fullscreen
-                toggleFullscreen();
-                break;
-
-            // CORREÇÃO: Melhorar as teclas do game over
-            case KeyEvent.VK_R:
-                // R para reiniciar (funciona globalmente se estiver no game over)
-                if (!gameActive && menuSystem.getCurrentState() == MenuSystem.GameState.GAME_OVER) {
-                    System.out.println("Reiniciando jogo via tecla R...");
-                    switchToGame();
-                }
-                break;
-
-            case KeyEvent.VK_L:
-                // L para voltar ao lobby (se no game over)
-                if (!gameActive && menuSystem.getCurrentState() == MenuSystem.GameState.GAME_OVER) {
-                    System.out.println("Voltando ao menu principal via tecla L...");
-                    menuSystem.showMainMenu();
-                }
-                break;
-
-        }
-    }
-
-    @Override
-    public void keyReleased(KeyEvent e) {
-        // Implementação vazia - pode ser usada se necessário
-    }
-
-    @Override
-    public void keyTyped(KeyEvent e) {
-        // Implementação vazia - pode ser usada se necessário
-    }
-
-    private void toggleFullscreen() {
-        try {
-            if (this.isUndecorated()) {
-                this.dispose();
-                this.setUndecorated(false);
-                this.setExtendedState(JFrame.NORMAL);
-            } else {
-                this.dispose();
-                this.setUndecorated(true);
-                this.setExtendedState(JFrame.MAXIMIZED_BOTH);
-            }
-            this.setVisible(true);
-
-            // Restaurar foco apropriado
-            if (gameActive) {
-                gamePanel.requestFocusInWindow();
-            } else {
-                menuSystem.requestFocusInWindow();
-            }
-        } catch (Exception ex) {
-            System.out.println("Erro ao alternar fullscreen: " + ex.getMessage());
-        }
-    }
-
-    // CORREÇÃO: Método público para ser chamado pelo menu
-    public void startNewGame() {
-        switchToGame();
-    }
-
-    // CORREÇÃO: Método público para ser chamado pelo menu
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     public void returnToMainMenu() {
         switchToMenu();
     }
 
-<<<<<<< HEAD
     // <<< MUDANÇA: Removemos o antigo método startNewGame() sem parâmetros.
     // O método com o parâmetro MapTheme agora é o único que inicia o jogo.
 
@@ -405,23 +201,10 @@ public class CyberRunnerGame extends JFrame implements KeyListener {
     }
     public static void main(String[] args) {
         System.setProperty("sun.java2d.opengl", "true");
-=======
-    public static void main(String[] args) {
-        // Configurar look and feel do sistema
-        try {
-            javax.swing.UIManager.setLookAndFeel(
-                    javax.swing.UIManager.getSystemLookAndFeelClassName());
-        } catch (Exception e) {
-            System.out.println("Não foi possível definir o look and feel do sistema: " + e.getMessage());
-        }
-
-        // Configurações para melhor performance
-        System.setProperty("sun.java2d.opengl", "true");
-
-        // Iniciar o jogo na thread de eventos do Swing
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
+        RenderMode renderMode = RenderMode.fromArgs(args);
+        SimulationSpeed simulationSpeed = SimulationSpeed.fromArgs(args);
         javax.swing.SwingUtilities.invokeLater(() -> {
-            new CyberRunnerGame();
+            new CyberRunnerGame(renderMode, simulationSpeed);
         });
     }
 }
\ No newline at end of file
@@ -432,9 +432,19 @@ public class EnergyOrb {
 
     // Métodos especiais para diferentes efeitos ao coletar
     public void onCollect(Player player) {
+        onCollectWithoutParticles(player);
+
+        // Criar partículas de coleta
+        createCollectionEffect();
+    }
+
+    /**
+     * Mesma coleta sem a explosão de partículas do próprio orb. Para quem desenha o orb por fora
+     * (SimulationKernel + WorldBuilder.renderWorldOrbs): essas partículas nunca seriam atualizadas nem vistas.
+     */
+    public void onCollectWithoutParticles(Player player) {
         collected = true;
 
-<<<<<<< HEAD
         // Tocar som de efeito ao coletar (com base no tipo)
         try {
             switch (orbType) {
@@ -452,8 +462,6 @@ public class EnergyOrb {
             e.printStackTrace();
         }
 
-=======
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         // Restaurar energia do player
         player.energyLevel = Math.min(100, player.energyLevel + energyValue);
 
@@ -470,9 +478,6 @@ public class EnergyOrb {
                 // Adicionar efeito visual especial no player
                 break;
         }
-
-        // Criar partículas de coleta
-        createCollectionEffect();
     }
 
     private void createCollectionEffect() {
@@ -1,19 +1,15 @@
 package org.example.objects;
 
-<<<<<<< HEAD
 import org.example.components.*;
 import org.example.graphics.AnimationManager;
 import org.example.graphics.SpriteRenderer;
 import org.example.ui.GameConfig;
-=======
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.util.ArrayList;
 
 /**
-<<<<<<< HEAD
  * Inimigo voador usando sistema de componentes
  * Com padrões de movimento e sistema de patrulha sobre plataformas
  */
@@ -25,22 +21,10 @@ public class FlyingEnemy extends Entity {
     private HealthComponent health;
     private RenderComponent render;
 
-=======
- * Inimigo voador com padrões de movimento específicos
- */
-public class FlyingEnemy {
-    private int x, y, width, height;
-    private float velocityX, velocityY;
-    private Rectangle hitbox;
-    private boolean isActive;
-    private Color enemyColor;
-    
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     // Padrões de movimento
     private MovementPattern pattern;
     private int patternTimer = 0;
     private float baseSpeed;
-<<<<<<< HEAD
     private float patrolLeft, patrolRight, patrolTop, patrolBottom;
 
     // Sistema de patrulha sobre plataformas
@@ -52,15 +36,10 @@ public class FlyingEnemy {
     // Direção do movimento
     private int direction = 1;
 
-=======
-    private int patrolLeft, patrolRight, patrolTop, patrolBottom;
-    
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     // Efeitos visuais
     private ArrayList<FlyingParticle> particles;
     private int animationTimer = 0;
     private float wingFlap = 0;
-<<<<<<< HEAD
 
     // Sistema de sprites
     private AnimationManager animationManager;
@@ -247,98 +226,6 @@ public class FlyingEnemy {
      * Atualiza movimento baseado no padrão
      */
     private void updatePatrolMovement() {
-=======
-    
-    public enum MovementPattern {
-        HORIZONTAL_PATROL,    // Movimento horizontal simples
-        VERTICAL_PATROL,      // Movimento vertical simples
-        CIRCULAR,             // Movimento circular
-        FIGURE_EIGHT,         // Movimento em forma de 8
-        HOVER,                // Fica parado, mas se move quando player se aproxima
-        DIVE_BOMB             // Mergulha em direção ao player
-    }
-    
-    public FlyingEnemy(int x, int y, int width, int height, MovementPattern pattern, float speed) {
-        this.x = x;
-        this.y = y;
-        this.width = width;
-        this.height = height;
-        this.pattern = pattern;
-        this.baseSpeed = speed;
-        this.isActive = true;
-        this.hitbox = new Rectangle(x, y, width, height);
-        this.particles = new ArrayList<>();
-        
-        // Cor baseada no padrão de movimento
-        switch (pattern) {
-            case HORIZONTAL_PATROL:
-                this.enemyColor = new Color(100, 50, 150, 200); // Roxo escuro
-                break;
-            case VERTICAL_PATROL:
-                this.enemyColor = new Color(150, 50, 100, 200); // Rosa escuro
-                break;
-            case CIRCULAR:
-                this.enemyColor = new Color(50, 100, 150, 200); // Azul escuro
-                break;
-            case FIGURE_EIGHT:
-                this.enemyColor = new Color(150, 150, 50, 200); // Amarelo escuro
-                break;
-            case HOVER:
-                this.enemyColor = new Color(100, 150, 50, 200); // Verde escuro
-                break;
-            case DIVE_BOMB:
-                this.enemyColor = new Color(150, 50, 50, 200); // Vermelho escuro
-                break;
-        }
-        
-        // Configurar limites de patrulha baseado no padrão
-        setupPatrolBounds();
-        
-        // Criar partículas iniciais
-        createFlyingParticles();
-    }
-    
-    /**
-     * Atualiza o inimigo voador
-     */
-    public void update(org.example.objects.Player player) {
-        if (!isActive) return;
-        
-        // Atualizar animação
-        animationTimer++;
-        wingFlap = (float)(Math.sin(animationTimer * 0.3) * 0.5 + 0.5);
-        
-        // Atualizar padrão de movimento
-        updateMovementPattern(player);
-        
-        // Atualizar posição
-        x += velocityX;
-        y += velocityY;
-        hitbox.setLocation(x, y);
-        
-        // Atualizar partículas
-        for (int i = particles.size() - 1; i >= 0; i--) {
-            FlyingParticle particle = particles.get(i);
-            particle.update();
-            
-            if (particle.isExpired()) {
-                particles.remove(i);
-            }
-        }
-        
-        // Criar novas partículas
-        if (animationTimer % 8 == 0) {
-            createFlyingParticle();
-        }
-        
-        patternTimer++;
-    }
-    
-    /**
-     * Atualiza o padrão de movimento baseado no tipo
-     */
-    private void updateMovementPattern(org.example.objects.Player player) {
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         switch (pattern) {
             case HORIZONTAL_PATROL:
                 updateHorizontalPatrol();
@@ -353,7 +240,6 @@ public class FlyingEnemy {
                 updateFigureEightMovement();
                 break;
             case HOVER:
-<<<<<<< HEAD
                 updateHoverMovement();
                 break;
             case DIVE_BOMB:
@@ -475,7 +361,7 @@ public class FlyingEnemy {
     }
 
     private void handleCollision(Entity other, CollisionComponent otherCollision) {
-        if (otherCollision.getCollisionLayer().equals("player")) {
+        if (otherCollision.isInLayer(CollisionLayers.PLAYER)) {
             handlePlayerCollision(other);
         }
     }
@@ -495,163 +381,6 @@ public class FlyingEnemy {
     }
 
     private void setupPatrolBounds() {
-=======
-                updateHoverMovement(player);
-                break;
-            case DIVE_BOMB:
-                updateDiveBombMovement(player);
-                break;
-        }
-    }
-    
-    private void updateHorizontalPatrol() {
-        // Movimento horizontal simples
-        if (x <= patrolLeft) {
-            velocityX = baseSpeed;
-        } else if (x >= patrolRight) {
-            velocityX = -baseSpeed;
-        }
-        velocityY = 0;
-    }
-    
-    private void updateVerticalPatrol() {
-        // Movimento vertical simples
-        if (y <= patrolTop) {
-            velocityY = baseSpeed;
-        } else if (y >= patrolBottom) {
-            velocityY = -baseSpeed;
-        }
-        velocityX = 0;
-    }
-    
-    private void updateCircularMovement() {
-        // Movimento circular
-        float angle = (float)(patternTimer * 0.05);
-        velocityX = (float)(Math.cos(angle) * baseSpeed);
-        velocityY = (float)(Math.sin(angle) * baseSpeed);
-    }
-    
-    private void updateFigureEightMovement() {
-        // Movimento em forma de 8
-        float angle = (float)(patternTimer * 0.03);
-        velocityX = (float)(Math.cos(angle) * baseSpeed);
-        velocityY = (float)(Math.sin(angle * 2) * baseSpeed * 0.5f);
-    }
-    
-    private void updateHoverMovement(org.example.objects.Player player) {
-        // Fica parado, mas se move quando player se aproxima
-        float distanceToPlayer = (float)Math.sqrt(
-            Math.pow(x - player.x, 2) + Math.pow(y - player.y, 2)
-        );
-        
-        if (distanceToPlayer < 150) { // Player próximo
-            // Mover para longe do player
-            float angle = (float)Math.atan2(y - player.y, x - player.x);
-            velocityX = (float)(Math.cos(angle) * baseSpeed * 0.5f);
-            velocityY = (float)(Math.sin(angle) * baseSpeed * 0.5f);
-        } else {
-            // Movimento suave de hover
-            velocityX = (float)(Math.sin(patternTimer * 0.02) * baseSpeed * 0.3f);
-            velocityY = (float)(Math.cos(patternTimer * 0.02) * baseSpeed * 0.3f);
-        }
-    }
-    
-    private void updateDiveBombMovement(org.example.objects.Player player) {
-        // Mergulha em direção ao player
-        float distanceToPlayer = (float)Math.sqrt(
-            Math.pow(x - player.x, 2) + Math.pow(y - player.y, 2)
-        );
-        
-        if (distanceToPlayer < 200) { // Player no alcance
-            // Mover em direção ao player
-            float angle = (float)Math.atan2(player.y - y, player.x - x);
-            velocityX = (float)(Math.cos(angle) * baseSpeed * 1.5f);
-            velocityY = (float)(Math.sin(angle) * baseSpeed * 1.5f);
-        } else {
-            // Patrulha normal
-            updateHorizontalPatrol();
-        }
-    }
-    
-    /**
-     * Verifica colisão com o player
-     */
-    public boolean checkCollision(org.example.objects.Player player) {
-        if (!isActive) return false;
-        
-        if (hitbox.intersects(player.getHitbox())) {
-            // Aplicar dano ao player
-            // player.takeDamage(1, null);
-            // Criar efeito de impacto
-            createImpactEffect();
-            
-            return true;
-        }
-        
-        return false;
-    }
-    
-    /**
-     * Desenha o inimigo voador
-     */
-    public void draw(Graphics2D g2d) {
-        if (!isActive) return;
-        
-        // Desenhar corpo principal
-        g2d.setColor(enemyColor);
-        g2d.fillOval(x, y, width, height);
-        
-        // Desenhar asas com animação
-        drawWings(g2d);
-        
-        // Desenhar olhos
-        drawEyes(g2d);
-        
-        // Desenhar partículas
-        for (FlyingParticle particle : particles) {
-            particle.draw(g2d);
-        }
-        
-        // Efeito de brilho
-        drawGlowEffect(g2d);
-    }
-    
-    private void drawWings(Graphics2D g2d) {
-        // Asas com animação de batida
-        g2d.setColor(new Color(enemyColor.getRed(), enemyColor.getGreen(), 
-                              enemyColor.getBlue(), 150));
-        
-        // Asa esquerda
-        int wingOffset = (int)(wingFlap * 3);
-        g2d.fillOval(x - 8, y + 2 + wingOffset, 12, 8);
-        
-        // Asa direita
-        g2d.fillOval(x + width - 4, y + 2 + wingOffset, 12, 8);
-    }
-    
-    private void drawEyes(Graphics2D g2d) {
-        // Olhos brilhantes
-        g2d.setColor(new Color(255, 255, 255, 200));
-        g2d.fillOval(x + 3, y + 3, 4, 4);
-        g2d.fillOval(x + width - 7, y + 3, 4, 4);
-        
-        // Pupilas
-        g2d.setColor(new Color(0, 0, 0, 255));
-        g2d.fillOval(x + 4, y + 4, 2, 2);
-        g2d.fillOval(x + width - 6, y + 4, 2, 2);
-    }
-    
-    private void drawGlowEffect(Graphics2D g2d) {
-        // Efeito de brilho ao redor do inimigo
-        Color glowColor = new Color(enemyColor.getRed(), enemyColor.getGreen(), 
-                                  enemyColor.getBlue(), 50);
-        g2d.setColor(glowColor);
-        g2d.fillOval(x - 3, y - 3, width + 6, height + 6);
-    }
-    
-    private void setupPatrolBounds() {
-        // Configurar limites baseado no padrão
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         switch (pattern) {
             case HORIZONTAL_PATROL:
                 patrolLeft = x - 100;
@@ -661,37 +390,20 @@ public class FlyingEnemy {
                 patrolTop = y - 80;
                 patrolBottom = y + 80;
                 break;
-<<<<<<< HEAD
-=======
-            case CIRCULAR:
-            case FIGURE_EIGHT:
-                // Usar posição inicial como centro
-                break;
-            case HOVER:
-                // Não precisa de limites específicos
-                break;
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
             case DIVE_BOMB:
                 patrolLeft = x - 150;
                 patrolRight = x + 150;
                 break;
-<<<<<<< HEAD
             default:
                 break;
         }
     }
 
-=======
-        }
-    }
-    
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     private void createFlyingParticles() {
         for (int i = 0; i < 5; i++) {
             createFlyingParticle();
         }
     }
-<<<<<<< HEAD
 
     private void createFlyingParticle() {
         int particleX = (int)(x + Math.random() * width);
@@ -700,22 +412,10 @@ public class FlyingEnemy {
     }
 
     private void createImpactEffect() {
-=======
-    
-    private void createFlyingParticle() {
-        int particleX = x + (int)(Math.random() * width);
-        int particleY = y + (int)(Math.random() * height);
-        particles.add(new FlyingParticle(particleX, particleY, enemyColor));
-    }
-    
-    private void createImpactEffect() {
-        // Criar explosão de partículas quando player toca
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         for (int i = 0; i < 10; i++) {
             float angle = (float)(Math.random() * Math.PI * 2);
             float speed = 1 + (float)(Math.random() * 2);
             particles.add(new FlyingParticle(
-<<<<<<< HEAD
                     (int)(x + width/2 + Math.cos(angle) * 8),
                     (int)(y + height/2 + Math.sin(angle) * 8),
                     enemyColor,
@@ -744,44 +444,58 @@ public class FlyingEnemy {
     // ==============================
 
     public void draw(Graphics2D g2d) {
-        if (!health.isAlive()) {
-            // Desenhar apenas partículas de explosão
-            for (FlyingParticle particle : particles) {
-                particle.draw(g2d);
+        if (health.isAlive()) {
+            if (GameConfig.ANIMATIONS_ENABLED) {
+                render.render(g2d);
+            } else {
+                drawBody(g2d, (int) x, (int) y, (int) width, (int) height, enemyColor, wingFlap);
             }
-            return;
         }
+        // Vivo ou não (explosão), as partículas são desenhadas
+        drawParticles(g2d);
+    }
 
+    /**
+     * Desenha o corpo a partir de estado copiado (ex.: FrameSnapshot), sem ler a instância.
+     * As partículas vão à parte em drawParticles(); inimigo morto só desenha as partículas
+     */
+    public static void draw(Graphics2D g2d, int drawX, int drawY, int w, int h, Color enemyColor,
+                            float wingFlap, String animation, int direction) {
         if (GameConfig.ANIMATIONS_ENABLED) {
-            render.render(g2d);
-            drawParticles(g2d);
-            return;
+            SpriteRenderer.getInstance().renderAnimation(g2d, animation, drawX, drawY, GameConfig.SPRITE_SCALE, direction < 0);
+        } else {
+            drawBody(g2d, drawX, drawY, w, h, enemyColor, wingFlap);
         }
+    }
 
-        // Renderização legada
-        int drawX = (int) x;
-        int drawY = (int) y;
-        int w = (int) width;
-        int h = (int) height;
+    /**
+     * Desenha partículas copiadas (posição e cor) no intervalo [from, to)
+     */
+    public static void drawParticles(Graphics2D g2d, float[] particleX, float[] particleY, Color[] particleColor,
+                                     int from, int to) {
+        for (int i = from; i < to; i++) {
+            g2d.setColor(particleColor[i]);
+            g2d.fillOval((int) particleX[i], (int) particleY[i], 3, 3);
+        }
+    }
 
+    // Renderização legada
+    private static void drawBody(Graphics2D g2d, int drawX, int drawY, int w, int h, Color enemyColor, float wingFlap) {
         // Efeito de brilho (desenhar primeiro, atrás)
-        drawGlowEffect(g2d, drawX, drawY, w, h);
+        drawGlowEffect(g2d, drawX, drawY, w, h, enemyColor);
 
         // Desenhar corpo principal
         g2d.setColor(enemyColor);
         g2d.fillOval(drawX, drawY, w, h);
 
         // Desenhar asas
-        drawWings(g2d, drawX, drawY, w, h);
+        drawWings(g2d, drawX, drawY, w, h, enemyColor, wingFlap);
 
         // Desenhar olhos
         drawEyes(g2d, drawX, drawY, w, h);
-
-        // Desenhar partículas
-        drawParticles(g2d);
     }
 
-    private void drawWings(Graphics2D g2d, int drawX, int drawY, int w, int h) {
+    private static void drawWings(Graphics2D g2d, int drawX, int drawY, int w, int h, Color enemyColor, float wingFlap) {
         g2d.setColor(new Color(enemyColor.getRed(), enemyColor.getGreen(),
                 enemyColor.getBlue(), 150));
 
@@ -790,7 +504,7 @@ public class FlyingEnemy {
         g2d.fillOval(drawX + w - 4, drawY + 2 + wingOffset, 12, 8);
     }
 
-    private void drawEyes(Graphics2D g2d, int drawX, int drawY, int w, int h) {
+    private static void drawEyes(Graphics2D g2d, int drawX, int drawY, int w, int h) {
         g2d.setColor(new Color(255, 255, 255, 200));
         g2d.fillOval(drawX + 3, drawY + 3, 4, 4);
         g2d.fillOval(drawX + w - 7, drawY + 3, 4, 4);
@@ -800,7 +514,7 @@ public class FlyingEnemy {
         g2d.fillOval(drawX + w - 6, drawY + 4, 2, 2);
     }
 
-    private void drawGlowEffect(Graphics2D g2d, int drawX, int drawY, int w, int h) {
+    private static void drawGlowEffect(Graphics2D g2d, int drawX, int drawY, int w, int h, Color enemyColor) {
         Color glowColor = new Color(enemyColor.getRed(), enemyColor.getGreen(),
                 enemyColor.getBlue(), 50);
         g2d.setColor(glowColor);
@@ -813,6 +527,21 @@ public class FlyingEnemy {
         }
     }
 
+    /**
+     * Copia posição e cor das partículas a partir de offset (os arrays precisam ter espaço
+     * para getParticleCount() itens). Retorna o índice logo após a última copiada
+     */
+    public int copyParticles(float[] particleX, float[] particleY, Color[] particleColor, int offset) {
+        for (int i = 0; i < particles.size(); i++) {
+            FlyingParticle particle = particles.get(i);
+            particleX[offset] = particle.x;
+            particleY[offset] = particle.y;
+            particleColor[offset] = particle.color;
+            offset++;
+        }
+        return offset;
+    }
+
     // Getters
     public Rectangle getHitbox() { return collision.getHitbox(); }
     public MovementPattern getPattern() { return pattern; }
@@ -821,29 +550,13 @@ public class FlyingEnemy {
     public float getVelocityX() { return movement.getVelocityX(); }
     public float getVelocityY() { return movement.getVelocityY(); }
     public int getDirection() { return direction; }
+    public boolean isAlive() { return health.isAlive(); }
+    public Color getEnemyColor() { return enemyColor; }
+    public float getWingFlap() { return wingFlap; }
+    public String getCurrentAnimation() { return currentAnimation; }
+    public int getParticleCount() { return particles.size(); }
     
 
-=======
-                x + width/2 + (int)(Math.cos(angle) * 8),
-                y + height/2 + (int)(Math.sin(angle) * 8),
-                enemyColor,
-                (float)Math.cos(angle) * speed,
-                (float)Math.sin(angle) * speed
-            ));
-        }
-    }
-    
-    // Getters
-    public Rectangle getHitbox() { return hitbox; }
-    public boolean isActive() { return isActive; }
-    public void setActive(boolean active) { this.isActive = active; }
-    public MovementPattern getPattern() { return pattern; }
-    public int getX() { return x; }
-    public int getY() { return y; }
-    public int getWidth() { return width; }
-    public int getHeight() { return height; }
-    
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     /**
      * Classe interna para partículas do inimigo voador
      */
@@ -852,70 +565,38 @@ public class FlyingEnemy {
         private float velocityX, velocityY;
         private int life;
         private Color color;
-<<<<<<< HEAD
 
         public FlyingParticle(int x, int y, Color baseColor) {
             this(x, y, baseColor, (float)(Math.random() * 1 - 0.5), (float)(Math.random() * 1 - 0.5));
         }
 
-=======
-        
-        public FlyingParticle(int x, int y, Color baseColor) {
-            this(x, y, baseColor, (float)(Math.random() * 1 - 0.5), (float)(Math.random() * 1 - 0.5));
-        }
-        
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         public FlyingParticle(int x, int y, Color baseColor, float velocityX, float velocityY) {
             this.x = x;
             this.y = y;
             this.velocityX = velocityX;
             this.velocityY = velocityY;
             this.life = 25 + (int)(Math.random() * 15);
-<<<<<<< HEAD
             this.color = new Color(baseColor.getRed(), baseColor.getGreen(),
                     baseColor.getBlue(), 120);
         }
 
-=======
-            this.color = new Color(baseColor.getRed(), baseColor.getGreen(), 
-                                 baseColor.getBlue(), 120);
-        }
-        
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         public void update() {
             x += velocityX;
             y += velocityY;
             life--;
-<<<<<<< HEAD
 
-=======
-            
-            // Fade out
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
             int alpha = (int)(120 * (life / 40.0f));
             if (alpha < 0) alpha = 0;
             color = new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha);
         }
-<<<<<<< HEAD
 
-=======
-        
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         public void draw(Graphics2D g2d) {
             g2d.setColor(color);
             g2d.fillOval((int)x, (int)y, 3, 3);
         }
-<<<<<<< HEAD
 
-=======
-        
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         public boolean isExpired() {
             return life <= 0;
         }
     }
-<<<<<<< HEAD
-}
-=======
 }
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
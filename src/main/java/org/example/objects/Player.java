@@ -16,6 +16,7 @@ import org.example.ui.GamePanel;
 public class Player extends PlayerEntity {
         public int x, y;
     public int previousY;
+    public int lastTickX, lastTickY; // Posição no início do último tick (interpolação)
     public int width = 32, height = 48;
     public int health = 100;
     public int lives = 3; // Sistema de vidas (3 vidas iniciais)
@@ -24,11 +25,7 @@ public class Player extends PlayerEntity {
     public boolean facingRight = true, isOnGround = false;
     public int animationTimer = 0, hoverOffset = 0;
 
-<<<<<<< HEAD
     // Sistema de Dash/Teleporte - VARIAVEIS CORRIGIDAS
-=======
-    // Sistema de Dash/Teleporte - VARIÁVEIS CORRIGIDAS
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     boolean dashIgnoresGravity = false; // Para dash no ar não cair
     int dashOriginalY = 0; // Para manter altura durante dash
     boolean isTeleportDash = true; // true = teleporte, false = dash normal
@@ -71,6 +68,7 @@ public class Player extends PlayerEntity {
     private AnimationManager animationManager;
     private SpriteRenderer spriteRenderer;
     private String currentAnimation;
+    private final RenderState liveRenderState = new RenderState(); // Usado pelo draw() direto
 
     // Construtor
     public Player(int startX, int startY) {
@@ -78,6 +76,8 @@ public class Player extends PlayerEntity {
         this.x = startX;
         this.y = startY;
         this.previousY = startY;
+        this.lastTickX = startX;
+        this.lastTickY = startY;
         this.hitbox = new Rectangle(x, y, width, height);
         
         // Inicializar sistema de sprites
@@ -209,7 +209,6 @@ public class Player extends PlayerEntity {
             velocityY = -10; // Força do pulo
             isOnGround = false;
             currentMode = "boost";
-<<<<<<< HEAD
 
             // ✅ SOM DO PULO (já deve estar aqui)
             try {
@@ -221,13 +220,6 @@ public class Player extends PlayerEntity {
     }
 
 
-=======
-            // REMOVIDO: não consome energia para pular
-        }
-    }
-
-    // MÉTODO DASH CORRIGIDO E COMPLETO
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     public void dash() {
         // CONDIÇÕES SIMPLIFICADAS - funciona no chão E no ar
         if (canDash && energyLevel >= DASH_ENERGY_COST && !isDashing) {
@@ -237,12 +229,9 @@ public class Player extends PlayerEntity {
             dashTimer = DASH_DURATION;
             dashCooldown = DASH_COOLDOWN_TIME;
 
-<<<<<<< HEAD
             // ✅ SOM DO DASH
             org.example.audio.AudioManager.playDashSound();
 
-=======
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
             int dashDirection = facingRight ? 1 : -1;
 
             if (isTeleportDash) {
@@ -269,7 +258,6 @@ public class Player extends PlayerEntity {
             teleportEffectTimer = 10;
 
             String location = isOnGround ? "CHÃO" : "AR";
-<<<<<<< HEAD
         } else {
             // Debug - por que o dash não funcionou?
             if (!canDash) {}
@@ -279,17 +267,6 @@ public class Player extends PlayerEntity {
     }
 
 
-=======
-            System.out.println("DASH ATIVADO no " + location + "! Posição: [" + x + ", " + y + "]");
-        } else {
-            // Debug - por que o dash não funcionou?
-            if (!canDash) System.out.println("Dash em cooldown! Resta: " + dashCooldown + " frames");
-            if (energyLevel < DASH_ENERGY_COST) System.out.println("Energia insuficiente: " + energyLevel + "/" + DASH_ENERGY_COST);
-            if (isDashing) System.out.println("Já está dashando!");
-        }
-    }
-
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     // MÉTODO UPDATE DASH CORRIGIDO
     private void updateDash() {
         // Atualizar timer do dash
@@ -304,11 +281,7 @@ public class Player extends PlayerEntity {
                     velocityX = 0; // Para o movimento no dash normal
                 }
 
-<<<<<<< HEAD
                 
-=======
-                System.out.println("DASH TERMINADO!");
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
             }
         }
 
@@ -317,10 +290,6 @@ public class Player extends PlayerEntity {
             dashCooldown--;
             if (dashCooldown <= 0) {
                 canDash = true;
-<<<<<<< HEAD
-=======
-                System.out.println("DASH DISPONÍVEL NOVAMENTE!");
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
             }
         }
 
@@ -336,10 +305,6 @@ public class Player extends PlayerEntity {
     // MÉTODO PARA ALTERNAR TIPO DE DASH
     public void toggleDashType() {
         isTeleportDash = !isTeleportDash;
-<<<<<<< HEAD
-=======
-        System.out.println("Modo dash alterado para: " + (isTeleportDash ? "TELEPORTE" : "DASH NORMAL"));
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     }
 
     private void updateDashTrails() {
@@ -376,385 +341,57 @@ public class Player extends PlayerEntity {
     }
 
     public void draw(Graphics2D g2d) {
-        if (GameConfig.ANIMATIONS_ENABLED) {
-            // Renderizar com sprite
-            drawSprite(g2d);
-        } else {
-            // Renderização legada
-            drawLegacy(g2d);
-        }
+        captureRenderState(liveRenderState);
+        liveRenderState.draw(g2d);
     }
-    
-    /**
-     * Renderiza o player usando sprites
-     */
-    private void drawSprite(Graphics2D g2d) {
-        // Renderizar sprite do player
-        boolean flipX = !facingRight;
-        spriteRenderer.renderAnimation(g2d, currentAnimation, x, y, GameConfig.SPRITE_SCALE, flipX);
-        
-        // Renderizar efeitos visuais adicionais se necessário
-        if (isTakingDamage) {
-            // Efeito de dano (piscar)
-            int alpha = (damageEffectTimer % 10 < 5) ? 100 : 255;
-            g2d.setComposite(java.awt.AlphaComposite.getInstance(java.awt.AlphaComposite.SRC_OVER, alpha / 255.0f));
-            spriteRenderer.renderAnimation(g2d, currentAnimation, x, y, GameConfig.SPRITE_SCALE, flipX);
-            g2d.setComposite(java.awt.AlphaComposite.getInstance(java.awt.AlphaComposite.SRC_OVER, 1.0f));
-        }
-    }
-    
+
     /**
-     * Renderização legada com formas geométricas
+     * Copia o estado de desenho para state (chamado pela thread do jogo ao publicar o snapshot)
      */
-    private void drawLegacy(Graphics2D g2d) {
-        // Salvar configurações originais
-        Color originalColor = g2d.getColor();
-        BasicStroke originalStroke = (BasicStroke) g2d.getStroke();
-
-        // Efeito visual de dano (piscar vermelho)
-        if (isTakingDamage) {
-            int alpha = (damageEffectTimer % 10 < 5) ? 100 : 255;
-            g2d.setComposite(java.awt.AlphaComposite.getInstance(java.awt.AlphaComposite.SRC_OVER, alpha / 255.0f));
-        }
-
-        // Aplicar offset de flutuação
-        int drawY = y + hoverOffset;
-
-        // Desenhar efeitos de partículas primeiro (atrás do personagem)
-        drawParticleEffects(g2d, drawY);
-
-        // Jetpack (atrás do corpo)
-        drawJetpack(g2d, drawY);
-
-        // CORPO PRINCIPAL (torso com gradiente metálico)
-        GradientPaint metal = new GradientPaint(x + 6, drawY + 10, bodyColor.brighter(), x + 26, drawY + 40, bodyColor.darker());
-        g2d.setPaint(metal);
-        g2d.fillRoundRect(x + 6, drawY + 12, 20, 26, 6, 6);
-
-        // Contorno do corpo com leve brilho azul
-        g2d.setColor(new Color(primaryColor.getRed(), primaryColor.getGreen(), primaryColor.getBlue(), 180));
-        g2d.setStroke(new BasicStroke(2));
-        g2d.drawRoundRect(x + 6, drawY + 12, 20, 26, 6, 6);
-
-        // CABEÇA (formato de capacete futurista)
-        drawHead(g2d, drawY);
-
-        // DETALHES DO PEITO (linha central de energia pulsante)
-        drawChestEnergyLine(g2d, drawY);
-
-        // BRAÇOS (robóticos retos)
-        drawArms(g2d, drawY);
-
-        // PERNAS (propulsores)
-        drawLegs(g2d, drawY);
-
-        // EFEITOS VISUAIS (aura, luzes)
-        drawVisualEffects(g2d, drawY);
-
-        // HUD (indicador de energia)
-        drawEnergyHUD(g2d, drawY);
-
-        // Restaurar configurações originais
-        g2d.setColor(originalColor);
-        g2d.setStroke(originalStroke);
-    }
-
-    private void drawHead(Graphics2D g2d, int drawY) {
-        // Base da cabeça (metálica)
-        g2d.setColor(bodyColor.brighter());
-        g2d.fillRoundRect(x + 6, drawY + 2, 20, 18, 8, 8);
-
-        // Olhos digitais (retângulos luminosos que mudam com facingRight)
-        int eyeWidth = 4;
-        int eyeHeight = 3;
-        int eyeY = drawY + 8;
-        int eyeLeftX = facingRight ? x + 12 : x + 9;
-        int eyeRightX = facingRight ? x + 18 : x + 15;
-
-        // Glow do olho
-        Color eyeGlow = new Color(primaryColor.getRed(), primaryColor.getGreen(), primaryColor.getBlue(), 180);
-        g2d.setColor(eyeGlow);
-        g2d.fillRoundRect(eyeLeftX - 1, eyeY - 1, eyeWidth + 2, eyeHeight + 2, 4, 4);
-        g2d.fillRoundRect(eyeRightX - 1, eyeY - 1, eyeWidth + 2, eyeHeight + 2, 4, 4);
-
-        // Núcleo dos olhos
-        g2d.setColor(Color.WHITE);
-        g2d.fillRect(eyeLeftX, eyeY, eyeWidth, eyeHeight);
-        g2d.fillRect(eyeRightX, eyeY, eyeWidth, eyeHeight);
-
-        // Sutil reflexo horizontal
-        g2d.setColor(new Color(255, 255, 255, 120));
-        g2d.fillRect(x + 8, drawY + 6, 16, 1);
-    }
-
-    private void drawChestEnergyLine(Graphics2D g2d, int drawY) {
-        // Linha vertical central com pulso e glow azul
-        int centerX = x + 16;
-        int topY = drawY + 14;
-        int bottomY = drawY + 34;
-
-        // Glow externo pulsante
-        int glowPhase = (int)(Math.abs(Math.sin(animationTimer * 0.2)) * 40) + 40; // 40-80 alpha
-        g2d.setColor(new Color(primaryColor.getRed(), primaryColor.getGreen(), primaryColor.getBlue(), glowPhase));
-        g2d.setStroke(new BasicStroke(4));
-        g2d.drawLine(centerX, topY, centerX, bottomY);
-
-        // Núcleo da linha
-        g2d.setColor(new Color(200, 240, 255));
-        g2d.setStroke(new BasicStroke(2));
-        g2d.drawLine(centerX, topY, centerX, bottomY);
-
-        // Pulso correndo pela linha
-        double t = (animationTimer * 0.25) % (bottomY - topY);
-        int pulseY = (int)(topY + t);
-        g2d.setColor(new Color(0, 255, 255, 200));
-        g2d.fillOval(centerX - 2, pulseY - 2, 4, 4);
-    }
-
-    private void drawArms(Graphics2D g2d, int drawY) {
-        // Braços robóticos retos (aparência mecânica)
-        g2d.setColor(bodyColor);
-        // Segmentos retos verticais ao lado do torso
-        g2d.fillRoundRect(x + 2, drawY + 16, 6, 14, 2, 2);   // Esquerdo
-        g2d.fillRoundRect(x + 24, drawY + 16, 6, 14, 2, 2);  // Direito
-
-        // Juntas metálicas
-        g2d.setColor(bodyColor.darker());
-        g2d.fillRect(x + 3, drawY + 22, 4, 2);
-        g2d.fillRect(x + 25, drawY + 22, 4, 2);
-
-        // Detalhe neon azul
-        g2d.setColor(new Color(primaryColor.getRed(), primaryColor.getGreen(), primaryColor.getBlue(), 180));
-        g2d.fillRect(x + 4, drawY + 18, 2, 10);
-        g2d.fillRect(x + 26, drawY + 18, 2, 10);
-    }
-
-    private void drawJetpack(Graphics2D g2d, int drawY) {
-        // Mochila a jato centralizada nas costas
-        int packX = x + 10;
-        int packY = drawY + 18;
-
-        // Corpo do jetpack (metálico)
-        g2d.setColor(bodyColor.darker());
-        g2d.fillRoundRect(packX, packY, 12, 12, 3, 3);
-
-        // Bocal duplo inferior
-        g2d.setColor(bodyColor);
-        g2d.fillRect(packX + 1, packY + 11, 4, 3);
-        g2d.fillRect(packX + 7, packY + 11, 4, 3);
-
-        // Chama animada (pulsando com seno)
-        double s = Math.abs(Math.sin(animationTimer * 0.25));
-        int flameLen = 6 + (int)(s * 4);
-
-        // Gradiente de chama: branco -> ciano -> azul
-        g2d.setColor(new Color(255, 255, 255, 200));
-        g2d.fillOval(packX + 1, packY + 11 + 2, 4, flameLen / 2);
-        g2d.fillOval(packX + 7, packY + 11 + 2, 4, flameLen / 2);
-
-        g2d.setColor(new Color(180, 240, 255, 200));
-        g2d.fillOval(packX + 1, packY + 11 + 2 + flameLen / 4, 4, flameLen / 2);
-        g2d.fillOval(packX + 7, packY + 11 + 2 + flameLen / 4, 4, flameLen / 2);
-
-        g2d.setColor(new Color(0, 180, 255, 160));
-        int[] flameX1 = {packX + 2, packX + 3, packX + 4};
-        int[] flameY1 = {packY + 14 + flameLen / 2, packY + 14 + flameLen, packY + 14 + flameLen / 2};
-        g2d.fillPolygon(flameX1, flameY1, 3);
-
-        int[] flameX2 = {packX + 8, packX + 9, packX + 10};
-        int[] flameY2 = {packY + 14 + flameLen / 2, packY + 14 + flameLen, packY + 14 + flameLen / 2};
-        g2d.fillPolygon(flameX2, flameY2, 3);
-    }
-
-    private void drawLegs(Graphics2D g2d, int drawY) {
-        g2d.setColor(bodyColor);
-
-        if (!isOnGround) {
-            // Pose de pulo - pernas dobradas com propulsores ativos
-            g2d.fillRoundRect(x + 9, drawY + 35, 5, 8, 2, 2);
-            g2d.fillRoundRect(x + 18, drawY + 35, 5, 8, 2, 2);
-
-            // Propulsores nos pés (chamas/energia)
-            g2d.setColor(accentColor);
-            int[] flameX1 = {x + 10, x + 13, x + 11};
-            int[] flameY1 = {drawY + 43, drawY + 47, drawY + 47};
-            g2d.fillPolygon(flameX1, flameY1, 3);
-
-            int[] flameX2 = {x + 19, x + 22, x + 20};
-            int[] flameY2 = {drawY + 43, drawY + 47, drawY + 47};
-            g2d.fillPolygon(flameX2, flameY2, 3);
-
-        } else if (Math.abs(velocityX) > 0) {
-            // Animação de corrida
-            int legOffset = (animationTimer / 6) % 2;
-
-            if (legOffset == 0) {
-                g2d.fillRoundRect(x + 8, drawY + 35, 5, 10, 2, 2);
-                g2d.fillRoundRect(x + 19, drawY + 35, 5, 10, 2, 2);
-            } else {
-                g2d.fillRoundRect(x + 10, drawY + 35, 5, 10, 2, 2);
-                g2d.fillRoundRect(x + 17, drawY + 35, 5, 10, 2, 2);
-            }
-        } else {
-            // Parado
-            g2d.fillRoundRect(x + 9, drawY + 35, 5, 10, 2, 2);
-            g2d.fillRoundRect(x + 18, drawY + 35, 5, 10, 2, 2);
-        }
-
-        // Detalhes dos pés (propulsores inativos)
-        if (isOnGround) {
-            g2d.setColor(primaryColor);
-            g2d.fillRect(x + 10, drawY + 42, 3, 2);
-            g2d.fillRect(x + 19, drawY + 42, 3, 2);
-        }
-    }
-
-    private void drawVisualEffects(Graphics2D g2d, int drawY) {
-        // Desenhar trails do dash primeiro
-        for (DashTrail trail : dashTrails) {
-            trail.draw(g2d);
-        }
-
-        // Efeito de teleporte
-        if (showTeleportEffect) {
-            drawTeleportEffect(g2d, drawY);
-        }
-
-        // EFEITO VISUAL MAIS INTENSO PARA TELEPORTE
-        if (isDashing && isTeleportDash) {
-            // Aura de teleporte mais brilhante
-            g2d.setColor(new Color(255, 255, 0, 200));
-            g2d.fillOval(x - 8, drawY - 8, width + 16, height + 16);
-
-            g2d.setColor(new Color(0, 255, 255, 150));
-            g2d.fillOval(x - 4, drawY - 4, width + 8, height + 8);
-
-            // Partículas de teleporte
-            for (int i = 0; i < 12; i++) {
-                double angle = (i * Math.PI * 2) / 12;
-                int particleX = (int)(x + width/2 + Math.cos(angle + animationTimer * 0.2) * 20);
-                int particleY = (int)(drawY + height/2 + Math.sin(angle + animationTimer * 0.2) * 20);
-
-                g2d.setColor(new Color(255, 255, 255, 200));
-                g2d.fillOval(particleX - 1, particleY - 1, 3, 3);
-            }
-        }
-
-        // Aura de energia ao redor do personagem
-        if (currentMode.equals("boost") || currentMode.equals("charging") || isDashing) {
-            Color auraColor = isDashing ? new Color(255, 255, 0, 100) : new Color(0, 255, 255, 50);
-            g2d.setColor(auraColor);
-            g2d.fillOval(x - 2, drawY - 2, width + 4, height + 4);
-
-            if (isDashing && !isTeleportDash) {
-                g2d.setColor(new Color(255, 255, 255, 150));
-                g2d.fillOval(x - 4, drawY - 4, width + 8, height + 8);
-            } else if (!isDashing) {
-                g2d.setColor(new Color(255, 0, 150, 30));
-                g2d.fillOval(x - 4, drawY - 4, width + 8, height + 8);
-            }
-        }
-
-        // Linhas de velocidade quando correndo ou em dash
-        if (Math.abs(velocityX) > 3 || isDashing) {
-            Color speedLineColor = isDashing ? new Color(255, 255, 0, 200) : new Color(255, 255, 255, 100);
-            g2d.setColor(speedLineColor);
-            g2d.setStroke(new BasicStroke(isDashing ? 3 : 2));
-
-            int lineCount = isDashing ? 5 : 3;
-            for (int i = 0; i < lineCount; i++) {
-                int lineX = facingRight ? x - 10 - (i * 8) : x + width + 10 + (i * 8);
-                int lineY = drawY + 15 + (i * 5);
-                int lineLength = isDashing ? 12 : 6;
-
-                if (facingRight) {
-                    g2d.drawLine(lineX, lineY, lineX + lineLength, lineY);
-                } else {
-                    g2d.drawLine(lineX, lineY, lineX - lineLength, lineY);
-                }
-            }
-        }
-
-        // Indicador de dash disponível
-        if (!canDash && dashCooldown > 0) {
-            drawDashCooldownIndicator(g2d, drawY);
-        }
-    }
-
-    private void drawParticleEffects(Graphics2D g2d, int drawY) {
-        // Partículas de energia flutuando
-        if (particleTimer % 20 == 0 || currentMode.equals("boost")) {
-            g2d.setColor(new Color(0, 255, 255, 150));
-
-            for (int i = 0; i < 3; i++) {
-                int particleX = x + (int)(Math.random() * width);
-                int particleY = drawY + (int)(Math.random() * height);
-                g2d.fillOval(particleX, particleY, 2, 2);
-            }
-        }
-    }
-
-    private void drawEnergyHUD(Graphics2D g2d, int drawY) {
-        // Barra de energia principal
-        g2d.setColor(Color.BLACK);
-        g2d.fillRect(x + 6, drawY - 8, 20, 3);
-
-        // Barra de energia
-        Color energyColor = energyLevel > 50 ? primaryColor :
-                energyLevel > 25 ? accentColor : secondaryColor;
-        g2d.setColor(energyColor);
-        g2d.fillRect(x + 7, drawY - 7, (energyLevel * 18) / 100, 1);
-
-<<<<<<< HEAD
-        // Indicador de dash disponível (removido)
-        // if (canDash && energyLevel >= DASH_ENERGY_COST) {
-        //     g2d.setColor(new Color(255, 255, 0, 150));
-        //     g2d.fillOval(x + width - 8, drawY - 12, 6, 6);
-        //     g2d.setColor(Color.WHITE);
-        //     g2d.drawString("D", x + width - 6, drawY - 7);
-        // }
-=======
-        // Indicador de dash disponível
-        if (canDash && energyLevel >= DASH_ENERGY_COST) {
-            g2d.setColor(new Color(255, 255, 0, 150));
-            g2d.fillOval(x + width - 8, drawY - 12, 6, 6);
-            g2d.setColor(Color.WHITE);
-            g2d.drawString("D", x + width - 6, drawY - 7);
-        }
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-    }
-
-    private void drawTeleportEffect(Graphics2D g2d, int drawY) {
-        // Círculos de energia expandindo
-        float alpha = teleportEffectTimer / 10.0f;
-        int radius = (10 - teleportEffectTimer) * 3;
-
-        g2d.setColor(new Color(1.0f, 1.0f, 0.0f, alpha * 0.8f));
-        g2d.fillOval(x + width/2 - radius, drawY + height/2 - radius, radius * 2, radius * 2);
-
-        g2d.setColor(new Color(0.0f, 1.0f, 1.0f, alpha * 0.6f));
-        g2d.fillOval(x + width/2 - radius/2, drawY + height/2 - radius/2, radius, radius);
-
-        // Partículas de energia
-        for (int i = 0; i < 8; i++) {
-            double angle = (i * Math.PI * 2) / 8;
-            int particleX = (int)(x + width/2 + Math.cos(angle) * radius * 0.8);
-            int particleY = (int)(drawY + height/2 + Math.sin(angle) * radius * 0.8);
-
-            g2d.setColor(new Color(1.0f, 1.0f, 1.0f, alpha));
-            g2d.fillOval(particleX - 2, particleY - 2, 4, 4);
+    public void captureRenderState(RenderState state) {
+        state.x = x;
+        state.y = y;
+        state.width = width;
+        state.height = height;
+        state.hoverOffset = hoverOffset;
+        state.facingRight = facingRight;
+        state.isOnGround = isOnGround;
+        state.velocityX = velocityX;
+        state.animationTimer = animationTimer;
+        state.particleTimer = particleTimer;
+        state.currentMode = currentMode;
+        state.currentAnimation = currentAnimation;
+        state.energyLevel = energyLevel;
+        state.isTakingDamage = isTakingDamage;
+        state.damageEffectTimer = damageEffectTimer;
+        state.showTeleportEffect = showTeleportEffect;
+        state.teleportEffectTimer = teleportEffectTimer;
+        state.isDashing = isDashing;
+        state.isTeleportDash = isTeleportDash;
+        state.canDash = canDash;
+        state.dashCooldown = dashCooldown;
+        state.dashCooldownTime = DASH_COOLDOWN_TIME;
+        state.primaryColor = primaryColor;
+        state.secondaryColor = secondaryColor;
+        state.accentColor = accentColor;
+        state.bodyColor = bodyColor;
+
+        int count = dashTrails.size();
+        if (state.trailX.length < count) {
+            int size = Math.max(count, state.trailX.length * 2);
+            state.trailX = new int[size];
+            state.trailY = new int[size];
+            state.trailLife = new int[size];
+            state.trailMaxLife = new int[size];
+        }
+        for (int i = 0; i < count; i++) {
+            DashTrail trail = dashTrails.get(i);
+            state.trailX[i] = trail.x;
+            state.trailY[i] = trail.y;
+            state.trailLife[i] = trail.life;
+            state.trailMaxLife[i] = trail.maxLife;
         }
-    }
-
-    private void drawDashCooldownIndicator(Graphics2D g2d, int drawY) {
-        // Círculo de cooldown
-        float progress = (float)(DASH_COOLDOWN_TIME - dashCooldown) / DASH_COOLDOWN_TIME;
-
-        g2d.setColor(new Color(255, 100, 100, 100));
-        g2d.fillOval(x + width - 8, drawY - 12, 6, 6);
-
-        g2d.setColor(new Color(255, 255, 0, (int)(255 * progress)));
-        g2d.fillArc(x + width - 8, drawY - 12, 6, 6, 90, (int)(360 * progress));
+        state.trailCount = count;
     }
 
     // Métodos para customizar aparência
@@ -836,6 +473,421 @@ public class Player extends PlayerEntity {
         return lives;
     }
 
+    /**
+     * Cópia de tudo que o desenho do player lê (posição, pose, efeitos, cores e rastros do dash).
+     * O FrameSnapshot guarda uma e desenha dela, então um tick no meio do desenho não altera o frame
+     */
+    public static class RenderState {
+        public int x, y;
+        public int width, height;
+        public int hoverOffset;
+        public boolean facingRight, isOnGround;
+        public double velocityX;
+        public int animationTimer, particleTimer;
+        public String currentMode;
+        public String currentAnimation;
+        public int energyLevel;
+        public boolean isTakingDamage;
+        public int damageEffectTimer;
+        public boolean showTeleportEffect;
+        public int teleportEffectTimer;
+        public boolean isDashing, isTeleportDash, canDash;
+        public int dashCooldown, dashCooldownTime;
+        public Color primaryColor, secondaryColor, accentColor, bodyColor;
+
+        // Rastros do dash (arrays reaproveitados)
+        int[] trailX = new int[8];
+        int[] trailY = new int[8];
+        int[] trailLife = new int[8];
+        int[] trailMaxLife = new int[8];
+        int trailCount;
+
+        /**
+         * Desenha o player a partir deste estado copiado, sem ler a instância
+         */
+        public void draw(Graphics2D g2d) {
+            if (GameConfig.ANIMATIONS_ENABLED) {
+                // Renderizar com sprite
+                drawSprite(g2d);
+            } else {
+                // Renderização legada
+                drawLegacy(g2d);
+            }
+        }
+    
+        /**
+         * Renderiza o player usando sprites
+         */
+        private void drawSprite(Graphics2D g2d) {
+            // Renderizar sprite do player
+            boolean flipX = !facingRight;
+            SpriteRenderer.getInstance().renderAnimation(g2d, currentAnimation, x, y, GameConfig.SPRITE_SCALE, flipX);
+        
+            // Renderizar efeitos visuais adicionais se necessário
+            if (isTakingDamage) {
+                // Efeito de dano (piscar)
+                int alpha = (damageEffectTimer % 10 < 5) ? 100 : 255;
+                g2d.setComposite(java.awt.AlphaComposite.getInstance(java.awt.AlphaComposite.SRC_OVER, alpha / 255.0f));
+                SpriteRenderer.getInstance().renderAnimation(g2d, currentAnimation, x, y, GameConfig.SPRITE_SCALE, flipX);
+                g2d.setComposite(java.awt.AlphaComposite.getInstance(java.awt.AlphaComposite.SRC_OVER, 1.0f));
+            }
+        }
+    
+        /**
+         * Renderização legada com formas geométricas
+         */
+        private void drawLegacy(Graphics2D g2d) {
+            // Salvar configurações originais
+            Color originalColor = g2d.getColor();
+            BasicStroke originalStroke = (BasicStroke) g2d.getStroke();
+
+            // Efeito visual de dano (piscar vermelho)
+            if (isTakingDamage) {
+                int alpha = (damageEffectTimer % 10 < 5) ? 100 : 255;
+                g2d.setComposite(java.awt.AlphaComposite.getInstance(java.awt.AlphaComposite.SRC_OVER, alpha / 255.0f));
+            }
+
+            // Aplicar offset de flutuação
+            int drawY = y + hoverOffset;
+
+            // Desenhar efeitos de partículas primeiro (atrás do personagem)
+            drawParticleEffects(g2d, drawY);
+
+            // Jetpack (atrás do corpo)
+            drawJetpack(g2d, drawY);
+
+            // CORPO PRINCIPAL (torso com gradiente metálico)
+            GradientPaint metal = new GradientPaint(x + 6, drawY + 10, bodyColor.brighter(), x + 26, drawY + 40, bodyColor.darker());
+            g2d.setPaint(metal);
+            g2d.fillRoundRect(x + 6, drawY + 12, 20, 26, 6, 6);
+
+            // Contorno do corpo com leve brilho azul
+            g2d.setColor(new Color(primaryColor.getRed(), primaryColor.getGreen(), primaryColor.getBlue(), 180));
+            g2d.setStroke(new BasicStroke(2));
+            g2d.drawRoundRect(x + 6, drawY + 12, 20, 26, 6, 6);
+
+            // CABEÇA (formato de capacete futurista)
+            drawHead(g2d, drawY);
+
+            // DETALHES DO PEITO (linha central de energia pulsante)
+            drawChestEnergyLine(g2d, drawY);
+
+            // BRAÇOS (robóticos retos)
+            drawArms(g2d, drawY);
+
+            // PERNAS (propulsores)
+            drawLegs(g2d, drawY);
+
+            // EFEITOS VISUAIS (aura, luzes)
+            drawVisualEffects(g2d, drawY);
+
+            // HUD (indicador de energia)
+            drawEnergyHUD(g2d, drawY);
+
+            // Restaurar configurações originais
+            g2d.setColor(originalColor);
+            g2d.setStroke(originalStroke);
+        }
+
+        private void drawHead(Graphics2D g2d, int drawY) {
+            // Base da cabeça (metálica)
+            g2d.setColor(bodyColor.brighter());
+            g2d.fillRoundRect(x + 6, drawY + 2, 20, 18, 8, 8);
+
+            // Olhos digitais (retângulos luminosos que mudam com facingRight)
+            int eyeWidth = 4;
+            int eyeHeight = 3;
+            int eyeY = drawY + 8;
+            int eyeLeftX = facingRight ? x + 12 : x + 9;
+            int eyeRightX = facingRight ? x + 18 : x + 15;
+
+            // Glow do olho
+            Color eyeGlow = new Color(primaryColor.getRed(), primaryColor.getGreen(), primaryColor.getBlue(), 180);
+            g2d.setColor(eyeGlow);
+            g2d.fillRoundRect(eyeLeftX - 1, eyeY - 1, eyeWidth + 2, eyeHeight + 2, 4, 4);
+            g2d.fillRoundRect(eyeRightX - 1, eyeY - 1, eyeWidth + 2, eyeHeight + 2, 4, 4);
+
+            // Núcleo dos olhos
+            g2d.setColor(Color.WHITE);
+            g2d.fillRect(eyeLeftX, eyeY, eyeWidth, eyeHeight);
+            g2d.fillRect(eyeRightX, eyeY, eyeWidth, eyeHeight);
+
+            // Sutil reflexo horizontal
+            g2d.setColor(new Color(255, 255, 255, 120));
+            g2d.fillRect(x + 8, drawY + 6, 16, 1);
+        }
+
+        private void drawChestEnergyLine(Graphics2D g2d, int drawY) {
+            // Linha vertical central com pulso e glow azul
+            int centerX = x + 16;
+            int topY = drawY + 14;
+            int bottomY = drawY + 34;
+
+            // Glow externo pulsante
+            int glowPhase = (int)(Math.abs(Math.sin(animationTimer * 0.2)) * 40) + 40; // 40-80 alpha
+            g2d.setColor(new Color(primaryColor.getRed(), primaryColor.getGreen(), primaryColor.getBlue(), glowPhase));
+            g2d.setStroke(new BasicStroke(4));
+            g2d.drawLine(centerX, topY, centerX, bottomY);
+
+            // Núcleo da linha
+            g2d.setColor(new Color(200, 240, 255));
+            g2d.setStroke(new BasicStroke(2));
+            g2d.drawLine(centerX, topY, centerX, bottomY);
+
+            // Pulso correndo pela linha
+            double t = (animationTimer * 0.25) % (bottomY - topY);
+            int pulseY = (int)(topY + t);
+            g2d.setColor(new Color(0, 255, 255, 200));
+            g2d.fillOval(centerX - 2, pulseY - 2, 4, 4);
+        }
+
+        private void drawArms(Graphics2D g2d, int drawY) {
+            // Braços robóticos retos (aparência mecânica)
+            g2d.setColor(bodyColor);
+            // Segmentos retos verticais ao lado do torso
+            g2d.fillRoundRect(x + 2, drawY + 16, 6, 14, 2, 2);   // Esquerdo
+            g2d.fillRoundRect(x + 24, drawY + 16, 6, 14, 2, 2);  // Direito
+
+            // Juntas metálicas
+            g2d.setColor(bodyColor.darker());
+            g2d.fillRect(x + 3, drawY + 22, 4, 2);
+            g2d.fillRect(x + 25, drawY + 22, 4, 2);
+
+            // Detalhe neon azul
+            g2d.setColor(new Color(primaryColor.getRed(), primaryColor.getGreen(), primaryColor.getBlue(), 180));
+            g2d.fillRect(x + 4, drawY + 18, 2, 10);
+            g2d.fillRect(x + 26, drawY + 18, 2, 10);
+        }
+
+        private void drawJetpack(Graphics2D g2d, int drawY) {
+            // Mochila a jato centralizada nas costas
+            int packX = x + 10;
+            int packY = drawY + 18;
+
+            // Corpo do jetpack (metálico)
+            g2d.setColor(bodyColor.darker());
+            g2d.fillRoundRect(packX, packY, 12, 12, 3, 3);
+
+            // Bocal duplo inferior
+            g2d.setColor(bodyColor);
+            g2d.fillRect(packX + 1, packY + 11, 4, 3);
+            g2d.fillRect(packX + 7, packY + 11, 4, 3);
+
+            // Chama animada (pulsando com seno)
+            double s = Math.abs(Math.sin(animationTimer * 0.25));
+            int flameLen = 6 + (int)(s * 4);
+
+            // Gradiente de chama: branco -> ciano -> azul
+            g2d.setColor(new Color(255, 255, 255, 200));
+            g2d.fillOval(packX + 1, packY + 11 + 2, 4, flameLen / 2);
+            g2d.fillOval(packX + 7, packY + 11 + 2, 4, flameLen / 2);
+
+            g2d.setColor(new Color(180, 240, 255, 200));
+            g2d.fillOval(packX + 1, packY + 11 + 2 + flameLen / 4, 4, flameLen / 2);
+            g2d.fillOval(packX + 7, packY + 11 + 2 + flameLen / 4, 4, flameLen / 2);
+
+            g2d.setColor(new Color(0, 180, 255, 160));
+            int[] flameX1 = {packX + 2, packX + 3, packX + 4};
+            int[] flameY1 = {packY + 14 + flameLen / 2, packY + 14 + flameLen, packY + 14 + flameLen / 2};
+            g2d.fillPolygon(flameX1, flameY1, 3);
+
+            int[] flameX2 = {packX + 8, packX + 9, packX + 10};
+            int[] flameY2 = {packY + 14 + flameLen / 2, packY + 14 + flameLen, packY + 14 + flameLen / 2};
+            g2d.fillPolygon(flameX2, flameY2, 3);
+        }
+
+        private void drawLegs(Graphics2D g2d, int drawY) {
+            g2d.setColor(bodyColor);
+
+            if (!isOnGround) {
+                // Pose de pulo - pernas dobradas com propulsores ativos
+                g2d.fillRoundRect(x + 9, drawY + 35, 5, 8, 2, 2);
+                g2d.fillRoundRect(x + 18, drawY + 35, 5, 8, 2, 2);
+
+                // Propulsores nos pés (chamas/energia)
+                g2d.setColor(accentColor);
+                int[] flameX1 = {x + 10, x + 13, x + 11};
+                int[] flameY1 = {drawY + 43, drawY + 47, drawY + 47};
+                g2d.fillPolygon(flameX1, flameY1, 3);
+
+                int[] flameX2 = {x + 19, x + 22, x + 20};
+                int[] flameY2 = {drawY + 43, drawY + 47, drawY + 47};
+                g2d.fillPolygon(flameX2, flameY2, 3);
+
+            } else if (Math.abs(velocityX) > 0) {
+                // Animação de corrida
+                int legOffset = (animationTimer / 6) % 2;
+
+                if (legOffset == 0) {
+                    g2d.fillRoundRect(x + 8, drawY + 35, 5, 10, 2, 2);
+                    g2d.fillRoundRect(x + 19, drawY + 35, 5, 10, 2, 2);
+                } else {
+                    g2d.fillRoundRect(x + 10, drawY + 35, 5, 10, 2, 2);
+                    g2d.fillRoundRect(x + 17, drawY + 35, 5, 10, 2, 2);
+                }
+            } else {
+                // Parado
+                g2d.fillRoundRect(x + 9, drawY + 35, 5, 10, 2, 2);
+                g2d.fillRoundRect(x + 18, drawY + 35, 5, 10, 2, 2);
+            }
+
+            // Detalhes dos pés (propulsores inativos)
+            if (isOnGround) {
+                g2d.setColor(primaryColor);
+                g2d.fillRect(x + 10, drawY + 42, 3, 2);
+                g2d.fillRect(x + 19, drawY + 42, 3, 2);
+            }
+        }
+
+        private void drawVisualEffects(Graphics2D g2d, int drawY) {
+            // Desenhar trails do dash primeiro
+            for (int i = 0; i < trailCount; i++) {
+                drawDashTrail(g2d, i);
+            }
+
+            // Efeito de teleporte
+            if (showTeleportEffect) {
+                drawTeleportEffect(g2d, drawY);
+            }
+
+            // EFEITO VISUAL MAIS INTENSO PARA TELEPORTE
+            if (isDashing && isTeleportDash) {
+                // Aura de teleporte mais brilhante
+                g2d.setColor(new Color(255, 255, 0, 200));
+                g2d.fillOval(x - 8, drawY - 8, width + 16, height + 16);
+
+                g2d.setColor(new Color(0, 255, 255, 150));
+                g2d.fillOval(x - 4, drawY - 4, width + 8, height + 8);
+
+                // Partículas de teleporte
+                for (int i = 0; i < 12; i++) {
+                    double angle = (i * Math.PI * 2) / 12;
+                    int particleX = (int)(x + width/2 + Math.cos(angle + animationTimer * 0.2) * 20);
+                    int particleY = (int)(drawY + height/2 + Math.sin(angle + animationTimer * 0.2) * 20);
+
+                    g2d.setColor(new Color(255, 255, 255, 200));
+                    g2d.fillOval(particleX - 1, particleY - 1, 3, 3);
+                }
+            }
+
+            // Aura de energia ao redor do personagem
+            if (currentMode.equals("boost") || currentMode.equals("charging") || isDashing) {
+                Color auraColor = isDashing ? new Color(255, 255, 0, 100) : new Color(0, 255, 255, 50);
+                g2d.setColor(auraColor);
+                g2d.fillOval(x - 2, drawY - 2, width + 4, height + 4);
+
+                if (isDashing && !isTeleportDash) {
+                    g2d.setColor(new Color(255, 255, 255, 150));
+                    g2d.fillOval(x - 4, drawY - 4, width + 8, height + 8);
+                } else if (!isDashing) {
+                    g2d.setColor(new Color(255, 0, 150, 30));
+                    g2d.fillOval(x - 4, drawY - 4, width + 8, height + 8);
+                }
+            }
+
+            // Linhas de velocidade quando correndo ou em dash
+            if (Math.abs(velocityX) > 3 || isDashing) {
+                Color speedLineColor = isDashing ? new Color(255, 255, 0, 200) : new Color(255, 255, 255, 100);
+                g2d.setColor(speedLineColor);
+                g2d.setStroke(new BasicStroke(isDashing ? 3 : 2));
+
+                int lineCount = isDashing ? 5 : 3;
+                for (int i = 0; i < lineCount; i++) {
+                    int lineX = facingRight ? x - 10 - (i * 8) : x + width + 10 + (i * 8);
+                    int lineY = drawY + 15 + (i * 5);
+                    int lineLength = isDashing ? 12 : 6;
+
+                    if (facingRight) {
+                        g2d.drawLine(lineX, lineY, lineX + lineLength, lineY);
+                    } else {
+                        g2d.drawLine(lineX, lineY, lineX - lineLength, lineY);
+                    }
+                }
+            }
+
+            // Indicador de dash disponível
+            if (!canDash && dashCooldown > 0) {
+                drawDashCooldownIndicator(g2d, drawY);
+            }
+        }
+
+        private void drawParticleEffects(Graphics2D g2d, int drawY) {
+            // Partículas de energia flutuando
+            if (particleTimer % 20 == 0 || currentMode.equals("boost")) {
+                g2d.setColor(new Color(0, 255, 255, 150));
+
+                for (int i = 0; i < 3; i++) {
+                    int particleX = x + (int)(Math.random() * width);
+                    int particleY = drawY + (int)(Math.random() * height);
+                    g2d.fillOval(particleX, particleY, 2, 2);
+                }
+            }
+        }
+
+        private void drawEnergyHUD(Graphics2D g2d, int drawY) {
+            // Barra de energia principal
+            g2d.setColor(Color.BLACK);
+            g2d.fillRect(x + 6, drawY - 8, 20, 3);
+
+            // Barra de energia
+            Color energyColor = energyLevel > 50 ? primaryColor :
+                    energyLevel > 25 ? accentColor : secondaryColor;
+            g2d.setColor(energyColor);
+            g2d.fillRect(x + 7, drawY - 7, (energyLevel * 18) / 100, 1);
+
+            // Indicador de dash disponível (removido)
+            // if (canDash && energyLevel >= DASH_ENERGY_COST) {
+            //     g2d.setColor(new Color(255, 255, 0, 150));
+            //     g2d.fillOval(x + width - 8, drawY - 12, 6, 6);
+            //     g2d.setColor(Color.WHITE);
+            //     g2d.drawString("D", x + width - 6, drawY - 7);
+            // }
+        }
+
+        private void drawTeleportEffect(Graphics2D g2d, int drawY) {
+            // Círculos de energia expandindo
+            float alpha = teleportEffectTimer / 10.0f;
+            int radius = (10 - teleportEffectTimer) * 3;
+
+            g2d.setColor(new Color(1.0f, 1.0f, 0.0f, alpha * 0.8f));
+            g2d.fillOval(x + width/2 - radius, drawY + height/2 - radius, radius * 2, radius * 2);
+
+            g2d.setColor(new Color(0.0f, 1.0f, 1.0f, alpha * 0.6f));
+            g2d.fillOval(x + width/2 - radius/2, drawY + height/2 - radius/2, radius, radius);
+
+            // Partículas de energia
+            for (int i = 0; i < 8; i++) {
+                double angle = (i * Math.PI * 2) / 8;
+                int particleX = (int)(x + width/2 + Math.cos(angle) * radius * 0.8);
+                int particleY = (int)(drawY + height/2 + Math.sin(angle) * radius * 0.8);
+
+                g2d.setColor(new Color(1.0f, 1.0f, 1.0f, alpha));
+                g2d.fillOval(particleX - 2, particleY - 2, 4, 4);
+            }
+        }
+
+        private void drawDashTrail(Graphics2D g2d, int i) {
+            float alpha = (float)trailLife[i] / trailMaxLife[i];
+
+            g2d.setColor(new Color(0.0f, 1.0f, 1.0f, alpha * 0.7f));
+            g2d.fillOval(trailX[i], trailY[i], width, height);
+
+            g2d.setColor(new Color(1.0f, 1.0f, 0.0f, alpha * 0.5f));
+            g2d.fillOval(trailX[i] + 2, trailY[i] + 2, width - 4, height - 4);
+        }
+
+        private void drawDashCooldownIndicator(Graphics2D g2d, int drawY) {
+            // Círculo de cooldown
+            float progress = (float)(dashCooldownTime - dashCooldown) / dashCooldownTime;
+
+            g2d.setColor(new Color(255, 100, 100, 100));
+            g2d.fillOval(x + width - 8, drawY - 12, 6, 6);
+
+            g2d.setColor(new Color(255, 255, 0, (int)(255 * progress)));
+            g2d.fillArc(x + width - 8, drawY - 12, 6, 6, 90, (int)(360 * progress));
+        }
+    }
+
     // Classe interna para trails do dash
     private class DashTrail {
         int x, y;
@@ -856,15 +908,5 @@ public class Player extends PlayerEntity {
         public boolean isExpired() {
             return life <= 0;
         }
-
-        public void draw(Graphics2D g2d) {
-            float alpha = (float)life / maxLife;
-
-            g2d.setColor(new Color(0.0f, 1.0f, 1.0f, alpha * 0.7f));
-            g2d.fillOval(x, y, width, height);
-
-            g2d.setColor(new Color(1.0f, 1.0f, 0.0f, alpha * 0.5f));
-            g2d.fillOval(x + 2, y + 2, width - 4, height - 4);
-        }
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package org.example.systems;
 import org.example.components.*;
 import org.example.entities.PlayerEntity;
 import org.example.entities.EnemyEntity;
+import org.example.entities.EnergyOrbEntity;
 import org.example.ui.GameConfig;
 import org.example.world.Platform;
 
@@ -20,7 +21,14 @@ public class ComponentPhysicsEngine {
      * @param entity entidade a receber gravidade
      */
     public static void applyGravity(Entity entity) {
-        MovementComponent movement = entity.getComponent(MovementComponent.class);
+        applyGravity(entity.getComponent(MovementComponent.class));
+    }
+
+    /**
+     * Aplica gravidade direto no componente (sem busca no HashMap da entidade)
+     * @param movement componente de movimento (pode ser null)
+     */
+    public static void applyGravity(MovementComponent movement) {
         if (movement != null && movement.isActive()) {
             movement.applyForceY((float) GameConfig.GRAVITY);
             
@@ -37,9 +45,15 @@ public class ComponentPhysicsEngine {
      * @param platforms lista de plataformas
      */
     public static void checkPlayerPlatformCollisions(PlayerEntity player, List<Platform> platforms) {
-        MovementComponent movement = player.getComponent(MovementComponent.class);
-        CollisionComponent collision = player.getComponent(CollisionComponent.class);
-        
+        checkPlayerPlatformCollisions(player, player.getComponent(MovementComponent.class),
+                player.getComponent(CollisionComponent.class), platforms);
+    }
+
+    /**
+     * Mesma verificação, com os componentes já resolvidos (ex.: guardados no MovementBatch)
+     */
+    public static void checkPlayerPlatformCollisions(PlayerEntity player, MovementComponent movement,
+                                                     CollisionComponent collision, List<Platform> platforms) {
         if (movement == null || collision == null) return;
         
         movement.setOnGround(false);
@@ -51,8 +65,12 @@ public class ComponentPhysicsEngine {
         player.x += movement.getVelocityX();
         collision.update(0); // Atualizar hitbox
         
+        // Camada que ignora plataformas pula as duas varreduras
+        boolean solidPlatforms = collision.collidesWith(CollisionLayers.PLATFORM);
+
         // Verificar colisões horizontais
-        for (Platform platform : platforms) {
+        for (int i = 0; solidPlatforms && i < platforms.size(); i++) {
+            Platform platform = platforms.get(i);
             if (collision.checkCollision(platform.getHitbox())) {
                 // Colisão horizontal - reverter movimento X
                 player.x = oldX;
@@ -67,7 +85,8 @@ public class ComponentPhysicsEngine {
         collision.update(0);
         
         // Verificar colisões verticais
-        for (Platform platform : platforms) {
+        for (int i = 0; solidPlatforms && i < platforms.size(); i++) {
+            Platform platform = platforms.get(i);
             if (collision.checkCollision(platform.getHitbox())) {
                 if (movement.getVelocityY() > 0) {
                     // Colisão por baixo - player está no chão
@@ -91,19 +110,25 @@ public class ComponentPhysicsEngine {
      * @param platforms lista de plataformas
      */
     public static void checkEnemyPlatformCollisions(EnemyEntity enemy, List<Platform> platforms) {
-        MovementComponent movement = enemy.getComponent(MovementComponent.class);
-        CollisionComponent collision = enemy.getComponent(CollisionComponent.class);
-        
+        checkEnemyPlatformCollisions(enemy, enemy.getComponent(MovementComponent.class),
+                enemy.getComponent(CollisionComponent.class), platforms);
+    }
+
+    /**
+     * Mesma verificação, com os componentes já resolvidos (ex.: guardados no MovementBatch)
+     */
+    public static void checkEnemyPlatformCollisions(EnemyEntity enemy, MovementComponent movement,
+                                                    CollisionComponent collision, List<Platform> platforms) {
         if (movement == null || collision == null) return;
         
         movement.setOnGround(false);
         
         // Aplicar gravidade ao enemy
-        applyGravity(enemy);
+        applyGravity(movement);
         
-        // Verificar colisões com plataformas
+        // Verificar colisões com plataformas (AND da camada antes de cada teste)
         for (Platform platform : platforms) {
-            if (collision.checkCollision(platform.getHitbox())) {
+            if (collision.checkCollision(platform.getHitbox(), CollisionLayers.PLATFORM)) {
                 if (movement.getVelocityY() > 0) {
                     // Enemy está no chão
                     enemy.y = platform.y - enemy.height;
@@ -115,7 +140,7 @@ public class ComponentPhysicsEngine {
         }
         
         // Prevenir enemy de cair das plataformas
-        preventEnemyFallFromPlatforms(enemy, platforms);
+        preventEnemyFallFromPlatforms(enemy, movement, platforms);
     }
     
     /**
@@ -124,7 +149,11 @@ public class ComponentPhysicsEngine {
      * @param platforms lista de plataformas
      */
     public static void preventEnemyFallFromPlatforms(EnemyEntity enemy, List<Platform> platforms) {
-        MovementComponent movement = enemy.getComponent(MovementComponent.class);
+        preventEnemyFallFromPlatforms(enemy, enemy.getComponent(MovementComponent.class), platforms);
+    }
+
+    private static void preventEnemyFallFromPlatforms(EnemyEntity enemy, MovementComponent movement,
+                                                      List<Platform> platforms) {
         if (movement == null) return;
         
         // Verificar se há plataforma à frente do enemy
@@ -202,6 +231,55 @@ public class ComponentPhysicsEngine {
         return collectedOrbs;
     }
     
+    /**
+     * Todas as colisões do tick sobre as entidades do lote, usando os componentes guardados no
+     * registro em vez de getComponent por entidade. Mesma ordem das verificações separadas:
+     * plataformas (player, depois enemies), player-enemy e player-orb.
+     * @param batch lote com player, enemies e orbs registrados
+     * @param player entidade do player (precisa estar no lote)
+     * @param platforms lista de plataformas
+     * @param collectedOrbs recebe as orbs coletadas neste tick (a remoção fica com quem chamou)
+     */
+    public static void checkBatchCollisions(MovementBatch batch, PlayerEntity player,
+                                            List<Platform> platforms, List<Entity> collectedOrbs) {
+        int playerIndex = batch.indexOf(player);
+        if (playerIndex < 0) return;
+        CollisionComponent playerCollision = batch.getCollision(playerIndex);
+        int count = batch.size();
+
+        // Plataformas
+        checkPlayerPlatformCollisions(player, batch.getMovement(playerIndex), playerCollision, platforms);
+        for (int i = 0; i < count; i++) {
+            Entity entity = batch.getEntity(i);
+            if (entity instanceof EnemyEntity) {
+                checkEnemyPlatformCollisions((EnemyEntity) entity, batch.getMovement(i), batch.getCollision(i), platforms);
+            }
+        }
+
+        if (playerCollision == null) return;
+
+        // Player-enemy
+        for (int i = 0; i < count; i++) {
+            Entity entity = batch.getEntity(i);
+            CollisionComponent collision = batch.getCollision(i);
+            if (entity instanceof EnemyEntity && collision != null && playerCollision.checkCollision(entity, collision)) {
+                playerCollision.processCollision(entity, collision);
+                collision.processCollision(player, playerCollision);
+            }
+        }
+
+        // Player-orb
+        for (int i = 0; i < count; i++) {
+            Entity entity = batch.getEntity(i);
+            CollisionComponent collision = batch.getCollision(i);
+            if (entity instanceof EnergyOrbEntity && collision != null && playerCollision.checkCollision(entity, collision)) {
+                playerCollision.processCollision(entity, collision);
+                collision.processCollision(player, playerCollision);
+                collectedOrbs.add(entity);
+            }
+        }
+    }
+
     /**
      * Verifica se uma entidade está fora dos limites do mundo
      * @param entity entidade a verificar
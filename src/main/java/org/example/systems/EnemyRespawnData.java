@@ -1,4 +1,4 @@
-package org.example.ui;
+package org.example.systems;
 
 import org.example.objects.Enemy;
 
@@ -10,16 +10,16 @@ class EnemyRespawnData {
     public double patrolLeft;
     public double patrolRight;
 
-    public EnemyRespawnData(Enemy enemy, double originalX, double originalY, double patrolLeft, double patrolRight) {
+    public EnemyRespawnData(Enemy enemy, long deathTime, double originalX, double originalY, double patrolLeft, double patrolRight) {
         this.enemy = enemy;
-        this.deathTime = System.currentTimeMillis();
+        this.deathTime = deathTime;
         this.originalX = originalX;
         this.originalY = originalY;
         this.patrolLeft = patrolLeft;
         this.patrolRight = patrolRight;
     }
 
-    public boolean shouldRespawn() {
-        return System.currentTimeMillis() - deathTime >= GamePanel.ENEMY_RESPAWN_DELAY;
+    public boolean shouldRespawn(long now) {
+        return now - deathTime >= SimulationKernel.ENEMY_RESPAWN_DELAY;
     }
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package org.example.systems;
+
+import org.example.ui.GameConfig;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Marca o ritmo dos loops (jogo e menu) com deadlines absolutos em vez de Thread.sleep fixo.
+ *
+ * Dorme de forma grosseira até perto do deadline, estaciona (parkNanos) até a janela final
+ * e gira o último pedaço de sub-milissegundo. Como o próximo deadline é calculado a partir
+ * do anterior, o atraso de um frame não se acumula nos seguintes.
+ */
+public class FramePacer {
+
+    private final long frameNanos;
+
+    private long nextDeadline = 0; // 0 = ainda não começou
+
+    // Estatísticas (escritas pela thread do loop, lidas por overlay/log)
+    private volatile long frameCount = 0;
+    private volatile long missedDeadlines = 0;
+    private volatile long lastJitterNanos = 0;
+    private volatile long maxJitterNanos = 0;
+    private long totalJitterNanos = 0;
+
+    public FramePacer() {
+        this(GameConfig.TARGET_FPS);
+    }
+
+    public FramePacer(int targetFps) {
+        if (targetFps <= 0) {
+            throw new IllegalArgumentException("targetFps deve ser positivo: " + targetFps);
+        }
+        this.frameNanos = 1_000_000_000L / targetFps;
+    }
+
+    /**
+     * Espera até o deadline do próximo frame.
+     * Se o frame já passou do deadline, conta como perdido e não espera.
+     */
+    public void waitForNextFrame() throws InterruptedException {
+        long now = System.nanoTime();
+        if (nextDeadline == 0) {
+            nextDeadline = now + frameNanos;
+        }
+
+        long deadline = nextDeadline;
+        long remaining = deadline - now;
+
+        if (remaining <= 0) {
+            missedDeadlines++;
+            recordJitter(-remaining);
+            // Mais de um frame atrasado: recomeça do agora em vez de tentar recuperar em rajada
+            nextDeadline = (-remaining > frameNanos) ? now + frameNanos : deadline + frameNanos;
+            return;
+        }
+
+        // 1. Sono grosseiro (o sleep do SO pode passar 1-2 ms do pedido)
+        if (remaining > GameConfig.PACER_SLEEP_MARGIN_NANOS) {
+            Thread.sleep((remaining - GameConfig.PACER_SLEEP_MARGIN_NANOS) / 1_000_000L);
+        }
+
+        // 2. Park curto até a janela de spin
+        while ((remaining = deadline - System.nanoTime()) > GameConfig.PACER_SPIN_NANOS) {
+            LockSupport.parkNanos(remaining - GameConfig.PACER_SPIN_NANOS);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+
+        // 3. Spin no último trecho
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        recordJitter(System.nanoTime() - deadline);
+        nextDeadline = deadline + frameNanos;
+    }
+
+    /**
+     * Descarta o deadline atual (ex: depois de uma pausa longa) sem zerar as estatísticas
+     */
+    public void resync() {
+        nextDeadline = 0;
+    }
+
+    public void resetStatistics() {
+        frameCount = 0;
+        missedDeadlines = 0;
+        lastJitterNanos = 0;
+        maxJitterNanos = 0;
+        totalJitterNanos = 0;
+    }
+
+    private void recordJitter(long jitterNanos) {
+        frameCount++;
+        lastJitterNanos = jitterNanos;
+        totalJitterNanos += jitterNanos;
+        if (jitterNanos > maxJitterNanos) {
+            maxJitterNanos = jitterNanos;
+        }
+    }
+
+    // === ESTATÍSTICAS ===
+
+    public long getFrameNanos() {
+        return frameNanos;
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    public long getMissedDeadlines() {
+        return missedDeadlines;
+    }
+
+    public double getMissRate() {
+        long frames = frameCount;
+        return frames == 0 ? 0 : (double) missedDeadlines / frames;
+    }
+
+    /**
+     * Distância (ns) entre o acordar e o deadline no último frame
+     */
+    public long getLastJitterNanos() {
+        return lastJitterNanos;
+    }
+
+    public long getAverageJitterNanos() {
+        long frames = frameCount;
+        return frames == 0 ? 0 : totalJitterNanos / frames;
+    }
+
+    public long getMaxJitterNanos() {
+        return maxJitterNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("frames=%d perdidos=%d (%.1f%%) jitter médio=%.3fms máx=%.3fms",
+                frameCount, missedDeadlines, getMissRate() * 100,
+                getAverageJitterNanos() / 1_000_000.0, maxJitterNanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,211 @@
+package org.example.systems;
+
+import java.util.Arrays;
+
+/**
+ * Medição de tempo por etapa do frame (update e render) com janelas móveis de min/média/p99.
+ *
+ * Cada etapa grava em um buffer circular próprio com System.nanoTime(), sem alocar nada
+ * durante o jogo. Vários trechos begin/end da mesma etapa num tick são somados e viram uma
+ * amostra em endUpdate()/endRender(). As etapas de update são gravadas pela thread da simulação
+ * e as de render pela thread que desenha. A gravação das amostras, as leituras (overlay, log) e
+ * o reset() usam o mesmo lock (o do profiler), um por tick/frame; os acumuladores de begin/end
+ * ficam fora dele porque cada etapa só é medida pela sua própria thread.
+ */
+public class FrameProfiler {
+
+    public enum Stage {
+        // Update
+        INPUT("input"),
+        PHYSICS("physics"),
+        ORBS("orbs"),
+        ENEMIES("enemies"),
+        FLYING_ENEMIES("flying"),
+        WORLD("world gen"),
+        BACKGROUND("background"),
+        PARTICLES("particles"),
+        CAMERA("camera"),
+        // Render
+        RENDER_BACKGROUND("r.background"),
+        RENDER_PLATFORMS("r.platforms"),
+        RENDER_ORBS("r.orbs"),
+        RENDER_ENEMIES("r.enemies"),
+        RENDER_PLAYER("r.player"),
+        RENDER_PARTICLES("r.particles"),
+        RENDER_HUD("r.hud");
+
+        // Primeira etapa de render (as anteriores são de update)
+        private static final int FIRST_RENDER = RENDER_BACKGROUND.ordinal();
+
+        private final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    // Tamanho da janela móvel (~4 segundos a 60 ticks/s)
+    public static final int WINDOW_SIZE = 240;
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final long[][] samples = new long[STAGES.length][WINDOW_SIZE];
+    private final int[] writeIndex = new int[STAGES.length];
+    private final int[] sampleCount = new int[STAGES.length];
+    private final long[] startTimes = new long[STAGES.length];
+    private final long[] pending = new long[STAGES.length];
+    private final boolean[] touched = new boolean[STAGES.length];
+    private final boolean[] open = new boolean[STAGES.length];
+
+    // Janelas (samples, writeIndex, sampleCount) e a cópia ordenada para o p99: só com o lock do profiler
+    private final long[] sorted = new long[WINDOW_SIZE];
+
+    private volatile boolean enabled = true;
+
+    /**
+     * Marca o início de uma etapa
+     */
+    public void begin(Stage stage) {
+        if (!enabled) return;
+        startTimes[stage.ordinal()] = System.nanoTime();
+        open[stage.ordinal()] = true;
+    }
+
+    /**
+     * Marca o fim de uma etapa iniciada com begin() (soma ao total do tick/frame atual)
+     */
+    public void end(Stage stage) {
+        if (!enabled) return;
+        int s = stage.ordinal();
+        pending[s] += System.nanoTime() - startTimes[s];
+        touched[s] = true;
+        open[s] = false;
+    }
+
+    /**
+     * Fecha as etapas que ficaram abertas (um tick interrompido por exceção não pula o end())
+     */
+    public void endOpenStages() {
+        for (int s = 0; s < STAGES.length; s++) {
+            if (open[s]) {
+                end(STAGES[s]);
+            }
+        }
+    }
+
+    /**
+     * Fecha o tick: grava uma amostra para cada etapa de update medida
+     */
+    public void endUpdate() {
+        commit(0, Stage.FIRST_RENDER);
+    }
+
+    /**
+     * Fecha o frame desenhado: grava uma amostra para cada camada de render medida
+     */
+    public void endRender() {
+        commit(Stage.FIRST_RENDER, STAGES.length);
+    }
+
+    private synchronized void commit(int from, int to) {
+        for (int s = from; s < to; s++) {
+            if (touched[s]) {
+                record(STAGES[s], pending[s]);
+                pending[s] = 0;
+                touched[s] = false;
+            }
+        }
+    }
+
+    /**
+     * Grava uma duração já medida
+     */
+    public synchronized void record(Stage stage, long nanos) {
+        int s = stage.ordinal();
+        int index = writeIndex[s];
+        samples[s][index] = nanos;
+        writeIndex[s] = (index + 1) % WINDOW_SIZE;
+        if (sampleCount[s] < WINDOW_SIZE) {
+            sampleCount[s]++;
+        }
+    }
+
+    public synchronized long getMinNanos(Stage stage) {
+        int s = stage.ordinal();
+        int count = sampleCount[s];
+        if (count == 0) return 0;
+
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, samples[s][i]);
+        }
+        return min;
+    }
+
+    public synchronized long getAverageNanos(Stage stage) {
+        int s = stage.ordinal();
+        int count = sampleCount[s];
+        if (count == 0) return 0;
+
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += samples[s][i];
+        }
+        return total / count;
+    }
+
+    public synchronized long getP99Nanos(Stage stage) {
+        int s = stage.ordinal();
+        int count = sampleCount[s];
+        if (count == 0) return 0;
+
+        System.arraycopy(samples[s], 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        int index = (int) Math.ceil(count * 0.99) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    public synchronized int getSampleCount(Stage stage) {
+        return sampleCount[stage.ordinal()];
+    }
+
+    /**
+     * Descarta todas as amostras (ex: ao reiniciar o jogo). Um tick/frame em andamento não é
+     * cortado: a medição dele entra como primeira amostra da janela nova
+     */
+    public synchronized void reset() {
+        for (int s = 0; s < STAGES.length; s++) {
+            writeIndex[s] = 0;
+            sampleCount[s] = 0;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Resumo em texto (uma linha por etapa, tempos em ms) para log, lido de uma vez sob o lock
+     */
+    public synchronized String formatSummary() {
+        StringBuilder sb = new StringBuilder("=== FRAME PROFILER (min / avg / p99 ms) ===\n");
+        for (Stage stage : STAGES) {
+            if (getSampleCount(stage) == 0) continue;
+            sb.append(String.format("%-14s %6.3f / %6.3f / %6.3f%n", stage.getLabel(),
+                    toMillis(getMinNanos(stage)), toMillis(getAverageNanos(stage)), toMillis(getP99Nanos(stage))));
+        }
+        return sb.toString();
+    }
+
+    public static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.systems;
+
+import org.example.ui.GameConfig;
+
+/**
+ * Relógio único do jogo: avança um passo fixo por tick da simulação, nunca pelo relógio de parede.
+ *
+ * Todos os sistemas com tempo (combos, bônus, respawn, partículas, batida da música, background)
+ * consultam este relógio, então pausar, acelerar e reproduzir uma partida funcionam igual para todos
+ * e nenhuma consulta custa uma syscall.
+ *
+ * - Pausa: advance() não faz nada enquanto pausado
+ * - Escala: cada tick vale step * scale de tempo de jogo (câmera lenta / tempo acelerado)
+ * - FIXED_STEP: tempo = soma dos passos escalados
+ * - DETERMINISTIC: tempo = ticks * step exato (escala travada em 1), igual em toda repetição
+ *
+ * A velocidade em relação ao relógio de parede (ticks por segundo real) é controlada
+ * separadamente pelo game loop (SimulationSpeed).
+ */
+public class GameClock {
+
+    public enum Mode {
+        FIXED_STEP,
+        DETERMINISTIC
+    }
+
+    private final long stepNanos;
+
+    private Mode mode = Mode.FIXED_STEP;
+    private double scale = 1.0;
+    private volatile boolean paused = false;
+
+    private volatile long tickCount = 0;
+    private volatile long timeNanos = 0;
+
+    public GameClock() {
+        this(GameConfig.TARGET_FPS);
+    }
+
+    public GameClock(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("ticksPerSecond deve ser positivo: " + ticksPerSecond);
+        }
+        this.stepNanos = 1_000_000_000L / ticksPerSecond;
+    }
+
+    /**
+     * Avança um tick (chamado uma vez por tick da simulação)
+     */
+    public void advance() {
+        if (paused) return;
+
+        tickCount++;
+        if (mode == Mode.DETERMINISTIC) {
+            timeNanos = tickCount * stepNanos;
+        } else {
+            timeNanos += Math.round(stepNanos * scale);
+        }
+    }
+
+    /**
+     * Volta o tempo para zero (novo jogo); modo, escala e pausa são mantidos
+     */
+    public void reset() {
+        tickCount = 0;
+        timeNanos = 0;
+    }
+
+    // === CONSULTAS ===
+
+    public long nowMillis() {
+        return timeNanos / 1_000_000L;
+    }
+
+    public long nowNanos() {
+        return timeNanos;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+     * Tempo de jogo de um tick em segundos (já escalado; 0 enquanto pausado)
+     */
+    public float getDeltaSeconds() {
+        if (paused) return 0f;
+        double effectiveScale = (mode == Mode.DETERMINISTIC) ? 1.0 : scale;
+        return (float) (stepNanos * effectiveScale / 1_000_000_000.0);
+    }
+
+    // === CONTROLE ===
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public double getScale() {
+        return mode == Mode.DETERMINISTIC ? 1.0 : scale;
+    }
+
+    public void setScale(double scale) {
+        if (scale <= 0) {
+            throw new IllegalArgumentException("Escala deve ser positiva: " + scale);
+        }
+        if (mode == Mode.DETERMINISTIC && scale != 1.0) {
+            throw new IllegalStateException("Escala não pode mudar no modo determinístico");
+        }
+        this.scale = scale;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Troca o modo; o determinístico recalcula o tempo a partir dos ticks e trava a escala em 1
+     */
+    public void setMode(Mode mode) {
+        this.mode = mode;
+        if (mode == Mode.DETERMINISTIC) {
+            scale = 1.0;
+            timeNanos = tickCount * stepNanos;
+        }
+    }
+}
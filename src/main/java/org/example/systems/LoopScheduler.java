@@ -0,0 +1,257 @@
+package org.example.systems;
+
+import org.example.ui.GameConfig;
+
+import java.awt.Component;
+import java.awt.Window;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Uma única thread de loop compartilhada pelos painéis (menu e jogo).
+ *
+ * Cada painel se registra com um {@link Client}. Clientes cujo componente está escondido
+ * (outra carta do CardLayout, janela minimizada) ou suspensos não rodam; quando nenhum cliente
+ * está ativo a thread dorme até um evento de visibilidade acordá-la. Se todos os ativos estão
+ * ociosos (ex: jogo pausado) o loop cai para GameConfig.IDLE_FPS.
+ */
+public class LoopScheduler {
+
+    /**
+     * Trabalho de um frame de um painel
+     */
+    public interface Client {
+        void runFrame();
+
+        /**
+         * Ocioso = só precisa rodar na taxa baixa (pausa, game over)
+         */
+        default boolean isIdle() {
+            return false;
+        }
+    }
+
+    private static LoopScheduler instance;
+
+    private final CopyOnWriteArrayList<Registration> registrations = new CopyOnWriteArrayList<>();
+    private final Object wakeLock = new Object();
+
+    private final FramePacer framePacer = new FramePacer(GameConfig.TARGET_FPS);
+    private final FramePacer idlePacer = new FramePacer(GameConfig.IDLE_FPS);
+
+    private Thread loopThread;
+
+    public static synchronized LoopScheduler getInstance() {
+        if (instance == null) {
+            instance = new LoopScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * Registra um cliente. Com componente != null o cliente só roda enquanto ele estiver
+     * visível e a janela não estiver minimizada.
+     */
+    public Registration register(String name, Component component, Client client) {
+        Registration registration = new Registration(name, component, client);
+        registrations.add(registration);
+        ensureThread();
+        wakeUp();
+        return registration;
+    }
+
+    private synchronized void ensureThread() {
+        if (loopThread != null && loopThread.isAlive()) return;
+
+        loopThread = new Thread(this::loop, "LoopScheduler");
+        loopThread.setDaemon(true);
+        loopThread.start();
+    }
+
+    private void wakeUp() {
+        synchronized (wakeLock) {
+            wakeLock.notifyAll();
+        }
+    }
+
+    private void loop() {
+        boolean wasIdle = false;
+
+        while (true) {
+            boolean anyActive = false;
+            boolean allIdle = true;
+
+            for (Registration registration : registrations) {
+                if (registration.isActive()) {
+                    anyActive = true;
+                    if (!registration.client.isIdle()) {
+                        allIdle = false;
+                    }
+                }
+            }
+
+            // Nada visível: dorme até um evento de visibilidade/registro
+            if (!anyActive) {
+                synchronized (wakeLock) {
+                    try {
+                        wakeLock.wait(500);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                framePacer.resync();
+                idlePacer.resync();
+                continue;
+            }
+
+            for (Registration registration : registrations) {
+                if (registration.isActive()) {
+                    registration.runFrame();
+                }
+            }
+
+            // Trocar de taxa recomeça os deadlines do pacer que entra
+            if (allIdle != wasIdle) {
+                (allIdle ? idlePacer : framePacer).resync();
+                wasIdle = allIdle;
+            }
+
+            try {
+                (allIdle ? idlePacer : framePacer).waitForNextFrame();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Pacer do ritmo normal (estatísticas de deadline perdido e jitter)
+     */
+    public FramePacer getFramePacer() {
+        return framePacer;
+    }
+
+    public FramePacer getIdlePacer() {
+        return idlePacer;
+    }
+
+    /**
+     * Inscrição de um cliente no scheduler
+     */
+    public class Registration {
+        private final String name;
+        private final Component component;
+        private final Client client;
+
+        private volatile boolean registered = true;
+        private volatile boolean suspended = false;
+        private volatile boolean showing;
+        private volatile boolean minimized = false;
+
+        private Window observedWindow;
+        private final WindowAdapter windowListener = new WindowAdapter() {
+            @Override
+            public void windowIconified(WindowEvent e) {
+                minimized = true;
+            }
+
+            @Override
+            public void windowDeiconified(WindowEvent e) {
+                minimized = false;
+                wakeUp();
+            }
+        };
+
+        private final java.awt.event.HierarchyListener hierarchyListener = e -> {
+            if ((e.getChangeFlags() & (HierarchyEvent.SHOWING_CHANGED | HierarchyEvent.PARENT_CHANGED)) != 0) {
+                updateVisibility();
+            }
+        };
+
+        private Registration(String name, Component component, Client client) {
+            this.name = name;
+            this.component = component;
+            this.client = client;
+
+            if (component != null) {
+                component.addHierarchyListener(hierarchyListener);
+                updateVisibility();
+            } else {
+                showing = true;
+            }
+        }
+
+        private void updateVisibility() {
+            showing = component.isShowing();
+
+            // Acompanhar minimizar/restaurar da janela que contém o componente
+            Window window = javax.swing.SwingUtilities.getWindowAncestor(component);
+            if (window != observedWindow) {
+                if (observedWindow != null) {
+                    observedWindow.removeWindowListener(windowListener);
+                }
+                observedWindow = window;
+                if (window != null) {
+                    window.addWindowListener(windowListener);
+                }
+            }
+
+            if (showing) {
+                wakeUp();
+            }
+        }
+
+        boolean isActive() {
+            return registered && !suspended && showing && !minimized;
+        }
+
+        private synchronized void runFrame() {
+            if (!isActive()) return;
+            try {
+                client.runFrame();
+            } catch (Exception e) {
+                System.err.println("Erro no loop '" + name + "': " + e.getMessage());
+            }
+        }
+
+        /**
+         * Suspende/retoma o cliente independente da visibilidade
+         */
+        public void setSuspended(boolean suspended) {
+            this.suspended = suspended;
+            if (!suspended) {
+                wakeUp();
+            }
+        }
+
+        public boolean isSuspended() {
+            return suspended;
+        }
+
+        /**
+         * Remove o cliente. Chamado de outra thread, espera o frame em andamento terminar.
+         */
+        public void unregister() {
+            registered = false;
+            registrations.remove(this);
+
+            if (component != null) {
+                component.removeHierarchyListener(hierarchyListener);
+            }
+            if (observedWindow != null) {
+                observedWindow.removeWindowListener(windowListener);
+                observedWindow = null;
+            }
+
+            synchronized (this) {
+                // Nada: só garante que runFrame() não está rodando ao retornar
+            }
+        }
+
+        public boolean isRegistered() {
+            return registered;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package org.example.systems;
+
+import org.example.components.CollisionComponent;
+import org.example.components.Entity;
+import org.example.components.MovementComponent;
+import org.example.ui.GameConfig;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * Movimento em lote para todas as entidades com MovementComponent.
+ *
+ * Em vez de cada entidade buscar o componente no HashMap e integrar sozinha, o lote guarda as
+ * referências uma vez (no registro) e mantém posição, velocidade, forças e flags em arrays densos.
+ * A cada tick: copia o estado dos componentes para os arrays, roda gravidade, limite de velocidade
+ * terminal, integração e atrito em laços simples sobre os arrays e devolve tudo de uma vez
+ * (componentes, posição da entidade e hitbox).
+ *
+ * Componentes registrados ficam marcados como "batched": o MovementComponent.update() deles não
+ * integra mais, para o movimento não ser aplicado duas vezes. Os mesmos componentes guardados no
+ * registro servem à passada de colisões (ComponentPhysicsEngine.checkBatchCollisions).
+ */
+public class MovementBatch {
+
+    private static final float DIRECTION_THRESHOLD = 0.1f;
+
+    private Entity[] entities = new Entity[16];
+    private MovementComponent[] movements = new MovementComponent[16];
+    private CollisionComponent[] collisions = new CollisionComponent[16];
+    private int count = 0;
+    private final IdentityHashMap<Entity, Integer> slots = new IdentityHashMap<>(); // Entidade -> índice
+
+    // Estado copiado dos componentes a cada tick
+    private float[] x = new float[16];
+    private float[] y = new float[16];
+    private float[] velocityX = new float[16];
+    private float[] velocityY = new float[16];
+    private float[] forceX = new float[16];
+    private float[] forceY = new float[16];
+    private float[] maxSpeed = new float[16];
+    private float[] friction = new float[16];
+    private boolean[] gravity = new boolean[16];    // Recebe gravidade (player e inimigos, não orbs)
+    private boolean[] simulated = new boolean[16];  // Componente ativo (recebe gravidade)
+    private boolean[] moving = new boolean[16];     // Entidade ativa + componente ativo + canMove
+    private boolean[] onGround = new boolean[16];
+    private boolean[] facingRight = new boolean[16];
+
+    // === REGISTRO ===
+
+    /**
+     * Registra uma entidade (ignorada se não tiver MovementComponent)
+     * @param entity entidade
+     * @param affectedByGravity se recebe gravidade a cada tick
+     */
+    public void add(Entity entity, boolean affectedByGravity) {
+        MovementComponent movement = entity.getComponent(MovementComponent.class);
+        if (movement == null || slots.containsKey(entity)) return;
+
+        if (count == entities.length) {
+            grow();
+        }
+        entities[count] = entity;
+        movements[count] = movement;
+        collisions[count] = entity.getComponent(CollisionComponent.class);
+        gravity[count] = affectedByGravity;
+        slots.put(entity, count);
+        movement.setBatched(true);
+        count++;
+    }
+
+    public void remove(Entity entity) {
+        Integer slot = slots.remove(entity);
+        if (slot == null) return;
+        int index = slot;
+
+        movements[index].setBatched(false);
+
+        // Troca com o último (a ordem não importa para a integração)
+        int last = --count;
+        if (index != last) {
+            slots.put(entities[last], index);
+        }
+        entities[index] = entities[last];
+        movements[index] = movements[last];
+        collisions[index] = collisions[last];
+        gravity[index] = gravity[last];
+        entities[last] = null;
+        movements[last] = null;
+        collisions[last] = null;
+    }
+
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            movements[i].setBatched(false);
+        }
+        Arrays.fill(entities, 0, count, null);
+        Arrays.fill(movements, 0, count, null);
+        Arrays.fill(collisions, 0, count, null);
+        slots.clear();
+        count = 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Índice da entidade no lote (-1 se não registrada). Muda quando outra entidade é removida
+     */
+    public int indexOf(Entity entity) {
+        Integer slot = slots.get(entity);
+        return slot == null ? -1 : slot;
+    }
+
+    public Entity getEntity(int index) {
+        return entities[index];
+    }
+
+    public MovementComponent getMovement(int index) {
+        return movements[index];
+    }
+
+    /**
+     * CollisionComponent guardado no registro (null se a entidade não tiver)
+     */
+    public CollisionComponent getCollision(int index) {
+        return collisions[index];
+    }
+
+    // === TICK ===
+
+    /**
+     * Gravidade + integração de todas as entidades registradas
+     * @param deltaTime tempo do tick (mesma unidade do MovementComponent.update)
+     */
+    public void step(float deltaTime) {
+        gather();
+        applyGravity();
+        integrate(deltaTime);
+        writeBack();
+    }
+
+    private void gather() {
+        for (int i = 0; i < count; i++) {
+            Entity entity = entities[i];
+            MovementComponent movement = movements[i];
+            x[i] = entity.x;
+            y[i] = entity.y;
+            velocityX[i] = movement.velocityX;
+            velocityY[i] = movement.velocityY;
+            forceX[i] = movement.getForceX();
+            forceY[i] = movement.getForceY();
+            maxSpeed[i] = movement.maxSpeed;
+            friction[i] = movement.friction;
+            onGround[i] = movement.isOnGround;
+            facingRight[i] = movement.facingRight;
+            simulated[i] = movement.isActive();
+            moving[i] = simulated[i] && movement.canMove && entity.isActive();
+        }
+    }
+
+    // Mesma regra do ComponentPhysicsEngine.applyGravity: soma a força e limita a velocidade atual
+    private void applyGravity() {
+        float gravityForce = (float) GameConfig.GRAVITY;
+        float terminal = (float) GameConfig.TERMINAL_VELOCITY;
+        for (int i = 0; i < count; i++) {
+            if (gravity[i] && simulated[i]) {
+                forceY[i] += gravityForce;
+                if (velocityY[i] > terminal) {
+                    velocityY[i] = terminal;
+                }
+            }
+        }
+    }
+
+    // Mesma integração do MovementComponent.update, sem chamadas nem buscas por entidade
+    private void integrate(float deltaTime) {
+        float step = deltaTime * 60; // 60 FPS base
+        for (int i = 0; i < count; i++) {
+            if (!moving[i]) continue;
+
+            float vx = velocityX[i] + forceX[i] * deltaTime;
+            float vy = velocityY[i] + forceY[i] * deltaTime;
+
+            if (Math.abs(vx) > maxSpeed[i]) {
+                vx = Math.signum(vx) * maxSpeed[i];
+            }
+            if (onGround[i] && Math.abs(vx) > DIRECTION_THRESHOLD) {
+                vx *= friction[i];
+            }
+            if (vx > DIRECTION_THRESHOLD) {
+                facingRight[i] = true;
+            } else if (vx < -DIRECTION_THRESHOLD) {
+                facingRight[i] = false;
+            }
+
+            x[i] += vx * step;
+            y[i] += vy * step;
+            velocityX[i] = vx;
+            velocityY[i] = vy;
+            forceX[i] = 0;
+            forceY[i] = 0;
+        }
+    }
+
+    private void writeBack() {
+        for (int i = 0; i < count; i++) {
+            Entity entity = entities[i];
+            MovementComponent movement = movements[i];
+            entity.x = x[i];
+            entity.y = y[i];
+            movement.velocityX = velocityX[i];
+            movement.velocityY = velocityY[i];
+            movement.facingRight = facingRight[i];
+            movement.setForce(forceX[i], forceY[i]);
+
+            if (moving[i] && collisions[i] != null) {
+                collisions[i].update(0); // Hitbox na posição nova
+            }
+        }
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        movements = Arrays.copyOf(movements, capacity);
+        collisions = Arrays.copyOf(collisions, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        forceX = Arrays.copyOf(forceX, capacity);
+        forceY = Arrays.copyOf(forceY, capacity);
+        maxSpeed = Arrays.copyOf(maxSpeed, capacity);
+        friction = Arrays.copyOf(friction, capacity);
+        gravity = Arrays.copyOf(gravity, capacity);
+        simulated = Arrays.copyOf(simulated, capacity);
+        moving = Arrays.copyOf(moving, capacity);
+        onGround = Arrays.copyOf(onGround, capacity);
+        facingRight = Arrays.copyOf(facingRight, capacity);
+    }
+}
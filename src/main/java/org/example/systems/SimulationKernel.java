@@ -0,0 +1,1269 @@
+package org.example.systems;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.example.audio.AudioManager;
+import org.example.entities.EnergyOrbEntity;
+import org.example.fhysics.GroundSupportIndex;
+import org.example.fhysics.PhysicsEngine;
+import org.example.fhysics.PlatformSpatialGrid;
+import org.example.fhysics.ScoreSystem;
+import org.example.fhysics.SweepAndPrune;
+import org.example.fhysics.WorldQuery;
+import org.example.levels.InfiniteWorldSystem;
+import org.example.objects.Enemy;
+import org.example.objects.EnergyOrb;
+import org.example.objects.FlyingEnemy;
+import org.example.objects.Player;
+import org.example.ui.GameConfig;
+import org.example.world.KinematicPlatformSystem;
+import org.example.world.ParticleSystem;
+import org.example.world.Platform;
+import org.example.world.PlatformIntervalIndex;
+import org.example.world.PlatformStore;
+import org.example.world.ReactivePlatformSystem;
+import org.example.world.TriggerVolumeSystem;
+import org.example.world.WindEffect;
+import org.example.world.WorldBuilder;
+
+/**
+ * Núcleo da simulação sem Swing: dono do player, plataformas, inimigos, orbs,
+ * ScoreSystem, InfiniteWorldSystem e ParticleSystem, avançando tudo tick a tick.
+ *
+ * Não cria janelas nem componentes, então roda em máquinas sem display
+ * (java.awt.headless=true), em benchmarks e em várias instâncias por núcleo.
+ * O GamePanel é apenas uma view: aplica o input, chama tick() e desenha.
+ */
+public class SimulationKernel {
+
+    public static final int ENEMY_RESPAWN_DELAY = 5000;
+    public static final int MAX_ACTIVE_ENEMIES = 8;
+
+    // Constantes de morte
+    private static final int DEATH_Y_THRESHOLD = 800;
+    private static final int WORLD_BOUNDS_LEFT = -500;
+
+    // Sistema de geração de partículas
+    private static final long PARTICLE_SPAWN_INTERVAL = 2000;
+    private static final int PARTICLE_SPAWN_DISTANCE = 600;
+
+    // Tamanho do hitbox dos orbs e folga do broadphase para quem anda durante o tick
+    private static final int CYAN_ORB_SIZE = 16;
+    private static final int GOLD_ORB_SIZE = 20;
+    private static final int ACTOR_FAT_MARGIN = GameConfig.TILE_SIZE;
+
+    // Folga das consultas na grade (cobre o deslocamento do tick e o sensor de borda)
+    private static final int COLLISION_QUERY_MARGIN = GameConfig.TILE_SIZE;
+
+    // Inimigos por tarefa na atualização paralela (faixa contínua de x)
+    private static final int ENEMIES_PER_PARTITION = 256;
+
+    // Riders das plataformas móveis: 0 = player, depois os orbs presos a elas, depois os inimigos
+    private static final int PLAYER_RIDER = 0;
+    // Orb até essa altura acima do topo de uma plataforma MOVING anda junto com ela
+    private static final int ORB_ANCHOR_HEIGHT = GameConfig.TILE_SIZE * 2;
+
+    /**
+     * Eventos da simulação que interessam à view (câmera, tela de game over)
+     */
+    public interface Listener {
+        void onPlayerRespawned(Player player);
+
+        void onGameOver(int finalScore);
+    }
+
+    // Sistemas
+    private final ScoreSystem scoreSystem;
+    private final ParticleSystem particleSystem;
+    private InfiniteWorldSystem infiniteWorldSystem;
+
+    // Objetos do jogo
+    private Player player;
+    private ArrayList<Platform> platforms = new ArrayList<>();
+    private ArrayList<Enemy> enemies = new ArrayList<>();
+    private ArrayList<FlyingEnemy> flyingEnemies = new ArrayList<>();
+    private ArrayList<EnergyOrbEntity> worldOrbs = new ArrayList<>(); // Orbs CIANOS deste mundo
+    private ArrayList<EnergyOrb> goldOrbs = new ArrayList<>(); // Orbs AMARELOS deste mundo
+    // Plataformas reativas deste mundo (o listener de deslocamento é o desta instância)
+    private final ReactivePlatformSystem reactivePlatforms = new ReactivePlatformSystem();
+    private final ArrayList<WindEffect> windEffects = new ArrayList<>();
+    // Áreas de efeito (vento...) num índice espacial: uma consulta pelo player por tick
+    private final TriggerVolumeSystem triggerVolumes = new TriggerVolumeSystem();
+    private final ArrayList<EnemyRespawnData> enemyRespawnQueue = new ArrayList<>();
+
+    // Geometria das plataformas em colunas: colisão e buscas de respawn leem os arrays, não os objetos
+    private final PlatformStore platformStore = new PlatformStore();
+    private final PlatformStore.Slots nearbySlots = new PlatformStore.Slots();
+
+    // Plataformas por célula: colisão, borda dos inimigos e partículas só olham a vizinhança
+    private final PlatformSpatialGrid platformGrid = new PlatformSpatialGrid();
+    // Plataformas ordenadas por x: janelas horizontais (partículas, render) em O(log n + k)
+    private final PlatformIntervalIndex platformIndex = new PlatformIntervalIndex();
+    // Ponto, retângulo, raio e mais próxima sobre a grade + colunas (para IA, câmera, ferramentas)
+    private final WorldQuery worldQuery = new WorldQuery(platformStore, platformGrid);
+
+    // Trecho de chão sob cada inimigo: o sensor de borda só varre plataformas ao chegar na borda
+    private final GroundSupportIndex groundSupport = new GroundSupportIndex();
+
+    // Plataformas MOVING andam num laço só e carregam quem pousou nelas no tick anterior
+    private final KinematicPlatformSystem kinematics = new KinematicPlatformSystem();
+
+    // Broadphase dos atores: orbs e inimigos só passam pela narrow phase quando formam par com o player
+    private final SweepAndPrune broadphase = new SweepAndPrune();
+    private SweepAndPrune.Proxy playerProxy;
+    private final ArrayList<SweepAndPrune.Proxy> enemyProxies = new ArrayList<>();
+    private final ArrayList<SweepAndPrune.Proxy> flyingEnemyProxies = new ArrayList<>();
+    private final ArrayList<SweepAndPrune.Proxy> orbProxies = new ArrayList<>(); // Rider 1 + i
+    private final ArrayList<Platform> nearbyPlatforms = new ArrayList<>();
+
+    private boolean enemiesEnabled = true;
+    private int dormantEnemyCount = 0; // Inimigos (terrestres + voadores) pulados no último tick
+
+    // Física dos inimigos em partições por x; contatos com o player aplicados depois, em série
+    private boolean parallelEnemies = GameConfig.PARALLEL_ENEMY_UPDATE;
+    private final ArrayList<EnemyPartition> enemyPartitions = new ArrayList<>();
+    private int[] groundOrder = new int[0];  // Índices dos inimigos ordenados por x (reaproveitado entre ticks)
+    private int[] flyingOrder = new int[0];
+    private int[] playerContacts = new int[16];
+    private int playerContactCount = 0;
+    private boolean gameOver = false;
+    private long lastParticleSpawnTime = -PARTICLE_SPAWN_INTERVAL;
+
+    // Tempo de jogo: avança um passo por tick, consultado por todos os sistemas com timer
+    private final GameClock clock = new GameClock();
+
+    private Listener listener;
+
+    // Tempo por etapa do tick (quem chama tick() diretamente fecha a amostra com endUpdate())
+    private final FrameProfiler profiler = new FrameProfiler();
+
+    // Falhas do tick (a exceção é repassada a quem chamou, mas fica registrada aqui)
+    private int failedTicks = 0;
+    private RuntimeException lastTickFailure;
+
+    public SimulationKernel() {
+        this(new ScoreSystem(), new ParticleSystem());
+    }
+
+    public SimulationKernel(ScoreSystem scoreSystem, ParticleSystem particleSystem) {
+        this.scoreSystem = scoreSystem;
+        this.particleSystem = particleSystem;
+        // Combos e multiplicadores seguem o tempo simulado, não o relógio de parede
+        this.scoreSystem.setClock(clock::nowMillis);
+    }
+
+    /**
+     * Kernel para rodar fora do jogo (build, profiling, soak test): áudio mudo e mundo já criado
+     */
+    public static SimulationKernel headless() {
+        AudioManager.setMuted(true);
+        SimulationKernel kernel = new SimulationKernel();
+        kernel.reset();
+        return kernel;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    // === CICLO DE VIDA ===
+
+    /**
+     * Recria o mundo do zero (novo jogo)
+     */
+    public void reset() {
+        gameOver = false;
+        enemiesEnabled = true;
+        clock.reset();
+        lastParticleSpawnTime = -PARTICLE_SPAWN_INTERVAL;
+
+        scoreSystem.resetScore();
+        particleSystem.clear();
+        enemyRespawnQueue.clear();
+
+        infiniteWorldSystem = new InfiniteWorldSystem();
+        player = new Player(infiniteWorldSystem.getPlayerStartX(), infiniteWorldSystem.getPlayerStartY());
+
+        WorldBuilder.GeneratedWorld world = WorldBuilder.createInitialWorld();
+        platforms = world.platforms;
+        worldOrbs = world.worldOrbs;
+        goldOrbs = world.goldOrbs;
+        flyingEnemies = world.flyingEnemies;
+        enemies = WorldBuilder.createInitialEnemies(platforms);
+
+        for (FlyingEnemy flyingEnemy : flyingEnemies) {
+            if (flyingEnemy != null) {
+                flyingEnemy.setTargetPlayer(player);
+            }
+        }
+
+        platformStore.rebuild(platforms);
+        platformGrid.rebuild(platformStore);
+        platformIndex.rebuild(platforms);
+        groundSupport.reset(enemies.size());
+        reactivePlatforms.setPlatformMovedListener(this::onPlatformMoved);
+        reactivePlatforms.createReactivePlatforms(platforms);
+        kinematics.rebuild(platformStore);
+        kinematics.setMovedListener(this::onKinematicPlatformMoved);
+        createWindEffects();
+        rebuildBroadphase();
+        anchorOrbsToMovingPlatforms();
+    }
+
+    /**
+     * Registra player, inimigos e orbs no broadphase (os orbs ficam parados: limites uma vez só)
+     */
+    private void rebuildBroadphase() {
+        broadphase.clear();
+        enemyProxies.clear();
+        flyingEnemyProxies.clear();
+        orbProxies.clear();
+
+        playerProxy = broadphase.add(player, SweepAndPrune.Kind.PLAYER, 0);
+
+        for (Enemy enemy : enemies) {
+            enemyProxies.add(enemy != null ? broadphase.add(enemy, SweepAndPrune.Kind.ENEMY, ACTOR_FAT_MARGIN) : null);
+        }
+        for (FlyingEnemy flyingEnemy : flyingEnemies) {
+            flyingEnemyProxies.add(flyingEnemy != null
+                    ? broadphase.add(flyingEnemy, SweepAndPrune.Kind.FLYING_ENEMY, ACTOR_FAT_MARGIN * 2) : null);
+        }
+
+        for (EnergyOrbEntity orb : worldOrbs) {
+            if (orb == null || orb.isCollected()) continue;
+            SweepAndPrune.Proxy proxy = broadphase.add(orb, SweepAndPrune.Kind.ORB, 0);
+            proxy.setBounds((int) orb.getX() - CYAN_ORB_SIZE / 2, (int) orb.getY() - CYAN_ORB_SIZE / 2,
+                    CYAN_ORB_SIZE, CYAN_ORB_SIZE);
+            orbProxies.add(proxy);
+        }
+
+        for (EnergyOrb orb : goldOrbs) {
+            if (orb == null || orb.isCollected()) continue;
+            SweepAndPrune.Proxy proxy = broadphase.add(orb, SweepAndPrune.Kind.GOLD_ORB, 0);
+            proxy.setBounds(orb.x - GOLD_ORB_SIZE / 2, orb.y - GOLD_ORB_SIZE / 2, GOLD_ORB_SIZE, GOLD_ORB_SIZE);
+            orbProxies.add(proxy);
+        }
+    }
+
+    /**
+     * Orbs flutuando logo acima de uma plataforma MOVING ficam presos a ela (contato fixo, sem física)
+     */
+    private void anchorOrbsToMovingPlatforms() {
+        kinematics.resetRiders(firstEnemyRider() + enemies.size());
+        if (kinematics.size() == 0) return;
+
+        for (int i = 0; i < orbProxies.size(); i++) {
+            Object owner = orbProxies.get(i).owner;
+            int size = owner instanceof EnergyOrb ? GOLD_ORB_SIZE : CYAN_ORB_SIZE;
+            int centerX = owner instanceof EnergyOrb ? ((EnergyOrb) owner).x : (int) ((EnergyOrbEntity) owner).getX();
+            int centerY = owner instanceof EnergyOrb ? ((EnergyOrb) owner).y : (int) ((EnergyOrbEntity) owner).getY();
+
+            // Faixa entre a base do orb e ORB_ANCHOR_HEIGHT abaixo dela
+            worldQuery.queryOverlap(centerX - size / 2, centerY + size / 2, size, ORB_ANCHOR_HEIGHT, nearbySlots);
+            for (int c = 0; c < nearbySlots.size; c++) {
+                if (kinematics.isKinematic(nearbySlots.ids[c])) {
+                    kinematics.setRiderContact(1 + i, nearbySlots.ids[c]);
+                    break;
+                }
+            }
+        }
+    }
+
+    private int firstEnemyRider() {
+        return 1 + orbProxies.size();
+    }
+
+    /**
+     * Limites do tick atual para quem se move e geração dos pares candidatos
+     */
+    void updateBroadphase() {
+        playerProxy.setBounds(player.x, player.y, player.width, player.height);
+
+        for (int i = 0; i < enemyProxies.size() && i < enemies.size(); i++) {
+            SweepAndPrune.Proxy proxy = enemyProxies.get(i);
+            if (proxy != null) {
+                Enemy enemy = enemies.get(i);
+                proxy.setBounds(enemy.x, enemy.y, enemy.width, enemy.height);
+                proxy.setActive(isInActiveRange(enemy.x, enemy.y)); // Dormentes ficam fora da varredura
+            }
+        }
+
+        for (int i = 0; i < flyingEnemyProxies.size() && i < flyingEnemies.size(); i++) {
+            SweepAndPrune.Proxy proxy = flyingEnemyProxies.get(i);
+            if (proxy != null) {
+                FlyingEnemy flyingEnemy = flyingEnemies.get(i);
+                Rectangle hitbox = flyingEnemy.getHitbox();
+                proxy.setBounds(hitbox.x, hitbox.y, hitbox.width, hitbox.height);
+                proxy.setActive(isInActiveRange(flyingEnemy.x, flyingEnemy.y));
+            }
+        }
+
+        broadphase.findPairs();
+    }
+
+    // Ator sem proxy (entrou depois do reset) passa direto para a narrow phase
+    private boolean isPlayerCandidate(ArrayList<SweepAndPrune.Proxy> proxies, int index) {
+        SweepAndPrune.Proxy proxy = index < proxies.size() ? proxies.get(index) : null;
+        return proxy == null || broadphase.isCandidate(proxy);
+    }
+
+    /**
+     * Solta o mundo atual (volta ao menu)
+     */
+    public void clear() {
+        platforms.clear();
+        platformStore.clear();
+        groundSupport.invalidateAll();
+        platformGrid.clear();
+        platformIndex.clear();
+        kinematics.clear();
+        broadphase.clear();
+        enemyProxies.clear();
+        flyingEnemyProxies.clear();
+        orbProxies.clear();
+        enemies.clear();
+        flyingEnemies.clear();
+        worldOrbs.clear();
+        goldOrbs.clear();
+        reactivePlatforms.clearReactivePlatforms();
+        windEffects.clear();
+        triggerVolumes.clear();
+        enemyRespawnQueue.clear();
+        particleSystem.clear();
+    }
+
+    private void createWindEffects() {
+        windEffects.clear();
+        windEffects.add(new WindEffect(500, 200, 200, 100, 2.0f));
+        windEffects.add(new WindEffect(1200, 300, 150, 80, -1.5f));
+        windEffects.add(new WindEffect(2000, 150, 300, 120, 3.0f));
+        windEffects.add(new WindEffect(3000, 250, 180, 90, -2.0f));
+
+        triggerVolumes.clear();
+        for (WindEffect wind : windEffects) {
+            triggerVolumes.addWind(wind);
+        }
+    }
+
+    // === TICK ===
+
+    /**
+     * Avança a simulação um passo fixo (GameConfig.TARGET_FPS por segundo)
+     */
+    public void tick() {
+        if (gameOver || player == null) return;
+
+        storePreviousPositions();
+
+        try {
+            profiler.begin(FrameProfiler.Stage.PHYSICS);
+            stepMovingPlatforms();
+
+            PhysicsEngine.applyGravityToPlayer(player);
+            player.update();
+
+            rechargePlayerEnergy();
+
+            int restingY = player.y;
+            int playerGround = PhysicsEngine.checkPlayerPlatformCollisions(player, platformStore,
+                    queryNearbyPlatforms(player.x, player.y, player.width, player.height,
+                            player.velocityX, player.velocityY));
+            // Parado em cima (gravidade ainda abaixo de 1 px) não pousa de novo: mantém o contato anterior
+            if (playerGround >= 0 || Math.abs(player.y - restingY) > 1) {
+                kinematics.setRiderContact(PLAYER_RIDER, playerGround);
+            }
+            updateBroadphase();
+            profiler.end(FrameProfiler.Stage.PHYSICS);
+
+            // SISTEMA MISTO DE ORBS
+            profiler.begin(FrameProfiler.Stage.ORBS);
+            collectOrbs();
+            profiler.end(FrameProfiler.Stage.ORBS);
+
+            profiler.begin(FrameProfiler.Stage.ENEMIES);
+            updateEnemies();
+            profiler.end(FrameProfiler.Stage.ENEMIES);
+
+            profiler.begin(FrameProfiler.Stage.FLYING_ENEMIES);
+            updateFlyingEnemies();
+            profiler.end(FrameProfiler.Stage.FLYING_ENEMIES);
+
+            profiler.begin(FrameProfiler.Stage.PARTICLES);
+            spawnPlatformParticles();
+            profiler.end(FrameProfiler.Stage.PARTICLES);
+
+            profiler.begin(FrameProfiler.Stage.WORLD);
+            infiniteWorldSystem.update((int)player.x);
+            profiler.end(FrameProfiler.Stage.WORLD);
+
+            profiler.begin(FrameProfiler.Stage.PARTICLES);
+            particleSystem.update();
+            profiler.end(FrameProfiler.Stage.PARTICLES);
+
+            profiler.begin(FrameProfiler.Stage.PHYSICS);
+            updateWindEffects();
+
+            reactivePlatforms.updateReactivePlatforms(player);
+
+            checkGameOverConditions();
+            profiler.end(FrameProfiler.Stage.PHYSICS);
+
+        } catch (RuntimeException e) {
+            // Registra a falha e repassa: quem chama decide se segue o jogo (GamePanel) ou para (testes, soak)
+            profiler.endOpenStages();
+            failedTicks++;
+            lastTickFailure = e;
+            throw e;
+        } finally {
+            clock.advance();
+        }
+    }
+
+    /**
+     * Executa vários ticks seguidos (soak test, profiling)
+     */
+    public void runTicks(int count) {
+        for (int i = 0; i < count && !gameOver; i++) {
+            tick();
+            profiler.endUpdate();
+        }
+    }
+
+    /**
+     * Avança a simulação pelo tempo de jogo indicado, sem esperar o relógio de parede
+     * (ex: runSimulatedTime(3_600_000) simula uma hora de jogo)
+     */
+    public void runSimulatedTime(long millis) {
+        long end = clock.nowMillis() + millis;
+        while (clock.nowMillis() < end && !gameOver && !clock.isPaused()) {
+            tick();
+            profiler.endUpdate();
+        }
+    }
+
+    /**
+     * Guarda as posições do início do tick para a renderização interpolar entre os dois últimos ticks
+     */
+    private void storePreviousPositions() {
+        player.lastTickX = player.x;
+        player.lastTickY = player.y;
+
+        for (Enemy enemy : enemies) {
+            enemy.lastTickX = enemy.x;
+            enemy.lastTickY = enemy.y;
+        }
+
+        for (FlyingEnemy flyingEnemy : flyingEnemies) {
+            flyingEnemy.lastTickX = flyingEnemy.x;
+            flyingEnemy.lastTickY = flyingEnemy.y;
+        }
+    }
+
+    /**
+     * Plataformas MOVING perto do player (mesmo raio dos inimigos ativos) andam um passo e levam junto
+     * quem estava apoiado nelas no fim do tick anterior: só o delta de cada uma, sem consultas de colisão
+     */
+    private void stepMovingPlatforms() {
+        if (kinematics.size() == 0) return;
+
+        int firstEnemy = firstEnemyRider();
+        kinematics.ensureRiders(firstEnemy + enemies.size());
+        int moved = kinematics.step(player.x - GameConfig.ENEMY_ACTIVE_RADIUS_X, player.y - GameConfig.ENEMY_ACTIVE_RADIUS_Y,
+                player.x + GameConfig.ENEMY_ACTIVE_RADIUS_X, player.y + GameConfig.ENEMY_ACTIVE_RADIUS_Y);
+        if (moved == 0) return;
+        platformIndex.resort(); // Um passe para todas as que andaram: o listener não mexe no índice
+
+        int body = kinematics.getCarrier(PLAYER_RIDER, player.x, player.x + player.width, player.y + player.height);
+        if (body >= 0) {
+            player.x += kinematics.getDeltaX(body);
+            player.y += kinematics.getDeltaY(body);
+            player.hitbox.setLocation(player.x, player.y);
+        }
+
+        for (int i = 0; i < orbProxies.size(); i++) {
+            body = kinematics.getRiderBody(1 + i);
+            if (body >= 0) {
+                carryOrb(orbProxies.get(i), kinematics.getDeltaX(body), kinematics.getDeltaY(body));
+            }
+        }
+
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy == null) continue;
+            body = kinematics.getCarrier(firstEnemy + i, enemy.x, enemy.x + enemy.width, enemy.y + enemy.height);
+            if (body < 0) continue;
+
+            // A patrulha anda junto: o inimigo continua indo e voltando sobre a mesma plataforma
+            int dx = kinematics.getDeltaX(body);
+            enemy.x += dx;
+            enemy.y += kinematics.getDeltaY(body);
+            enemy.patrolLeft += dx;
+            enemy.patrolRight += dx;
+            if (enemy.getHitbox() != null) {
+                enemy.getHitbox().setLocation((int) enemy.x, (int) enemy.y);
+            }
+        }
+    }
+
+    private void carryOrb(SweepAndPrune.Proxy proxy, int dx, int dy) {
+        if (proxy.owner instanceof EnergyOrb) {
+            EnergyOrb orb = (EnergyOrb) proxy.owner;
+            if (orb.isCollected()) return;
+            orb.x += dx;
+            orb.y += dy;
+            orb.baseX += dx;
+            orb.baseY += dy;
+            if (orb.hitbox != null) {
+                orb.hitbox.translate(dx, dy);
+            }
+            proxy.setBounds(orb.x - GOLD_ORB_SIZE / 2, orb.y - GOLD_ORB_SIZE / 2, GOLD_ORB_SIZE, GOLD_ORB_SIZE);
+        } else {
+            EnergyOrbEntity orb = (EnergyOrbEntity) proxy.owner;
+            if (orb.isCollected()) return;
+            orb.setPosition(orb.getX() + dx, orb.getY() + dy);
+            proxy.setBounds((int) orb.getX() - CYAN_ORB_SIZE / 2, (int) orb.getY() - CYAN_ORB_SIZE / 2,
+                    CYAN_ORB_SIZE, CYAN_ORB_SIZE);
+        }
+    }
+
+    private void rechargePlayerEnergy() {
+        if (player.energyLevel < GameConfig.PLAYER_MAX_ENERGY) {
+            player.energyLevel = Math.min(GameConfig.PLAYER_MAX_ENERGY,
+                    player.energyLevel + GameConfig.PLAYER_ENERGY_RECHARGE_RATE);
+        }
+    }
+
+    /**
+     * Coleta de orbs do tick a partir dos pares do broadphase (package-private para o teste de alocação)
+     */
+    void collectOrbs() {
+        updateCianoOrbs();  // Orbs cianos (comuns)
+        updateGoldOrbs();   // Orbs amarelos (raros - 3x pontos)
+    }
+
+    // COLETA DE ORBS CIANOS (comuns - 10 pontos)
+    private void updateCianoOrbs() {
+        Rectangle playerHitbox = player.getHitbox();
+
+        // Só os orbs que o broadphase pareou com o player
+        for (int i = 0; i < broadphase.getPairCount(); i++) {
+            SweepAndPrune.Proxy proxy = broadphase.getPairB(i);
+            if (broadphase.getPairA(i) != playerProxy || proxy.kind != SweepAndPrune.Kind.ORB) continue;
+
+            EnergyOrbEntity orb = (EnergyOrbEntity) proxy.owner;
+            if (orb.isCollected()) {
+                proxy.setActive(false);
+                continue;
+            }
+
+            if (PhysicsEngine.overlapsCenteredSquare(playerHitbox, (int) orb.getX(), (int) orb.getY(), CYAN_ORB_SIZE)) {
+                // ✅ SOM DE COLETA DE ORB
+                AudioManager.playEffectSound();
+
+                orb.collect();
+                proxy.setActive(false);
+
+                scoreSystem.addScore(GameConfig.ORB_POINTS);
+
+                player.energyLevel = Math.min(GameConfig.PLAYER_MAX_ENERGY,
+                        player.energyLevel + GameConfig.ORB_ENERGY_RESTORE);
+            }
+        }
+    }
+
+    // COLETA DE ORBS DOURADOS (raros - 30 pontos)
+    private void updateGoldOrbs() {
+        Rectangle playerHitbox = player.getHitbox();
+
+        for (int i = 0; i < broadphase.getPairCount(); i++) {
+            SweepAndPrune.Proxy proxy = broadphase.getPairB(i);
+            if (broadphase.getPairA(i) != playerProxy || proxy.kind != SweepAndPrune.Kind.GOLD_ORB) continue;
+
+            EnergyOrb orb = (EnergyOrb) proxy.owner;
+            if (orb.isCollected()) {
+                proxy.setActive(false);
+                continue;
+            }
+
+            if (PhysicsEngine.overlapsCenteredSquare(playerHitbox, orb.x, orb.y, GOLD_ORB_SIZE)) {
+                // ✅ Já toca o som internamente (as partículas do orb ficam de fora: ninguém as desenha aqui)
+                orb.onCollectWithoutParticles(player);
+                proxy.setActive(false);
+
+                int goldPoints = GameConfig.ORB_POINTS * 3;
+                scoreSystem.addScore(goldPoints);
+
+                player.energyLevel = Math.min(GameConfig.PLAYER_MAX_ENERGY,
+                        player.energyLevel + GameConfig.ORB_ENERGY_RESTORE * 2);
+            }
+        }
+    }
+
+    private void updateEnemies() {
+        groundSupport.flushInvalidations(); // Plataformas movidas neste tick e no fim do anterior
+        updateEnemyRespawn();
+
+        if (!enemiesEnabled) {
+            return;
+        }
+
+        dormantEnemyCount = 0;
+        simulateEnemies(false, enemies.size());
+
+        // Contatos com o player em ordem de índice: mesmo resultado com ou sem paralelismo
+        for (int c = 0; c < playerContactCount; c++) {
+            Enemy enemy = enemies.get(playerContacts[c]);
+
+            // Player mata o inimigo
+            if (PhysicsEngine.checkPlayerEnemyCollision(player, enemy)) {
+                player.velocityY = -12;
+
+                // ✅ SOM DE INIMIGO DERROTADO
+                AudioManager.playEnemyDownSound();
+
+                scoreSystem.defeatEnemy(enemy, player, true);
+                killEnemy(enemy);
+            }
+            // Inimigo machuca o player
+            else if (player.getHitbox().intersects(enemy.getHitbox()) && player.velocityY >= 0) {
+                if (!player.isInvulnerable()) {
+                    // ✅ SOM DE DANO AO PLAYER
+                    AudioManager.playHurtSound();
+
+                    player.loseLife();
+                    if (player.lives <= 0) {
+                        triggerGameOver();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Física de um inimigo terrestre (só mexe no próprio inimigo: seguro em paralelo).
+     * Retorna ENEMY_DORMANT, ENEMY_AWAKE ou ENEMY_CONTACT (candidato a interagir com o player).
+     */
+    private int simulateEnemy(int index, PlatformStore.Slots nearby) {
+        Enemy enemy = enemies.get(index);
+        if (enemy == null) return ENEMY_AWAKE;
+
+        // Longe do player: congela no estado atual e retoma de onde parou ao voltar ao alcance
+        if (!isInActiveRange(enemy.x, enemy.y)) return ENEMY_DORMANT;
+
+        double startX = enemy.x;
+        double startY = enemy.y;
+        PhysicsEngine.applyGravityToEnemy(enemy);
+        enemy.update(player);
+        // Alcance cobre também o início do tick, de onde os sub-passos partem
+        queryNearbyPlatforms(enemy.x, enemy.y, enemy.width, enemy.height,
+                Math.max(Math.abs(enemy.velocityX), Math.abs(enemy.x - startX)),
+                Math.max(Math.abs(enemy.velocityY), Math.abs(enemy.y - startY)), nearby);
+        // Contato do tick para as plataformas móveis (cada inimigo escreve só o próprio rider)
+        int ground = PhysicsEngine.checkEnemyPlatformCollisions(enemy, startX, startY, platformStore, nearby);
+        if (ground >= 0 || Math.abs(enemy.y - startY) > 1) { // Meio pixel de oscilação parado não conta
+            kinematics.setRiderContact(firstEnemyRider() + index, ground);
+        }
+        PhysicsEngine.preventEnemyFallFromPlatforms(enemy, index, groundSupport, platformStore, nearby);
+
+        // Fora de qualquer par com o player neste tick: nada a testar
+        return isPlayerCandidate(enemyProxies, index) ? ENEMY_CONTACT : ENEMY_AWAKE;
+    }
+
+    /**
+     * Dentro do raio ativo em volta do player (a câmera segue o player, então cobre a tela e uma margem)
+     */
+    private boolean isInActiveRange(double x, double y) {
+        return Math.abs(x - player.x) <= GameConfig.ENEMY_ACTIVE_RADIUS_X
+                && Math.abs(y - player.y) <= GameConfig.ENEMY_ACTIVE_RADIUS_Y;
+    }
+
+    private void updateFlyingEnemies() {
+        if (flyingEnemies.isEmpty() || !enemiesEnabled) {
+            return;
+        }
+
+        simulateEnemies(true, flyingEnemies.size());
+
+        // Mesma ordem do laço original (do último para o primeiro)
+        for (int c = playerContactCount - 1; c >= 0; c--) {
+            FlyingEnemy flyingEnemy = flyingEnemies.get(playerContacts[c]);
+
+            Rectangle playerHitbox = player.getHitbox();
+            Rectangle enemyHitbox = flyingEnemy.getHitbox();
+
+            if (playerHitbox.intersects(enemyHitbox)) {
+                // Player pulou em cima do inimigo voador
+                if (player.velocityY > 0 && player.y + player.height - 10 < flyingEnemy.y) {
+                    player.velocityY = -12;
+
+                    // ✅ SOM DE INIMIGO DERROTADO
+                    AudioManager.playEnemyDownSound();
+
+                    scoreSystem.addScore(50);
+                    flyingEnemy.x = -10000;
+                    flyingEnemy.y = -10000;
+                }
+                // Inimigo voador machuca o player
+                else if (!player.isInvulnerable()) {
+                    // ✅ SOM DE DANO AO PLAYER
+                    AudioManager.playHurtSound();
+
+                    player.loseLife();
+                    if (player.lives <= 0) {
+                        triggerGameOver();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private int simulateFlyingEnemy(int index) {
+        FlyingEnemy flyingEnemy = flyingEnemies.get(index);
+
+        if (flyingEnemy.x < -5000) {
+            // Inimigo foi derrotado, considerar respawn
+            return ENEMY_AWAKE;
+        }
+
+        if (!isInActiveRange(flyingEnemy.x, flyingEnemy.y)) return ENEMY_DORMANT;
+
+        flyingEnemy.setTargetPlayer(player);
+
+        if (flyingEnemy.x > -1000 && flyingEnemy.y > -1000) {
+            flyingEnemy.update(clock.getDeltaSeconds());
+            if (isPlayerCandidate(flyingEnemyProxies, index)) return ENEMY_CONTACT;
+        }
+        return ENEMY_AWAKE;
+    }
+
+    // === SIMULAÇÃO DOS INIMIGOS (SÉRIE OU PARALELA) ===
+
+    private static final int ENEMY_DORMANT = 0;
+    private static final int ENEMY_AWAKE = 1;
+    private static final int ENEMY_CONTACT = 2;
+
+    /**
+     * Roda a física de todos os inimigos de um tipo e junta em playerContacts (ordem crescente de índice)
+     * quem ficou candidato a interagir com o player. Com população grande, divide os inimigos em faixas
+     * de x e simula cada faixa numa tarefa do ForkJoinPool comum; a grade e o store só são lidos.
+     */
+    private void simulateEnemies(boolean flying, int count) {
+        int[] order = enemyOrder(flying, count);
+        int partitionCount = 1;
+        if (parallelEnemies && count >= GameConfig.PARALLEL_ENEMY_MIN_COUNT
+                && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            partitionCount = (count + ENEMIES_PER_PARTITION - 1) / ENEMIES_PER_PARTITION;
+            sortByX(flying, order);
+        }
+
+        while (enemyPartitions.size() < partitionCount) {
+            enemyPartitions.add(new EnemyPartition());
+        }
+        int perPartition = (count + partitionCount - 1) / Math.max(1, partitionCount);
+        for (int p = 0; p < partitionCount; p++) {
+            EnemyPartition partition = enemyPartitions.get(p);
+            partition.reinitialize();
+            partition.flying = flying;
+            partition.order = order;
+            partition.from = Math.min(count, p * perPartition);
+            partition.to = Math.min(count, partition.from + perPartition);
+        }
+
+        if (partitionCount == 1) {
+            enemyPartitions.get(0).compute();
+        } else {
+            ForkJoinTask.invokeAll(enemyPartitions.subList(0, partitionCount));
+        }
+
+        // Buffers por partição -> lista única, aplicada em série
+        playerContactCount = 0;
+        for (int p = 0; p < partitionCount; p++) {
+            EnemyPartition partition = enemyPartitions.get(p);
+            dormantEnemyCount += partition.dormant;
+            for (int c = 0; c < partition.contactCount; c++) {
+                if (playerContactCount == playerContacts.length) {
+                    playerContacts = Arrays.copyOf(playerContacts, playerContactCount * 2);
+                }
+                playerContacts[playerContactCount++] = partition.contacts[c];
+            }
+        }
+        // A ordem por x pode ter ficado de um tick paralelo anterior: sempre volta para ordem de índice
+        Arrays.sort(playerContacts, 0, playerContactCount);
+    }
+
+    // Permutação dos índices; refeita só quando a população muda de tamanho
+    private int[] enemyOrder(boolean flying, int count) {
+        int[] order = flying ? flyingOrder : groundOrder;
+        if (order.length != count) {
+            order = new int[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            if (flying) {
+                flyingOrder = order;
+            } else {
+                groundOrder = order;
+            }
+        }
+        return order;
+    }
+
+    // Ordem por x de um tick para o outro quase não muda: inserção é ~linear
+    private void sortByX(boolean flying, int[] order) {
+        for (int i = 1; i < order.length; i++) {
+            int index = order[i];
+            double x = enemyX(flying, index);
+            int j = i - 1;
+            while (j >= 0 && enemyX(flying, order[j]) > x) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = index;
+        }
+    }
+
+    private double enemyX(boolean flying, int index) {
+        if (flying) return flyingEnemies.get(index).x;
+        Enemy enemy = enemies.get(index);
+        return enemy != null ? enemy.x : 0;
+    }
+
+    /**
+     * Faixa contínua da ordem por x simulada por uma tarefa (buffers próprios, reaproveitados entre ticks)
+     */
+    private final class EnemyPartition extends RecursiveAction {
+        boolean flying;
+        int[] order;
+        int from, to;
+        int dormant;
+        int[] contacts = new int[16];
+        int contactCount;
+        final PlatformStore.Slots nearby = new PlatformStore.Slots();
+
+        @Override
+        protected void compute() {
+            dormant = 0;
+            contactCount = 0;
+            for (int k = from; k < to; k++) {
+                int index = order[k];
+                int state = flying ? simulateFlyingEnemy(index) : simulateEnemy(index, nearby);
+                if (state == ENEMY_DORMANT) {
+                    dormant++;
+                } else if (state == ENEMY_CONTACT) {
+                    if (contactCount == contacts.length) {
+                        contacts = Arrays.copyOf(contacts, contactCount * 2);
+                    }
+                    contacts[contactCount++] = index;
+                }
+            }
+        }
+    }
+
+    private void updateEnemyRespawn() {
+        int activeEnemies = 0;
+        for (Enemy enemy : enemies) {
+            if (enemy.x > -500 && enemy.y > -500) {
+                activeEnemies++;
+            }
+        }
+
+        for (int i = enemyRespawnQueue.size() - 1; i >= 0; i--) {
+            EnemyRespawnData respawnData = enemyRespawnQueue.get(i);
+
+            if (respawnData.shouldRespawn(clock.nowMillis()) && activeEnemies < MAX_ACTIVE_ENEMIES) {
+                respawnEnemy(respawnData);
+                enemyRespawnQueue.remove(i);
+                activeEnemies++;
+            }
+        }
+    }
+
+    private void spawnPlatformParticles() {
+        long currentTime = clock.nowMillis();
+
+        if (currentTime - lastParticleSpawnTime >= PARTICLE_SPAWN_INTERVAL) {
+            lastParticleSpawnTime = currentTime;
+
+            int playerX = (int)player.x;
+
+            platformIndex.queryStartingBetween(playerX - PARTICLE_SPAWN_DISTANCE,
+                    playerX + PARTICLE_SPAWN_DISTANCE, nearbyPlatforms);
+
+            for (Platform platform : nearbyPlatforms) {
+                if (Math.random() < 0.6) {
+                    float platformCenterX = platform.x + platform.width / 2;
+                    float platformY = platform.y;
+
+                    switch (platform.getType()) {
+                        case MOVING:
+                            particleSystem.addEnergyParticles(platformCenterX, platformY, 3);
+                            break;
+                        case BOUNCY:
+                            particleSystem.addHologramParticles(platformCenterX, platformY, 2);
+                            break;
+                        case ICE:
+                            particleSystem.addAmbientParticles(platformCenterX, platformY, 4);
+                            break;
+                        default:
+                            particleSystem.addAmbientParticles(platformCenterX, platformY, 2);
+                            break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Slots das plataformas perto de um corpo: hitbox atual estendido pelo deslocamento do tick + margem
+     */
+    private PlatformStore.Slots queryNearbyPlatforms(double x, double y, int width, int height,
+                                                     double velocityX, double velocityY) {
+        int reachX = (int) Math.ceil(Math.abs(velocityX)) + COLLISION_QUERY_MARGIN;
+        int reachY = (int) Math.ceil(Math.abs(velocityY)) + COLLISION_QUERY_MARGIN;
+        return platformGrid.querySlots((int) x - reachX, (int) y - reachY,
+                width + reachX * 2, height + reachY * 2, nearbySlots);
+    }
+
+    // Mesma área, só lendo a grade (inimigos, que podem rodar em paralelo)
+    private PlatformStore.Slots queryNearbyPlatforms(double x, double y, int width, int height,
+                                                     double velocityX, double velocityY, PlatformStore.Slots out) {
+        int reachX = (int) Math.ceil(Math.abs(velocityX)) + COLLISION_QUERY_MARGIN;
+        int reachY = (int) Math.ceil(Math.abs(velocityY)) + COLLISION_QUERY_MARGIN;
+        return platformGrid.querySlotsShared((int) x - reachX, (int) y - reachY,
+                width + reachX * 2, height + reachY * 2, out);
+    }
+
+    private void updateWindEffects() {
+        for (WindEffect wind : windEffects) {
+            wind.update();
+        }
+        triggerVolumes.update(player);
+    }
+
+    private void killEnemy(Enemy enemy) {
+        EnemyRespawnData respawnData = new EnemyRespawnData(
+                enemy,
+                clock.nowMillis(),
+                enemy.x,
+                enemy.y,
+                enemy.patrolLeft,
+                enemy.patrolRight
+        );
+
+        enemyRespawnQueue.add(respawnData);
+
+        enemy.x = -1000;
+        enemy.y = -1000;
+        enemy.velocityX = 0;
+        enemy.velocityY = 0;
+    }
+
+    private void respawnEnemy(EnemyRespawnData respawnData) {
+        Enemy enemy = respawnData.enemy;
+
+        Platform nearestPlatform = findNearestPlatform(respawnData.originalX);
+
+        if (nearestPlatform != null) {
+            enemy.x = nearestPlatform.x + (nearestPlatform.width / 2);
+            enemy.y = nearestPlatform.y - 40;
+            enemy.patrolLeft = nearestPlatform.x;
+            enemy.patrolRight = nearestPlatform.x + nearestPlatform.width - 30;
+        } else {
+            enemy.x = respawnData.originalX;
+            enemy.y = respawnData.originalY;
+            enemy.patrolLeft = respawnData.patrolLeft;
+            enemy.patrolRight = respawnData.patrolRight;
+        }
+
+        enemy.velocityX = 0;
+        enemy.velocityY = 0;
+        enemy.direction = 1;
+    }
+
+    private Platform findNearestPlatform(double x) {
+        int nearest = -1;
+        double minDistance = Double.MAX_VALUE;
+
+        int[] xs = platformStore.x;
+        for (int slot = 0; slot < platformStore.getHighWater(); slot++) {
+            if (!isRespawnSlot(slot)) continue;
+            double distance = Math.abs(xs[slot] - x);
+            if (distance < minDistance && distance < 500) {
+                minDistance = distance;
+                nearest = slot;
+            }
+        }
+
+        return platformStore.getView(nearest);
+    }
+
+    private void checkGameOverConditions() {
+        // Player caiu do mapa
+        if (player.y > DEATH_Y_THRESHOLD) {
+            // ✅ SOM DE QUEDA/DANO
+            AudioManager.playFallSound();
+
+            player.loseLife();
+
+            if (player.lives <= 0) {
+                triggerGameOver();
+            } else {
+                respawnPlayer();
+            }
+            return;
+        }
+
+        // Player saiu dos limites do mundo
+        if (player.x < WORLD_BOUNDS_LEFT) {
+            // ✅ SOM DE DANO
+            AudioManager.playHurtSound();
+
+            player.loseLife();
+
+            if (player.lives <= 0) {
+                triggerGameOver();
+            } else {
+                respawnPlayer();
+            }
+            return;
+        }
+
+        if (player.lives <= 0) {
+            triggerGameOver();
+        }
+    }
+
+    private void respawnPlayer() {
+        Platform respawnPlatform = findSafeRespawnPlatform();
+
+        if (respawnPlatform != null) {
+            player.x = respawnPlatform.x + (respawnPlatform.width / 2) - (player.width / 2);
+            player.y = respawnPlatform.y - player.height - 10;
+        } else {
+            player.x = infiniteWorldSystem.getPlayerStartX();
+            player.y = infiniteWorldSystem.getPlayerStartY();
+        }
+
+        player.velocityX = 0;
+        player.velocityY = 0;
+
+        if (listener != null) {
+            listener.onPlayerRespawned(player);
+        }
+    }
+
+    private Platform findSafeRespawnPlatform() {
+        if (platformStore.size() == 0) return null;
+
+        int best = -1;
+        double minDistance = Double.MAX_VALUE;
+
+        int[] xs = platformStore.x;
+        int highWater = platformStore.getHighWater();
+        for (int slot = 0; slot < highWater; slot++) {
+            if (!isRespawnSlot(slot)) continue;
+            if (xs[slot] < player.x && xs[slot] > player.x - 800) {
+                double distance = player.x - xs[slot];
+                if (distance < minDistance) {
+                    minDistance = distance;
+                    best = slot;
+                }
+            }
+        }
+
+        if (best < 0) {
+            for (int slot = 0; slot < highWater; slot++) {
+                if (isRespawnSlot(slot) && xs[slot] >= 0) {
+                    best = slot;
+                    break;
+                }
+            }
+        }
+
+        return platformStore.getView(best);
+    }
+
+    // Respawn precisa de um Platform de verdade: slots só de geometria ficam de fora
+    private boolean isRespawnSlot(int slot) {
+        return platformStore.alive[slot] != 0 && platformStore.getView(slot) != null;
+    }
+
+    /**
+     * Encerra a partida (chamado pela própria simulação ou pela view)
+     */
+    public void triggerGameOver() {
+        if (gameOver) return;
+
+        gameOver = true;
+
+        if (listener != null) {
+            listener.onGameOver(scoreSystem.getCurrentScore());
+        }
+    }
+
+    // === INIMIGOS ===
+
+    public void disableEnemies() {
+        enemiesEnabled = false;
+    }
+
+    public void enableEnemies() {
+        enemiesEnabled = true;
+    }
+
+    public void toggleEnemies() {
+        enemiesEnabled = !enemiesEnabled;
+    }
+
+    public boolean areEnemiesEnabled() {
+        return enemiesEnabled;
+    }
+
+    // === GETTERS ===
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    private void onPlatformMoved(Platform platform) {
+        int slot = platformStore.slotOf(platform);
+        if (slot < 0) return;
+
+        int oldX = platformStore.x[slot]; // O store ainda tem a posição indexada
+        syncMovedPlatform(platform, slot);
+        platformIndex.update(platform, oldX);
+    }
+
+    // Passo cinemático: o índice por x é reordenado uma vez só, depois de todas (stepMovingPlatforms)
+    private void onKinematicPlatformMoved(Platform platform) {
+        int slot = platformStore.slotOf(platform);
+        if (slot >= 0) {
+            syncMovedPlatform(platform, slot);
+        }
+    }
+
+    private void syncMovedPlatform(Platform platform, int slot) {
+        // Trechos de chão que tocavam a posição antiga ou tocam a nova deixam de valer: um retângulo só
+        // (antiga + nova), descartado junto com os das outras plataformas antes dos inimigos andarem
+        int oldX = platformStore.x[slot];
+        int oldY = platformStore.y[slot];
+        int left = Math.min(oldX, platform.x);
+        int top = Math.min(oldY, platform.y);
+        groundSupport.queueInvalidate(left, top,
+                Math.max(oldX + platformStore.width[slot], platform.x + platform.width) - left,
+                Math.max(oldY + platformStore.height[slot], platform.y + platform.height) - top);
+
+        platformStore.sync(slot);
+        platformGrid.update(platform);
+    }
+
+    public SweepAndPrune getBroadphase() {
+        return broadphase;
+    }
+
+    public PlatformIntervalIndex getPlatformIndex() {
+        return platformIndex;
+    }
+
+    public PlatformSpatialGrid getPlatformGrid() {
+        return platformGrid;
+    }
+
+    public PlatformStore getPlatformStore() {
+        return platformStore;
+    }
+
+    public WorldQuery getWorldQuery() {
+        return worldQuery;
+    }
+
+    public KinematicPlatformSystem getKinematics() {
+        return kinematics;
+    }
+
+    public TriggerVolumeSystem getTriggerVolumes() {
+        return triggerVolumes;
+    }
+
+    public ArrayList<Platform> getPlatforms() {
+        return platforms;
+    }
+
+    public ArrayList<Enemy> getEnemies() {
+        return enemies;
+    }
+
+    public ArrayList<FlyingEnemy> getFlyingEnemies() {
+        return flyingEnemies;
+    }
+
+    /**
+     * Ticks interrompidos por exceção desde a criação do kernel
+     */
+    public int getFailedTicks() {
+        return failedTicks;
+    }
+
+    public RuntimeException getLastTickFailure() {
+        return lastTickFailure;
+    }
+
+    public ArrayList<EnergyOrbEntity> getWorldOrbs() {
+        return worldOrbs;
+    }
+
+    public ArrayList<EnergyOrb> getGoldOrbs() {
+        return goldOrbs;
+    }
+
+    public ReactivePlatformSystem getReactivePlatforms() {
+        return reactivePlatforms;
+    }
+
+    public int getDormantEnemyCount() {
+        return dormantEnemyCount;
+    }
+
+    public void setParallelEnemies(boolean parallelEnemies) {
+        this.parallelEnemies = parallelEnemies;
+    }
+
+    public boolean isParallelEnemies() {
+        return parallelEnemies;
+    }
+
+    public ScoreSystem getScoreSystem() {
+        return scoreSystem;
+    }
+
+    public ParticleSystem getParticleSystem() {
+        return particleSystem;
+    }
+
+    public InfiniteWorldSystem getInfiniteWorldSystem() {
+        return infiniteWorldSystem;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public long getTickCount() {
+        return clock.getTickCount();
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+}
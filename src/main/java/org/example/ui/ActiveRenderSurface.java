@@ -0,0 +1,113 @@
+package org.example.ui;
+
+import java.awt.Canvas;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferStrategy;
+import java.util.function.Consumer;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+
+/**
+ * Superfície de renderização ativa: um Canvas com BufferStrategy (double ou triple buffer)
+ * onde a thread do loop desenha e apresenta os frames por conta própria, sem depender
+ * do repaint() do Swing.
+ *
+ * O Canvas cobre o painel hospedeiro; o foco de teclado continua no painel e os eventos
+ * de mouse são repassados para ele, então os listeners existentes continuam funcionando.
+ */
+public class ActiveRenderSurface extends Canvas {
+
+    private final JComponent host;
+    private final int bufferCount;
+
+    public ActiveRenderSurface(JComponent host, int bufferCount) {
+        this.host = host;
+        this.bufferCount = Math.max(2, Math.min(3, bufferCount));
+
+        setIgnoreRepaint(true);
+        setFocusable(false);
+        setBackground(host.getBackground());
+        setPreferredSize(host.getPreferredSize());
+
+        MouseAdapter forwarder = new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                forward(e);
+            }
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                forward(e);
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                forward(e);
+            }
+
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                forward(e);
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                forward(e);
+            }
+        };
+        addMouseListener(forwarder);
+        addMouseMotionListener(forwarder);
+    }
+
+    private void forward(MouseEvent e) {
+        host.dispatchEvent(SwingUtilities.convertMouseEvent(this, e, host));
+        if (e.getID() == MouseEvent.MOUSE_PRESSED) {
+            host.requestFocusInWindow();
+        }
+    }
+
+    /**
+     * Desenha e apresenta um frame. Deve ser chamado pela thread do loop.
+     * @return false se a superfície ainda não está visível (o frame foi descartado)
+     */
+    public boolean render(Consumer<Graphics2D> painter) {
+        if (!isDisplayable() || !isShowing() || getWidth() <= 0 || getHeight() <= 0) {
+            return false;
+        }
+
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null) {
+            try {
+                createBufferStrategy(bufferCount);
+            } catch (IllegalStateException e) {
+                // Componente ainda sem peer - tenta no próximo frame
+            }
+            return false;
+        }
+
+        try {
+            do {
+                do {
+                    Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                    g2d.setColor(host.getBackground());
+                    g2d.fillRect(0, 0, getWidth(), getHeight());
+                    // O painter é responsável por descartar o Graphics
+                    painter.accept(g2d);
+                } while (strategy.contentsRestored());
+
+                strategy.show();
+            } while (strategy.contentsLost());
+        } catch (IllegalStateException e) {
+            // Buffers perdidos (ex.: troca de tela cheia) - recriados no próximo frame
+            return false;
+        }
+
+        // Garante que o frame chegue à tela agora (importante no Linux/X11)
+        Toolkit.getDefaultToolkit().sync();
+        return true;
+    }
+}
@@ -2,17 +2,16 @@ package org.example.ui;
 
 import org.example.entities.PlayerEntity;
 import org.example.entities.EnemyEntity;
+import org.example.entities.EnergyOrbEntity;
 import org.example.systems.ComponentPhysicsEngine;
+import org.example.systems.MovementBatch;
 import org.example.inputs.CameraController;
-<<<<<<< HEAD
 import org.example.levels.InfiniteWorldSystem;
-=======
-import org.example.levels.LevelSystem;
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
 import org.example.fhysics.ScoreSystem;
 import org.example.world.Platform;
 import org.example.world.WorldBuilder;
 import org.example.inputs.InputHandler;
+import org.example.objects.Enemy;
 import org.example.objects.Player;
 import org.example.components.HealthComponent;
 import org.example.components.RenderComponent;
@@ -36,11 +35,7 @@ public class ComponentGamePanel extends JPanel {
     // Sistema de animações
     private AnimationManager animationManager;
     private CameraController cameraController;
-<<<<<<< HEAD
     private InfiniteWorldSystem infiniteWorldSystem;
-=======
-    private LevelSystem levelSystem;
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
 
     // Entidades usando sistema de componentes
     private PlayerEntity player;
@@ -50,6 +45,10 @@ public class ComponentGamePanel extends JPanel {
     // Objetos do mundo
     private List<Platform> platforms;
 
+    // Gravidade e integração de todas as entidades em arrays densos
+    private final MovementBatch movementBatch = new MovementBatch();
+    private final List<Entity> collectedOrbs = new ArrayList<>(); // Reaproveitada a cada tick
+
     // Estados do jogo
     private boolean gameLoopActive = false;
     private boolean gameOver = false;
@@ -77,38 +76,48 @@ public class ComponentGamePanel extends JPanel {
         inputHandler = new InputHandler(this);
         scoreSystem = new ScoreSystem();
         cameraController = new CameraController();
-<<<<<<< HEAD
         infiniteWorldSystem = new InfiniteWorldSystem();
-=======
-        levelSystem = new LevelSystem();
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     }
 
     private void initializeGame() {
         // Criar player usando sistema de componentes
-<<<<<<< HEAD
         player = new PlayerEntity(infiniteWorldSystem.getPlayerStartX(), infiniteWorldSystem.getPlayerStartY());
 
         // Criar mundo usando WorldBuilder
-        platforms = WorldBuilder.createInitialPlatforms();
-=======
-        LevelSystem.LevelData levelData = levelSystem.getCurrentLevelData();
-        player = new PlayerEntity(levelData.playerStartX, levelData.playerStartY);
+        ArrayList<Platform> worldPlatforms = WorldBuilder.createInitialPlatforms();
+        platforms = worldPlatforms;
 
-        // Criar mundo usando WorldBuilder
-        platforms = WorldBuilder.createPlatformsForLevel(levelSystem.getCurrentLevel());
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
+        movementBatch.clear();
+        movementBatch.add(player, true);
 
-        // Criar enemies usando sistema de componentes
+        // Criar enemies usando sistema de componentes (mesmas posições e patrulhas do mundo gerado)
         enemies = new ArrayList<>();
+        for (Enemy enemy : WorldBuilder.createInitialEnemies(worldPlatforms)) {
+            spawnEnemy(new EnemyEntity((float) enemy.x, (float) enemy.y,
+                    (float) enemy.patrolLeft, (float) enemy.patrolRight));
+        }
 
-        // Criar orbs usando sistema de componentes
+        // Criar orbs usando sistema de componentes (orbs cianos publicados pelo WorldBuilder)
         energyOrbs = new ArrayList<>();
+        for (EnergyOrbEntity orb : WorldBuilder.worldOrbs) {
+            spawnOrb(orb);
+        }
+    }
 
-<<<<<<< HEAD
-=======
-        System.out.println("Jogo inicializado com sistema de componentes!");
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
+    /**
+     * Coloca o enemy no mundo e no lote de movimento (gravidade, integração e colisões)
+     */
+    private void spawnEnemy(EnemyEntity enemy) {
+        enemies.add(enemy);
+        movementBatch.add(enemy, true);
+    }
+
+    /**
+     * Coloca a orb no mundo e no lote de movimento (sem gravidade)
+     */
+    private void spawnOrb(Entity orb) {
+        energyOrbs.add(orb);
+        movementBatch.add(orb, false);
     }
 
     private void setupInput() {
@@ -206,23 +215,14 @@ public class ComponentGamePanel extends JPanel {
                     method.invoke(cameraController, new Player((int)player.getX(), (int)player.getY()));
                 } catch (Exception e3) {
                     // Fallback: não atualiza câmera mas não quebra o jogo
-<<<<<<< HEAD
-=======
-                    System.out.println("Info: Câmera não foi atualizada - método não encontrado");
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
                 }
             }
         }
     }
 
     private void applyPhysics(float deltaTime) {
-        // Aplicar gravidade ao player
-        ComponentPhysicsEngine.applyGravity(player);
-
-        // Aplicar gravidade aos enemies
-        for (EnemyEntity enemy : enemies) {
-            ComponentPhysicsEngine.applyGravity(enemy);
-        }
+        // Gravidade, velocidade terminal e integração de todas as entidades de uma vez
+        movementBatch.step(deltaTime);
     }
 
     private void updateEntities(float deltaTime) {
@@ -241,21 +241,13 @@ public class ComponentGamePanel extends JPanel {
     }
 
     private void checkCollisions() {
-        // Colisões player-plataforma
-        ComponentPhysicsEngine.checkPlayerPlatformCollisions(player, platforms);
-
-        // Colisões enemy-plataforma
-        for (EnemyEntity enemy : enemies) {
-            ComponentPhysicsEngine.checkEnemyPlatformCollisions(enemy, platforms);
-        }
-
-        // Colisões player-enemy
-        ComponentPhysicsEngine.checkPlayerEnemyCollisions(player, enemies);
-
-        // Colisões player-orb
-        List<Entity> collectedOrbs = ComponentPhysicsEngine.checkPlayerOrbCollisions(player, energyOrbs);
-        for (Entity orb : collectedOrbs) {
+        // Plataformas, player-enemy e player-orb sobre os componentes guardados no lote
+        collectedOrbs.clear();
+        ComponentPhysicsEngine.checkBatchCollisions(movementBatch, player, platforms, collectedOrbs);
+        for (int i = 0; i < collectedOrbs.size(); i++) {
+            Entity orb = collectedOrbs.get(i);
             energyOrbs.remove(orb);
+            movementBatch.remove(orb);
         }
     }
 
@@ -275,10 +267,6 @@ public class ComponentGamePanel extends JPanel {
         if (gameOver) return;
 
         gameOver = true;
-<<<<<<< HEAD
-=======
-        System.out.println("GAME OVER! Pontuação final: " + scoreSystem.getCurrentScore());
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
 
         // Parar o game loop
         stopGameLoop();
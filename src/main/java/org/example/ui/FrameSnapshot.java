@@ -0,0 +1,312 @@
+package org.example.ui;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.example.entities.EnergyOrbEntity;
+import org.example.objects.Enemy;
+import org.example.objects.EnergyOrb;
+import org.example.objects.FlyingEnemy;
+import org.example.objects.Player;
+import org.example.world.ParticleSystem;
+import org.example.world.Platform;
+
+/**
+ * Estado de renderização publicado pela simulação ao fim de cada tick.
+ *
+ * O renderer não toca em nenhum objeto vivo da simulação: cada capture* copia o que o desenho
+ * precisa para arrays próprios do snapshot, e o renderer chama as versões estáticas de draw()
+ * com esses valores. Plataformas (geometria, tipo, quebrada, quadro de sprite), inimigos
+ * (posição no tick anterior e no atual, direção, animação, partículas), player
+ * (Player.RenderState), partículas (tipo, posição, cor, vida), orbs, HUD e câmera não mudam
+ * depois de publicados. Cores, Strings e quadros de sprite são imutáveis e entram por referência.
+ *
+ * Os arrays são reaproveitados entre ticks para não gerar lixo.
+ */
+public class FrameSnapshot {
+
+    // Plataformas
+    int[] platformX = new int[256];
+    int[] platformY = new int[256];
+    int[] platformWidth = new int[256];
+    int[] platformHeight = new int[256];
+    Platform.PlatformType[] platformType = new Platform.PlatformType[256];
+    boolean[] platformBroken = new boolean[256];
+    BufferedImage[] platformSprite = new BufferedImage[256];
+    int platformCount;
+
+    // Inimigos terrestres (posição anterior e atual + estado de desenho)
+    double[] enemyPrevX = new double[32];
+    double[] enemyPrevY = new double[32];
+    double[] enemyX = new double[32];
+    double[] enemyY = new double[32];
+    int[] enemyWidth = new int[32];
+    int[] enemyHeight = new int[32];
+    int[] enemyDirection = new int[32];
+    String[] enemyAnimation = new String[32];
+    int[] enemyAnimationFrame = new int[32];
+    int[] enemyEyeGlow = new int[32];
+    int enemyCount;
+
+    // Inimigos voadores (posição anterior e atual + estado de desenho)
+    float[] flyingPrevX = new float[32];
+    float[] flyingPrevY = new float[32];
+    float[] flyingX = new float[32];
+    float[] flyingY = new float[32];
+    int[] flyingWidth = new int[32];
+    int[] flyingHeight = new int[32];
+    boolean[] flyingAlive = new boolean[32];
+    Color[] flyingColor = new Color[32];
+    float[] flyingWingFlap = new float[32];
+    int[] flyingDirection = new int[32];
+    String[] flyingAnimation = new String[32];
+    int[] flyingParticleFrom = new int[32]; // Faixa [from, to) nos arrays de partículas abaixo
+    int[] flyingParticleTo = new int[32];
+    int flyingEnemyCount;
+
+    // Partículas dos inimigos voadores
+    float[] flyingParticleX = new float[256];
+    float[] flyingParticleY = new float[256];
+    Color[] flyingParticleColor = new Color[256];
+
+    // Orbs ainda não coletados (só a posição: o desenho do orb não depende de mais nada)
+    int[] cyanOrbX = new int[256];
+    int[] cyanOrbY = new int[256];
+    int cyanOrbCount;
+    int[] goldOrbX = new int[64];
+    int[] goldOrbY = new int[64];
+    int goldOrbCount;
+
+    // Partículas
+    int[] particleKind = new int[256];
+    float[] particleX = new float[256];
+    float[] particleY = new float[256];
+    Color[] particleColor = new Color[256];
+    float[] particleLife = new float[256]; // Vida restante / vida inicial
+    float[] particleIntensity = new float[256];
+    int particleCount;
+
+    // Player
+    boolean hasPlayer;
+    final Player.RenderState player = new Player.RenderState();
+    int playerPrevX, playerPrevY;
+    int playerX, playerY;
+
+    // HUD
+    int lives;
+    int energy;
+    int score;
+    int scoreMultiplier;
+
+    // Câmera
+    int cameraPrevX, cameraPrevY;
+    int cameraX, cameraY;
+
+    void capturePlatforms(ArrayList<Platform> source) {
+        int count = source == null ? 0 : source.size();
+        if (platformX.length < count) {
+            int size = grow(count);
+            platformX = new int[size];
+            platformY = new int[size];
+            platformWidth = new int[size];
+            platformHeight = new int[size];
+            platformType = new Platform.PlatformType[size];
+            platformBroken = new boolean[size];
+            platformSprite = new BufferedImage[size];
+        }
+        for (int i = 0; i < count; i++) {
+            Platform platform = source.get(i);
+            platformX[i] = platform.x;
+            platformY[i] = platform.y;
+            platformWidth[i] = platform.width;
+            platformHeight[i] = platform.height;
+            platformType[i] = platform.type;
+            platformBroken[i] = platform.isBroken();
+            platformSprite[i] = platform.getSpriteFrame();
+        }
+        clearTail(platformSprite, count, platformCount);
+        platformCount = count;
+    }
+
+    void captureEnemies(ArrayList<Enemy> source) {
+        int count = source == null ? 0 : source.size();
+        if (enemyX.length < count) {
+            int size = grow(count);
+            enemyPrevX = new double[size];
+            enemyPrevY = new double[size];
+            enemyX = new double[size];
+            enemyY = new double[size];
+            enemyWidth = new int[size];
+            enemyHeight = new int[size];
+            enemyDirection = new int[size];
+            enemyAnimation = new String[size];
+            enemyAnimationFrame = new int[size];
+            enemyEyeGlow = new int[size];
+        }
+        for (int i = 0; i < count; i++) {
+            Enemy enemy = source.get(i);
+            enemyPrevX[i] = enemy.lastTickX;
+            enemyPrevY[i] = enemy.lastTickY;
+            enemyX[i] = enemy.x;
+            enemyY[i] = enemy.y;
+            enemyWidth[i] = enemy.width;
+            enemyHeight[i] = enemy.height;
+            enemyDirection[i] = enemy.direction;
+            enemyAnimation[i] = enemy.getCurrentAnimation();
+            enemyAnimationFrame[i] = enemy.getAnimationFrame();
+            enemyEyeGlow[i] = enemy.getEyeGlowIntensity();
+        }
+        enemyCount = count;
+    }
+
+    void captureFlyingEnemies(ArrayList<FlyingEnemy> source) {
+        int count = source == null ? 0 : source.size();
+        if (flyingX.length < count) {
+            int size = grow(count);
+            flyingPrevX = new float[size];
+            flyingPrevY = new float[size];
+            flyingX = new float[size];
+            flyingY = new float[size];
+            flyingWidth = new int[size];
+            flyingHeight = new int[size];
+            flyingAlive = new boolean[size];
+            flyingColor = new Color[size];
+            flyingWingFlap = new float[size];
+            flyingDirection = new int[size];
+            flyingAnimation = new String[size];
+            flyingParticleFrom = new int[size];
+            flyingParticleTo = new int[size];
+        }
+
+        int particles = 0;
+        for (int i = 0; i < count; i++) {
+            particles += source.get(i).getParticleCount();
+        }
+        if (flyingParticleX.length < particles) {
+            int size = grow(particles);
+            flyingParticleX = new float[size];
+            flyingParticleY = new float[size];
+            flyingParticleColor = new Color[size];
+        }
+
+        int next = 0;
+        for (int i = 0; i < count; i++) {
+            FlyingEnemy flyingEnemy = source.get(i);
+            flyingPrevX[i] = flyingEnemy.lastTickX;
+            flyingPrevY[i] = flyingEnemy.lastTickY;
+            flyingX[i] = flyingEnemy.x;
+            flyingY[i] = flyingEnemy.y;
+            flyingWidth[i] = (int) flyingEnemy.width;
+            flyingHeight[i] = (int) flyingEnemy.height;
+            flyingAlive[i] = flyingEnemy.isAlive();
+            flyingColor[i] = flyingEnemy.getEnemyColor();
+            flyingWingFlap[i] = flyingEnemy.getWingFlap();
+            flyingDirection[i] = flyingEnemy.getDirection();
+            flyingAnimation[i] = flyingEnemy.getCurrentAnimation();
+            flyingParticleFrom[i] = next;
+            next = flyingEnemy.copyParticles(flyingParticleX, flyingParticleY, flyingParticleColor, next);
+            flyingParticleTo[i] = next;
+        }
+        flyingEnemyCount = count;
+    }
+
+    void captureOrbs(ArrayList<EnergyOrbEntity> cyanSource, ArrayList<EnergyOrb> goldSource) {
+        cyanOrbCount = 0;
+        if (cyanSource != null) {
+            if (cyanOrbX.length < cyanSource.size()) {
+                cyanOrbX = new int[grow(cyanSource.size())];
+                cyanOrbY = new int[cyanOrbX.length];
+            }
+            for (int i = 0; i < cyanSource.size(); i++) {
+                EnergyOrbEntity orb = cyanSource.get(i);
+                if (!orb.isCollected()) {
+                    cyanOrbX[cyanOrbCount] = (int) orb.getX();
+                    cyanOrbY[cyanOrbCount] = (int) orb.getY();
+                    cyanOrbCount++;
+                }
+            }
+        }
+
+        goldOrbCount = 0;
+        if (goldSource != null) {
+            if (goldOrbX.length < goldSource.size()) {
+                goldOrbX = new int[grow(goldSource.size())];
+                goldOrbY = new int[goldOrbX.length];
+            }
+            for (int i = 0; i < goldSource.size(); i++) {
+                EnergyOrb orb = goldSource.get(i);
+                if (!orb.isCollected()) {
+                    goldOrbX[goldOrbCount] = orb.x;
+                    goldOrbY[goldOrbCount] = orb.y;
+                    goldOrbCount++;
+                }
+            }
+        }
+    }
+
+    void captureParticles(ParticleSystem particleSystem) {
+        int count = particleSystem == null ? 0 : particleSystem.getParticleCount();
+        if (particleX.length < count) {
+            int size = grow(count);
+            particleKind = new int[size];
+            particleX = new float[size];
+            particleY = new float[size];
+            particleColor = new Color[size];
+            particleLife = new float[size];
+            particleIntensity = new float[size];
+        }
+        for (int i = 0; i < count; i++) {
+            ParticleSystem.Particle particle = particleSystem.getParticle(i);
+            particleKind[i] = particle.getKind();
+            particleX[i] = particle.getX();
+            particleY[i] = particle.getY();
+            particleColor[i] = particle.getColor();
+            particleLife[i] = particle.getLifeRatio();
+            particleIntensity[i] = particle.getIntensity();
+        }
+        particleCount = count;
+    }
+
+    void capturePlayer(Player source) {
+        hasPlayer = source != null;
+        if (source != null) {
+            source.captureRenderState(player);
+            playerPrevX = source.lastTickX;
+            playerPrevY = source.lastTickY;
+            playerX = source.x;
+            playerY = source.y;
+            lives = source.getLives();
+            energy = source.getCurrentEnergy();
+        }
+    }
+
+    void captureScore(int currentScore, int multiplier) {
+        score = currentScore;
+        scoreMultiplier = multiplier;
+    }
+
+    void captureCamera(int previousX, int previousY, int currentX, int currentY) {
+        cameraPrevX = previousX;
+        cameraPrevY = previousY;
+        cameraX = currentX;
+        cameraY = currentY;
+    }
+
+    /**
+     * Capacidade com folga para não realocar a cada tick
+     */
+    private static int grow(int required) {
+        return Math.max(16, required + (required >> 1));
+    }
+
+    /**
+     * Solta as referências que sobraram de um snapshot maior (evita segurar quadros de sprite antigos)
+     */
+    private static void clearTail(Object[] array, int from, int previousCount) {
+        if (previousCount > from) {
+            Arrays.fill(array, from, Math.min(previousCount, array.length), null);
+        }
+    }
+}
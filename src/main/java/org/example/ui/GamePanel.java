@@ -1,6 +1,5 @@
 package org.example.ui;
 
-<<<<<<< HEAD
 import java.awt.BasicStroke;
 import java.awt.CardLayout;
 import java.awt.Color;
@@ -17,7 +16,7 @@ import javax.swing.JPanel;
 import org.example.world.MapTheme;
 
 import org.example.world.IBackgroundManager;
-import org.example.fhysics.PhysicsEngine;
+import org.example.audio.AudioManager;
 import org.example.fhysics.ScoreSystem;
 import org.example.inputs.CameraController;
 import org.example.inputs.InputHandler;
@@ -26,153 +25,84 @@ import org.example.main.CyberRunnerGame;
 import org.example.objects.Enemy;
 import org.example.objects.EnergyOrb;
 import org.example.objects.Player;
+import org.example.systems.FramePacer;
+import org.example.systems.FrameProfiler;
+import org.example.systems.LoopScheduler;
+import org.example.systems.SimulationKernel;
 import org.example.world.CyberpunkBackgroundManager;
 import org.example.world.ParticleSystem;
 import org.example.world.Platform;
-import org.example.world.ReactivePlatformSystem;
-import org.example.world.WindEffect;
+import org.example.world.PlatformIntervalIndex;
 import org.example.world.WorldBuilder;
 
 
-=======
-import org.example.inputs.CameraController;
-import org.example.main.CyberRunnerGame;
-import org.example.inputs.InputHandler;
-import org.example.levels.LevelSystem;
-import org.example.levels.LevelGoal;
-import org.example.levels.LevelTransitionScreen;
-import org.example.fhysics.PhysicsEngine;
-import org.example.fhysics.ScoreSystem;
-import org.example.world.Platform;
-import org.example.world.WorldBuilder;
-import org.example.objects.Enemy;
-import org.example.objects.EnergyOrb;
-import org.example.objects.Player;
-import org.example.graphics.AnimationManager;
-import javax.swing.JPanel;
-import java.util.ArrayList;
-import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.Color;
-import java.awt.Font;
-import java.awt.FontMetrics;
-import java.awt.RenderingHints;
-import java.awt.CardLayout;
-import java.awt.Container;
-import java.awt.Dimension;
-import java.awt.BasicStroke;
-
-// Classe para gerenciar dados de respawn de inimigos
-class EnemyRespawnData {
-    public Enemy enemy;
-    public long deathTime;
-    public double originalX;
-    public double originalY;
-    public double patrolLeft;
-    public double patrolRight;
-    
-    public EnemyRespawnData(Enemy enemy, double originalX, double originalY, double patrolLeft, double patrolRight) {
-        this.enemy = enemy;
-        this.deathTime = System.currentTimeMillis();
-        this.originalX = originalX;
-        this.originalY = originalY;
-        this.patrolLeft = patrolLeft;
-        this.patrolRight = patrolRight;
-    }
-    
-    public boolean shouldRespawn() {
-        return System.currentTimeMillis() - deathTime >= GamePanel.ENEMY_RESPAWN_DELAY;
-    }
-}
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
 
 public class GamePanel extends JPanel {
 
     // Sistemas do jogo
-<<<<<<< HEAD
     private long lastRenderTime = 0;
     private InputHandler inputHandler;
     private ScoreSystem scoreSystem;
     private CameraController cameraController;
-    private InfiniteWorldSystem infiniteWorldSystem;
     private IBackgroundManager backgroundManager;
     private ParticleSystem particleSystem;
-    private ArrayList<WindEffect> windEffects;
-=======
-    private InputHandler inputHandler;
-    private ScoreSystem scoreSystem;
-    
-    // Sistema de animações
-    private AnimationManager animationManager;
-    private CameraController cameraController;
-    private LevelSystem levelSystem; // ⭐ ADICIONADO: Declaração do campo levelSystem
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
+
+    // Simulação sem Swing; o painel só aplica o input e desenha
+    private SimulationKernel simulation;
+
+    // Tempo por etapa do update/render (overlay com F3)
+    private FrameProfiler profiler;
+    private volatile boolean showProfiler = false;
 
     // Integração com menu e frame principal
     private MenuSystem menuSystem;
     private CyberRunnerGame gameFrame;
-    private boolean gameLoopActive = false;
-    private Thread gameThread;
+    private volatile boolean gameLoopActive = false;
+    private LoopScheduler.Registration loopRegistration;
 
     // Objetos do jogo
     private Player player;
     private ArrayList<Platform> platforms;
     private ArrayList<Enemy> enemies;
     private ArrayList<EnergyOrb> energyOrbs;
-<<<<<<< HEAD
     private ArrayList<org.example.objects.FlyingEnemy> flyingEnemies;
 
-    // Sistema de respawn de inimigos
-    private ArrayList<EnemyRespawnData> enemyRespawnQueue;
-    public static final int ENEMY_RESPAWN_DELAY = 5000;
-    public static final int MAX_ACTIVE_ENEMIES = 8;
+    private boolean gameOver = false;
+    private boolean gamePaused = false;
 
-    // Constantes de morte
-    private static final int DEATH_Y_THRESHOLD = 800;
-    private static final int WORLD_BOUNDS_LEFT = -500;
+    // Fração do tick atual já decorrida (0..1), usada para interpolar a renderização
+    private volatile double renderAlpha = 1.0;
 
-    // Sistema de ativação/desativação de inimigos
-    private boolean enemiesEnabled = true;
+    // Estado do passo fixo entre frames do loop (só a thread do LoopScheduler usa)
+    private long loopLastTime;
+    private double loopAccumulator;
+    private int ticksSinceRender;
+    private int failedUpdates; // Ticks que terminaram em exceção (log no primeiro e a cada segundo de falhas)
 
-    // Sistema de geração de partículas
-    private long lastParticleSpawnTime = 0;
-    private static final long PARTICLE_SPAWN_INTERVAL = 2000;
-=======
+    // Snapshots publicados pela simulação e lidos pelo renderer (sem locks)
+    private final SnapshotExchange snapshotExchange = new SnapshotExchange();
+    private FrameSnapshot currentFrame; // Snapshot sendo desenhado (somente a thread de renderização usa)
+    private final ArrayList<Platform> visiblePlatforms = new ArrayList<>(); // Janela da câmera (thread da simulação)
 
-    // Sistema de respawn de inimigos
-    private ArrayList<EnemyRespawnData> enemyRespawnQueue;
-    public static final int ENEMY_RESPAWN_DELAY = 10000; // 10 segundos em millisegundos
+    // Folga horizontal da janela de plataformas (brilhos e efeitos desenhados fora do hitbox)
+    private static final int PLATFORM_CULL_MARGIN = 200;
 
-    // Sistema de ativação/desativação de inimigos
-    private boolean enemiesEnabled = true;
-    private ArrayList<Enemy> disabledEnemies; // Inimigos temporariamente desativados
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
+    // Renderização ativa (null = modo passivo com repaint())
+    private ActiveRenderSurface activeSurface;
 
-    private boolean gameOver = false;
-    private boolean gamePaused = false;
+    // Velocidade da simulação (tempo real, acelerada ou sem limite)
+    private volatile SimulationSpeed simulationSpeed = SimulationSpeed.realTime();
+    private final java.util.function.Consumer<Graphics2D> frameRenderer = this::renderFrame;
 
-<<<<<<< HEAD
     public InfiniteWorldSystem getInfiniteWorldSystem() {
-        return infiniteWorldSystem;
-=======
-    public LevelSystem getLevelSystem() {
-        return levelSystem;
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
+        return simulation.getInfiniteWorldSystem();
     }
 
     public GamePanel() {
         setupPanel();
-<<<<<<< HEAD
 
         initializeSystems(MapTheme.CYBERPUNK);
         initializeGame();
-=======
-        initializeSystems();
-        initializeGame();
-        
-        // Inicializar sistema de animações
-        this.animationManager = AnimationManager.getInstance();
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         setupInput();
     }
 
@@ -183,12 +113,32 @@ public class GamePanel extends JPanel {
         this.setFocusable(true);
     }
 
-<<<<<<< HEAD
     public GamePanel(MapTheme selectedTheme) {
+        this(selectedTheme, RenderMode.PASSIVE);
+    }
+
+    public GamePanel(MapTheme selectedTheme, RenderMode renderMode) {
         setupPanel();
         initializeSystems(selectedTheme);
         initializeGame();
         setupInput();
+
+        if (renderMode == RenderMode.ACTIVE) {
+            enableActiveRendering();
+        }
+    }
+
+    /**
+     * Cobre o painel com um Canvas triple buffered; a partir daí a thread do loop apresenta os frames
+     */
+    private void enableActiveRendering() {
+        activeSurface = new ActiveRenderSurface(this, 3);
+        this.setLayout(new java.awt.BorderLayout());
+        this.add(activeSurface, java.awt.BorderLayout.CENTER);
+    }
+
+    public RenderMode getRenderMode() {
+        return activeSurface != null ? RenderMode.ACTIVE : RenderMode.PASSIVE;
     }
 
     // Mude o método initializeSystems para usar o tema
@@ -211,77 +161,35 @@ public class GamePanel extends JPanel {
         }
 
         particleSystem = new ParticleSystem();
-        windEffects = new ArrayList<>();
-        enemyRespawnQueue = new ArrayList<>();
-    }
-
-    private void initializeGame() {
-        infiniteWorldSystem = new InfiniteWorldSystem();
-        player = new Player(infiniteWorldSystem.getPlayerStartX(), infiniteWorldSystem.getPlayerStartY());
-        setupPlayerColors();
 
-        platforms = WorldBuilder.createInitialPlatforms();
-        cameraController.centerOnPlayer(player);
-
-        enemies = WorldBuilder.createInitialEnemies();
-        energyOrbs = new ArrayList<>();
+        simulation = new SimulationKernel(scoreSystem, particleSystem);
+        simulation.setListener(new SimulationKernel.Listener() {
+            @Override
+            public void onPlayerRespawned(Player respawned) {
+                cameraController.centerOnPlayer(respawned);
+            }
 
-        flyingEnemies = WorldBuilder.getFlyingEnemies();
-        if (flyingEnemies != null && !flyingEnemies.isEmpty()) {
-            // Definir o player como alvo dos inimigos voadores
-            for (org.example.objects.FlyingEnemy flyingEnemy : flyingEnemies) {
-                if (flyingEnemy != null) {
-                    flyingEnemy.setTargetPlayer(player);
-                }
+            @Override
+            public void onGameOver(int finalScore) {
+                triggerGameOver();
             }
-        }
+        });
+        profiler = simulation.getProfiler();
 
-        ReactivePlatformSystem.createReactivePlatforms(platforms);
-        createWindEffects();
-    }
-    private void setupPlayerColors() {
-        try {
-=======
-    private void initializeSystems() {
-        inputHandler = new InputHandler(this);
-        scoreSystem = new ScoreSystem();
-        cameraController = new CameraController();
-        enemyRespawnQueue = new ArrayList<>();
-        disabledEnemies = new ArrayList<>();
+        // A batida da música segue o relógio da partida
+        AudioManager.setClock(simulation.getClock()::nowMillis);
     }
 
     private void initializeGame() {
-        // Inicializar sistema de fases
-        levelSystem = new LevelSystem();
-
-        // Inicializar player na posição da fase
-        LevelSystem.LevelData levelData = levelSystem.getCurrentLevelData();
-        player = new Player(levelData.playerStartX, levelData.playerStartY);
+        simulation.reset();
+        syncWithSimulation();
         setupPlayerColors();
 
-        // Usar WorldBuilder para criar o mundo baseado na fase atual
-        platforms = WorldBuilder.createPlatformsForLevel(
-                levelSystem.getCurrentLevel()
-        );
-        enemies = WorldBuilder.createEnemiesForLevel(
-                levelSystem.getCurrentLevel(),
-                levelData.difficultyMultiplier
-        );
-        energyOrbs = WorldBuilder.createEnergyOrbsForLevel(
-                levelSystem.getCurrentLevel(),
-                levelData.difficultyMultiplier
-        );
-
-        System.out.println("Fase " + levelSystem.getCurrentLevel() + " criada: " +
-                platforms.size() + " plataformas, " +
-                enemies.size() + " inimigos, " +
-                energyOrbs.size() + " orbs");
+        cameraController.centerOnPlayer(player);
+        publishSnapshot();
     }
-
     private void setupPlayerColors() {
         try {
-            // CORREÇÃO: Verificar se os métodos existem antes de chamá-los
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
             if (hasMethod(player, "changePrimaryColor")) {
                 player.changePrimaryColor(GameConfig.PRIMARY_COLOR);
             }
@@ -292,10 +200,6 @@ public class GamePanel extends JPanel {
                 player.changeAccentColor(GameConfig.ACCENT_COLOR);
             }
         } catch (Exception e) {
-<<<<<<< HEAD
-=======
-            System.out.println("Aviso: Métodos de cor do player não encontrados: " + e.getMessage());
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         }
     }
 
@@ -309,7 +213,6 @@ public class GamePanel extends JPanel {
     }
 
     private void setupInput() {
-<<<<<<< HEAD
         for (java.awt.event.KeyListener listener : this.getKeyListeners()) {
             this.removeKeyListener(listener);
         }
@@ -345,6 +248,11 @@ public class GamePanel extends JPanel {
                     return;
                 }
 
+                if (keyCode == java.awt.event.KeyEvent.VK_F3) {
+                    showProfiler = !showProfiler;
+                    return;
+                }
+
                 if (inputHandler != null) {
                     inputHandler.keyPressed(e);
                 }
@@ -362,13 +270,6 @@ public class GamePanel extends JPanel {
         this.requestFocusInWindow();
     }
 
-=======
-        this.addKeyListener(inputHandler);
-    }
-
-    // === SETTERS PARA INTEGRAÇÃO ===
-
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     public void setMenuSystem(MenuSystem menuSystem) {
         this.menuSystem = menuSystem;
     }
@@ -377,768 +278,211 @@ public class GamePanel extends JPanel {
         this.gameFrame = gameFrame;
     }
 
-<<<<<<< HEAD
     public CyberRunnerGame getGameFrame() {
         return gameFrame;
     }
-=======
-    // === CONTROLE DO GAME LOOP ===
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
 
     public void startGameLoop() {
         if (gameLoopActive) return;
 
         gameLoopActive = true;
         gamePaused = false;
-<<<<<<< HEAD
-=======
-        System.out.println("Iniciando game loop...");
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
+        loopLastTime = System.nanoTime();
+        loopAccumulator = 0;
+
+        // Loop compartilhado: suspende sozinho com o painel escondido e fica ocioso na pausa
+        loopRegistration = LoopScheduler.getInstance().register("game", this, new LoopScheduler.Client() {
+            @Override
+            public void runFrame() {
+                runLoopFrame();
+            }
 
-        gameThread = new Thread(this::gameLoop);
-        gameThread.start();
+            @Override
+            public boolean isIdle() {
+                return gamePaused || gameOver;
+            }
+        });
     }
 
     public void stopGameLoop() {
-<<<<<<< HEAD
-=======
-        System.out.println("Parando game loop...");
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         gameLoopActive = false;
-        if (gameThread != null) {
-            gameThread.interrupt();
+        if (loopRegistration != null) {
+            loopRegistration.unregister();
+            loopRegistration = null;
         }
     }
 
     public void pauseGame() {
         gamePaused = true;
-<<<<<<< HEAD
-=======
-        System.out.println("Jogo pausado");
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     }
 
     public void resumeGame() {
         gamePaused = false;
-<<<<<<< HEAD
-=======
-        System.out.println("Jogo resumido");
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     }
 
-    private void gameLoop() {
-        long lastTime = System.nanoTime();
-<<<<<<< HEAD
-        final double OPTIMAL_TIME = 1000000000.0 / 60.0;
-        double delta = 0;
-
-        while (gameLoopActive && !Thread.currentThread().isInterrupted()) {
-            long now = System.nanoTime();
-            delta += (now - lastTime);
-            lastTime = now;
-
-            if (delta >= OPTIMAL_TIME) {
-                if (!gamePaused && !gameOver) {
-                    update();
-                }
-                delta -= OPTIMAL_TIME;
-            }
-
-            repaint();
-
-            try {
-                Thread.sleep(8);
-=======
-        double nsPerFrame = 1000.0 / 60.0; // 60 FPS
-
-        while (gameLoopActive && !Thread.currentThread().isInterrupted()) {
-            long now = System.nanoTime();
-
-            if (now - lastTime >= nsPerFrame) {
-                if (!gamePaused) {
-                    update();
-                }
-                repaint();
-                lastTime = now;
-            }
-
-            try {
-                Thread.sleep(16); // ~60 FPS
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-            } catch (InterruptedException e) {
-                break;
-            }
-        }
-    }
-
-<<<<<<< HEAD
-=======
-    // === LÓGICA PRINCIPAL DO JOGO ===
-
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-    public void update() {
-        if (gameOver) return;
-
-        try {
-<<<<<<< HEAD
-            if (inputHandler != null) {
-                inputHandler.update();
-            }
-
-            updateInfiniteWorld();
-
-            PhysicsEngine.applyGravityToPlayer(player);
-            player.update();
-
-            rechargePlayerEnergy();
-
-            PhysicsEngine.checkPlayerPlatformCollisions(player, platforms);
-
-            // SISTEMA MISTO DE ORBS
-            updateCianoOrbs();  // Orbs cianos (comuns)
-            updateGoldOrbs();   // Orbs amarelos (raros - 3x pontos)
-
-            updateEnemies();
-
-            updateFlyingEnemies();
-
-            spawnRandomEnemies();
-
-            spawnPlatformParticles();
-
-            infiniteWorldSystem.update((int)player.x);
-
-            if (backgroundManager != null) {
-                try {
-                    backgroundManager.update(player.x, player.y, System.currentTimeMillis());
-                } catch (Exception e) {
-                }
-            }
-
-            particleSystem.update();
-
-            updateWindEffects();
-
-            ReactivePlatformSystem.updateReactivePlatforms(player);
-
-            cameraController.updateCamera(player);
-
-=======
-            // 0. Atualizar input
-            if (inputHandler != null) {
-                inputHandler.update();
-            }
-            
-            // 0.5. Atualizar animações
-            if (animationManager != null) {
-                animationManager.update();
-            }
-
-            // 1. Aplicar física
-            PhysicsEngine.applyGravityToPlayer(player);
-            player.update();
-
-            // 2. Recarregar energia do player
-            rechargePlayerEnergy();
-
-            // 3. Verificar colisões do player
-            PhysicsEngine.checkPlayerPlatformCollisions(player, platforms);
-
-            // 4. Atualizar e verificar orbs
-            updateEnergyOrbs();
-
-            // 5. Atualizar inimigos
-            updateEnemies();
-
-            // 6. Atualizar sistema de fases ⭐ NOVO
-            levelSystem.update(player);
-
-            // 7. Verificar se deve avançar para próxima fase ⭐ NOVO
-            if (levelSystem.shouldAdvanceToNextLevel()) {
-                advanceToNextLevel();
-                return;
-            }
-
-            // 9. Atualizar câmera
-            cameraController.updateCamera(player);
-
-            // 10. Atualizar menu system com pontuação
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-            if (menuSystem != null) {
-                menuSystem.updateScore(scoreSystem.getCurrentScore());
-                menuSystem.updateStats(scoreSystem.getEnergyOrbsCollected(), scoreSystem.getEnemiesDefeated());
-            }
-
-<<<<<<< HEAD
-            checkGameOverConditions();
-
-        } catch (Exception e) {
-        }
-    }
+    /**
+     * Um frame do loop (chamado pelo LoopScheduler): executa os ticks fixos devidos
+     * ao tempo decorrido (escalado) e apresenta o frame
+     */
+    private void runLoopFrame() {
+        final double OPTIMAL_TIME = GameConfig.NANOSECONDS_PER_FRAME;
 
-    private void updateFlyingEnemies() {
-        if (flyingEnemies == null) {
-            flyingEnemies = WorldBuilder.getFlyingEnemies();
-            if (flyingEnemies == null) {
-                flyingEnemies = new ArrayList<>();
-            }
-            return;
-        }
+        // O relógio do jogo para junto com a pausa (timers, batida da música)
+        simulation.getClock().setPaused(gamePaused);
 
-        if (flyingEnemies.isEmpty()) {
-            return;
-        }
+        SimulationSpeed speed = simulationSpeed;
+        long now = System.nanoTime();
+        // Relógio de parede escalado: com timeScale 8, cada segundo real vira 8 segundos de jogo
+        loopAccumulator += (now - loopLastTime) * speed.getTimeScale();
+        loopLastTime = now;
 
-        if (!enemiesEnabled) {
+        if (speed.isUnthrottled() && !gamePaused && !gameOver) {
+            runUnthrottledFrame(speed);
             return;
         }
 
-        for (int i = flyingEnemies.size() - 1; i >= 0; i--) {
-            org.example.objects.FlyingEnemy flyingEnemy = flyingEnemies.get(i);
-
-            if (flyingEnemy.x < -5000) {
-                // Inimigo foi derrotado, considerar respawn
-                continue;
-            }
-
-            if (player != null) {
-                flyingEnemy.setTargetPlayer(player);
-            }
-
-            if (flyingEnemy.x > -1000 && flyingEnemy.y > -1000) {
-                flyingEnemy.update(0.016f);
-
-                java.awt.Rectangle playerHitbox = player.getHitbox();
-                java.awt.Rectangle enemyHitbox = flyingEnemy.getHitbox();
-
-                if (playerHitbox.intersects(enemyHitbox)) {
-                    // Player pulou em cima do inimigo voador
-                    if (player.velocityY > 0 && player.y + player.height - 10 < flyingEnemy.y) {
-                        player.velocityY = -12;
-
-                        // ✅ SOM DE INIMIGO DERROTADO
-                        org.example.audio.AudioManager.playEnemyDownSound();
-
-                        scoreSystem.addScore(50);
-                        flyingEnemy.x = -10000;
-                        flyingEnemy.y = -10000;
-                    }
-                    // Inimigo voador machuca o player
-                    else if (!player.isInvulnerable()) {
-                        // ✅ SOM DE DANO AO PLAYER
-                        org.example.audio.AudioManager.playHurtSound();
-
-                        player.loseLife();
-                        if (player.lives <= 0) {
-                            triggerGameOver();
-                            return;
-                        }
-                    }
-                }
-            }
-        }
-    }
-
-    private void updateInfiniteWorld() {
-        try {
-            int playerX = (int)player.x;
-
-            if (playerX % 500 == 0 && playerX > 0) {
-            }
-
-        } catch (Exception e) {
-        }
-=======
-            // 11. Verificar condições de game over
-            checkGameOverConditions();
-
-        } catch (Exception e) {
-            System.out.println("Erro durante update: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-
-    private void advanceToNextLevel() {
-        System.out.println("=== AVANÇANDO PARA PRÓXIMA FASE ===");
-
-        // Adicionar bônus de fase à pontuação
-        int levelBonus = levelSystem.getCurrentLevel() * 1000;
-        scoreSystem.addScore(levelBonus); // ✅ Agora funciona com o método adicionado
-        
-        // Limpar fila de respawn de inimigos ao avançar de fase
-        enemyRespawnQueue.clear();
-
-        // Avançar para próxima fase
-        levelSystem.advanceToNextLevel();
-
-        // Recriar o mundo para a nova fase
-        LevelSystem.LevelData newLevelData = levelSystem.getCurrentLevelData();
-
-        // Reposicionar player
-        player.x = newLevelData.playerStartX;
-        player.y = newLevelData.playerStartY;
-        player.velocityX = 0;
-        player.velocityY = 0;
-        resetPlayerProperties();
-
-        // Recriar mundo
-        platforms = WorldBuilder.createPlatformsForLevel(levelSystem.getCurrentLevel());
-        enemies = WorldBuilder.createEnemiesForLevel(
-                levelSystem.getCurrentLevel(),
-                newLevelData.difficultyMultiplier
-        );
-        energyOrbs = WorldBuilder.createEnergyOrbsForLevel(
-                levelSystem.getCurrentLevel(),
-                newLevelData.difficultyMultiplier
-        );
-
-        // Resetar inimigos
-        for (Enemy enemy : enemies) {
-            resetEnemy(enemy);
-        }
-
-        // Resetar câmera
-        cameraController.resetCamera();
-
-        System.out.println("Nova fase carregada: Fase " + levelSystem.getCurrentLevel());
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-    }
-
-    private void rechargePlayerEnergy() {
-        try {
-<<<<<<< HEAD
-            if (hasMethod(player, "rechargeEnergy")) {
-                player.rechargeEnergy();
-            } else {
-=======
-            // CORREÇÃO: Verificar se o método existe
-            if (hasMethod(player, "rechargeEnergy")) {
-                player.rechargeEnergy();
-            } else {
-                // Implementação alternativa se o método não existir
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-                if (player.energyLevel < GameConfig.PLAYER_MAX_ENERGY) {
-                    player.energyLevel = Math.min(GameConfig.PLAYER_MAX_ENERGY,
-                            player.energyLevel + GameConfig.PLAYER_ENERGY_RECHARGE_RATE);
-                }
-            }
-        } catch (Exception e) {
-<<<<<<< HEAD
-        }
-    }
-
-    // COLETA DE ORBS CIANOS (comuns - 10 pontos)
-    private void updateCianoOrbs() {
-        ArrayList<org.example.entities.EnergyOrbEntity> worldOrbs = WorldBuilder.getWorldOrbs();
-
-        if (worldOrbs == null || worldOrbs.isEmpty()) return;
-
-        java.awt.Rectangle playerHitbox = player.getHitbox();
-
-        for (org.example.entities.EnergyOrbEntity orb : worldOrbs) {
-            if (orb.isCollected()) continue;
-
-            float orbX = orb.getX();
-            float orbY = orb.getY();
-            int orbSize = 16;
-
-            java.awt.Rectangle orbHitbox = new java.awt.Rectangle(
-                    (int)orbX - orbSize/2,
-                    (int)orbY - orbSize/2,
-                    orbSize,
-                    orbSize
-            );
-
-            if (playerHitbox.intersects(orbHitbox)) {
-                // ✅ SOM DE COLETA DE ORB
-                org.example.audio.AudioManager.playEffectSound();
-
-                try {
-                    java.lang.reflect.Field collectedField = orb.getClass().getDeclaredField("collected");
-                    collectedField.setAccessible(true);
-                    collectedField.set(orb, true);
-                } catch (Exception e) {
-                }
-
-                scoreSystem.addScore(GameConfig.ORB_POINTS);
-
-                player.energyLevel = Math.min(GameConfig.PLAYER_MAX_ENERGY,
-                        player.energyLevel + GameConfig.ORB_ENERGY_RESTORE);
-            }
-        }
-    }
-
-    // COLETA DE ORBS DOURADOS (raros - 30 pontos)
-    private void updateGoldOrbs() {
-        ArrayList<org.example.objects.EnergyOrb> goldOrbs = WorldBuilder.getGoldOrbs();
-
-        if (goldOrbs == null || goldOrbs.isEmpty()) return;
-
-        java.awt.Rectangle playerHitbox = player.getHitbox();
-
-        for (org.example.objects.EnergyOrb orb : goldOrbs) {
-            if (orb.isCollected()) continue;
-
-            int orbSize = 20;
-
-            java.awt.Rectangle orbHitbox = new java.awt.Rectangle(
-                    orb.x - orbSize/2,
-                    orb.y - orbSize/2,
-                    orbSize,
-                    orbSize
-            );
-
-            if (playerHitbox.intersects(orbHitbox)) {
-                // ✅ O orb.onCollect() já toca o som internamente
-                orb.onCollect(player);
-
-                int goldPoints = GameConfig.ORB_POINTS * 3;
-                scoreSystem.addScore(goldPoints);
-
-                player.energyLevel = Math.min(GameConfig.PLAYER_MAX_ENERGY,
-                        player.energyLevel + GameConfig.ORB_ENERGY_RESTORE * 2);
-=======
-            System.out.println("Aviso: Erro ao recarregar energia do player: " + e.getMessage());
-        }
-    }
-
-    private void updateEnergyOrbs() {
-        for (EnergyOrb orb : energyOrbs) {
-            if (orb != null && !orb.isCollected()) {
-                orb.update(player);
-
-                if (PhysicsEngine.checkPlayerOrbCollision(player, orb)) {
-                    orb.onCollect(player);
-                    scoreSystem.collectOrb(orb);
-                }
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
+        // Passo fixo: executa quantos ticks forem necessários para alcançar o tempo (escalado)
+        int maxUpdates = GameConfig.MAX_CATCH_UP_UPDATES * (int) Math.ceil(speed.getTimeScale());
+        int updates = 0;
+        boolean ticked = false;
+        while (loopAccumulator >= OPTIMAL_TIME && updates < maxUpdates) {
+            if (!gamePaused && !gameOver) {
+                cameraController.storePreviousPosition();
+                update();
+                ticked = true;
             }
+            loopAccumulator -= OPTIMAL_TIME;
+            updates++;
         }
-    }
-
-    private void updateEnemies() {
-<<<<<<< HEAD
-        updateEnemyRespawn();
 
-        if (!enemiesEnabled) {
-            return;
+        if (ticked) {
+            publishSnapshot();
         }
 
-=======
-        // Primeiro, verificar se algum inimigo deve ressuscitar
-        updateEnemyRespawn();
-        
-        // Só atualizar inimigos se estiverem habilitados
-        if (!enemiesEnabled) {
-            return;
+        // Espiral da morte: se nem o limite de ticks alcançou o relógio, descarta o atraso
+        if (loopAccumulator >= OPTIMAL_TIME) {
+            loopAccumulator = loopAccumulator % OPTIMAL_TIME;
         }
-        
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-        for (Enemy enemy : enemies) {
-            if (enemy != null) {
-                PhysicsEngine.applyGravityToEnemy(enemy);
-                enemy.update(player);
-                PhysicsEngine.checkEnemyPlatformCollisions(enemy, platforms);
-                PhysicsEngine.preventEnemyFallFromPlatforms(enemy, platforms);
-
-<<<<<<< HEAD
-                // Player mata o inimigo
-                if (PhysicsEngine.checkPlayerEnemyCollision(player, enemy)) {
-                    player.velocityY = -12;
-
-                    // ✅ SOM DE INIMIGO DERROTADO
-                    org.example.audio.AudioManager.playEnemyDownSound();
-
-                    scoreSystem.defeatEnemy(enemy, player, true);
-                    killEnemy(enemy);
-                }
-                // Inimigo machuca o player
-                else if (player.getHitbox().intersects(enemy.getHitbox()) && player.velocityY >= 0) {
-                    if (!player.isInvulnerable()) {
-                        // ✅ SOM DE DANO AO PLAYER
-                        org.example.audio.AudioManager.playHurtSound();
-
-=======
-                // Verificar colisão com player
-                if (PhysicsEngine.checkPlayerEnemyCollision(player, enemy)) {
-                    // Player pula no inimigo e o derrota
-                    player.velocityY = -12;
-                    scoreSystem.defeatEnemy(enemy);
-                    killEnemy(enemy);
-                } else if (player.getHitbox().intersects(enemy.getHitbox()) && player.velocityY >= 0) {
-                    // Player foi atingido lateralmente - só aplica dano se não estiver invulnerável
-                    if (!player.isInvulnerable()) {
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-                        player.loseLife();
-                        if (player.lives <= 0) {
-                            triggerGameOver();
-                            return;
-                        }
-                    }
-                }
-            }
-        }
-    }
 
-    private void updateEnemyRespawn() {
-<<<<<<< HEAD
-        int activeEnemies = 0;
-        for (Enemy enemy : enemies) {
-            if (enemy.x > -500 && enemy.y > -500) {
-                activeEnemies++;
-            }
-        }
-
-        for (int i = enemyRespawnQueue.size() - 1; i >= 0; i--) {
-            EnemyRespawnData respawnData = enemyRespawnQueue.get(i);
+        renderAlpha = (gamePaused || gameOver) ? 1.0 : loopAccumulator / OPTIMAL_TIME;
 
-            if (respawnData.shouldRespawn() && activeEnemies < MAX_ACTIVE_ENEMIES) {
-                respawnEnemy(respawnData);
-                enemyRespawnQueue.remove(i);
-                activeEnemies++;
-            }
-        }
+        presentFrame();
     }
 
-    private void spawnRandomEnemies() {
-        return;
-    }
-
-    private void spawnPlatformParticles() {
-        long currentTime = System.currentTimeMillis();
-
-        if (currentTime - lastParticleSpawnTime >= PARTICLE_SPAWN_INTERVAL) {
-            lastParticleSpawnTime = currentTime;
-
-            int playerX = (int)player.x;
-
-            for (Platform platform : platforms) {
-                int distance = Math.abs(platform.x - playerX);
-
-                if (distance <= 600 && Math.random() < 0.6) {
-                    float platformCenterX = platform.x + platform.width / 2;
-                    float platformY = platform.y;
-
-                    switch (platform.getType()) {
-                        case MOVING:
-                            particleSystem.addEnergyParticles(platformCenterX, platformY, 3);
-                            break;
-                        case BOUNCY:
-                            particleSystem.addHologramParticles(platformCenterX, platformY, 2);
-                            break;
-                        case ICE:
-                            particleSystem.addAmbientParticles(platformCenterX, platformY, 4);
-                            break;
-                        default:
-                            particleSystem.addAmbientParticles(platformCenterX, platformY, 2);
-                            break;
-                    }
-                }
+    /**
+     * Sem relógio: ticks o mais rápido possível durante o orçamento de um frame,
+     * desenhando só 1 a cada N ticks
+     */
+    private void runUnthrottledFrame(SimulationSpeed speed) {
+        long budgetEnd = System.nanoTime() + (long) (GameConfig.NANOSECONDS_PER_FRAME * 0.9);
+
+        do {
+            cameraController.storePreviousPosition();
+            update();
+
+            int renderInterval = speed.getRenderInterval();
+            if (renderInterval > 0 && ++ticksSinceRender >= renderInterval) {
+                ticksSinceRender = 0;
+                publishSnapshot();
+                renderAlpha = 1.0;
+                presentFrame();
             }
-        }
-    }
+        } while (gameLoopActive && !gamePaused && !gameOver && System.nanoTime() < budgetEnd);
 
-    private void killEnemy(Enemy enemy) {
-        EnemyRespawnData respawnData = new EnemyRespawnData(
-                enemy,
-                enemy.x,
-                enemy.y,
-                enemy.patrolLeft,
-                enemy.patrolRight
-        );
-
-        enemyRespawnQueue.add(respawnData);
-
-=======
-        // Verificar inimigos que devem ressuscitar
-        for (int i = enemyRespawnQueue.size() - 1; i >= 0; i--) {
-            EnemyRespawnData respawnData = enemyRespawnQueue.get(i);
-            
-            if (respawnData.shouldRespawn()) {
-                // Ressuscitar o inimigo
-                respawnEnemy(respawnData);
-                enemyRespawnQueue.remove(i);
-            }
-        }
+        loopAccumulator = 0;
     }
-    
-    private void killEnemy(Enemy enemy) {
-        // Salvar dados originais do inimigo
-        EnemyRespawnData respawnData = new EnemyRespawnData(
-            enemy, 
-            enemy.x, 
-            enemy.y, 
-            enemy.patrolLeft, 
-            enemy.patrolRight
-        );
-        
-        // Adicionar à fila de respawn
-        enemyRespawnQueue.add(respawnData);
-        
-        // Mover inimigo para fora da tela (torná-lo invisível)
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-        enemy.x = -1000;
-        enemy.y = -1000;
-        enemy.velocityX = 0;
-        enemy.velocityY = 0;
-<<<<<<< HEAD
-    }
-
-    private void respawnEnemy(EnemyRespawnData respawnData) {
-        Enemy enemy = respawnData.enemy;
 
-        Platform nearestPlatform = findNearestPlatform(respawnData.originalX);
-
-        if (nearestPlatform != null) {
-            enemy.x = nearestPlatform.x + (nearestPlatform.width / 2);
-            enemy.y = nearestPlatform.y - 40;
-            enemy.patrolLeft = nearestPlatform.x;
-            enemy.patrolRight = nearestPlatform.x + nearestPlatform.width - 30;
-        } else {
-            enemy.x = respawnData.originalX;
-            enemy.y = respawnData.originalY;
-            enemy.patrolLeft = respawnData.patrolLeft;
-            enemy.patrolRight = respawnData.patrolRight;
+    /**
+     * Copia o estado que o renderer precisa para o próximo buffer livre e o publica.
+     * Só a thread da simulação (ou o reset com o loop parado) pode chamar.
+     */
+    private void publishSnapshot() {
+        FrameSnapshot frame = snapshotExchange.beginWrite();
+
+        frame.capturePlatforms(collectVisiblePlatforms());
+        frame.captureEnemies(enemies);
+        frame.captureFlyingEnemies(flyingEnemies);
+        frame.captureOrbs(simulation.getWorldOrbs(), simulation.getGoldOrbs());
+        frame.captureParticles(particleSystem);
+        frame.capturePlayer(player);
+        frame.captureCamera(cameraController.getPreviousCameraX(), cameraController.getPreviousCameraY(),
+                cameraController.getCameraX(), cameraController.getCameraY());
+        if (scoreSystem != null) {
+            frame.captureScore(scoreSystem.getCurrentScore(), scoreSystem.getScoreMultiplier());
         }
 
-        enemy.velocityX = 0;
-        enemy.velocityY = 0;
-        enemy.direction = 1;
+        snapshotExchange.publish();
     }
 
-    private Platform findNearestPlatform(double x) {
-        Platform nearest = null;
-        double minDistance = Double.MAX_VALUE;
-
-        for (Platform platform : platforms) {
-            double distance = Math.abs(platform.x - x);
-            if (distance < minDistance && distance < 500) {
-                minDistance = distance;
-                nearest = platform;
-            }
+    /**
+     * Plataformas na faixa horizontal que a câmera pode mostrar entre o tick anterior e o atual
+     */
+    private ArrayList<Platform> collectVisiblePlatforms() {
+        PlatformIntervalIndex index = simulation != null ? simulation.getPlatformIndex() : null;
+        if (index == null || index.isEmpty()) {
+            return platforms;
         }
 
-        return nearest;
+        int viewWidth = Math.max(getWidth(), GameConfig.SCREEN_WIDTH);
+        int left = Math.min(cameraController.getPreviousCameraX(), cameraController.getCameraX());
+        int right = Math.max(cameraController.getPreviousCameraX(), cameraController.getCameraX()) + viewWidth;
+        return index.queryOverlapping(left - PLATFORM_CULL_MARGIN, right + PLATFORM_CULL_MARGIN, visiblePlatforms);
     }
 
-    private void checkGameOverConditions() {
-        if (player == null) return;
-
-        // Player caiu do mapa
-        if (player.y > DEATH_Y_THRESHOLD) {
-            // ✅ SOM DE QUEDA/DANO
-            org.example.audio.AudioManager.playFallSound();
-
-            player.loseLife();
-
-            if (player.lives <= 0) {
-                triggerGameOver();
-            } else {
-                respawnPlayer();
-            }
-            return;
-        }
-
-        // Player saiu dos limites do mundo
-        if (player.x < WORLD_BOUNDS_LEFT) {
-            // ✅ SOM DE DANO
-            org.example.audio.AudioManager.playHurtSound();
-
-            player.loseLife();
-
-            if (player.lives <= 0) {
-                triggerGameOver();
-            } else {
-                respawnPlayer();
-            }
-            return;
-        }
-
-        if (player.lives <= 0) {
-            triggerGameOver();
-        }
+    /**
+     * Atualiza as referências da view depois que a simulação recria o mundo
+     */
+    private void syncWithSimulation() {
+        player = simulation.getPlayer();
+        platforms = simulation.getPlatforms();
+        enemies = simulation.getEnemies();
+        flyingEnemies = simulation.getFlyingEnemies();
     }
 
-    private void respawnPlayer() {
-        Platform respawnPlatform = findSafeRespawnPlatform();
-
-        if (respawnPlatform != null) {
-            player.x = respawnPlatform.x + (respawnPlatform.width / 2) - (player.width / 2);
-            player.y = respawnPlatform.y - player.height - 10;
-        } else {
-            player.x = infiniteWorldSystem.getPlayerStartX();
-            player.y = infiniteWorldSystem.getPlayerStartY();
-        }
-
-        player.velocityX = 0;
-        player.velocityY = 0;
-
-        try {
-            java.lang.reflect.Method setInvulnerableMethod = player.getClass().getMethod("setInvulnerable", boolean.class);
-            setInvulnerableMethod.invoke(player, true);
-        } catch (Exception e) {
-        }
+    public void update() {
+        if (gameOver) return;
 
-        cameraController.centerOnPlayer(player);
+        try {
+            profiler.begin(FrameProfiler.Stage.INPUT);
+            if (inputHandler != null) {
+                inputHandler.update();
+            }
+            profiler.end(FrameProfiler.Stage.INPUT);
 
-    }
+            simulation.tick();
 
-    private Platform findSafeRespawnPlatform() {
-        if (platforms.isEmpty()) return null;
+            profiler.begin(FrameProfiler.Stage.BACKGROUND);
+            if (backgroundManager != null) {
+                try {
+                    backgroundManager.update(player.x, player.y, simulation.getClock().nowMillis());
+                } catch (Exception e) {
+                }
+            }
+            profiler.end(FrameProfiler.Stage.BACKGROUND);
 
-        Platform bestPlatform = null;
-        double minDistance = Double.MAX_VALUE;
+            profiler.begin(FrameProfiler.Stage.CAMERA);
+            cameraController.updateCamera(player);
+            profiler.end(FrameProfiler.Stage.CAMERA);
 
-        for (Platform platform : platforms) {
-            if (platform.x < player.x && platform.x > player.x - 800) {
-                double distance = player.x - platform.x;
-                if (distance < minDistance) {
-                    minDistance = distance;
-                    bestPlatform = platform;
-                }
+            if (menuSystem != null) {
+                menuSystem.updateScore(scoreSystem.getCurrentScore());
+                menuSystem.updateStats(scoreSystem.getEnergyOrbsCollected(), scoreSystem.getEnemiesDefeated());
             }
-        }
 
-        if (bestPlatform == null && !platforms.isEmpty()) {
-            for (Platform platform : platforms) {
-                if (platform.x >= 0) {
-                    bestPlatform = platform;
-                    break;
+        } catch (RuntimeException e) {
+            // O jogo segue no próximo tick, mas a falha aparece (SimulationKernel.getFailedTicks conta as da simulação)
+            failedUpdates++;
+            if (failedUpdates == 1 || failedUpdates % GameConfig.TARGET_FPS == 0) {
+                System.err.println("Erro no tick (" + failedUpdates + " falhas): " + e);
+                if (failedUpdates == 1) {
+                    e.printStackTrace();
                 }
             }
+        } finally {
+            // Tick interrompido ainda fecha a amostra: o tempo dele não vaza para o próximo
+            profiler.endOpenStages();
+            profiler.endUpdate();
         }
-
-        return bestPlatform;
-=======
-        
-        System.out.println("Inimigo eliminado! Respawn em 10 segundos...");
-    }
-    
-    private void respawnEnemy(EnemyRespawnData respawnData) {
-        Enemy enemy = respawnData.enemy;
-        
-        // Restaurar posição e propriedades originais
-        enemy.x = respawnData.originalX;
-        enemy.y = respawnData.originalY;
-        enemy.patrolLeft = respawnData.patrolLeft;
-        enemy.patrolRight = respawnData.patrolRight;
-        enemy.velocityX = 0;
-        enemy.velocityY = 0;
-        enemy.direction = 1; // Resetar direção
-        
-        System.out.println("Inimigo ressuscitado na posição (" + enemy.x + ", " + enemy.y + ")");
-    }
-
-    private void checkGameOverConditions() {
-        if (PhysicsEngine.isOutOfWorldBounds(player)) {
-            triggerGameOver();
-        }
-        
-        // Verificar se o player ficou sem vidas
-        if (!player.isAlive()) {
-            triggerGameOver();
-        }
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     }
 
     public void onPlayerDeath() {
@@ -1146,11 +490,11 @@ public class GamePanel extends JPanel {
     }
 
     public void triggerGameOver() {
-<<<<<<< HEAD
         if (gameOver) return;
 
         gameOver = true;
         gamePaused = false;
+        simulation.triggerGameOver();
         int finalScore = scoreSystem.getCurrentScore();
 
         try {
@@ -1185,40 +529,15 @@ public class GamePanel extends JPanel {
         gameOver = false;
         gamePaused = false;
 
-        if (gameThread != null) {
+        // stopGameLoop() espera o frame em andamento terminar antes de recriar o mundo
+        if (gameLoopActive) {
             stopGameLoop();
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-            }
-        }
-
-        platforms.clear();
-        enemies.clear();
-        energyOrbs.clear();
-        enemyRespawnQueue.clear();
-
-        if (particleSystem != null) {
-            particleSystem.clear();
-        }
-
-        if (scoreSystem != null) {
-            try {
-                java.lang.reflect.Method resetMethod = scoreSystem.getClass().getMethod("reset");
-                resetMethod.invoke(scoreSystem);
-            } catch (Exception e) {
-                scoreSystem.resetScore();
-            }
         }
 
-        infiniteWorldSystem = new InfiniteWorldSystem();
-        player = new Player(infiniteWorldSystem.getPlayerStartX(), infiniteWorldSystem.getPlayerStartY());
+        simulation.reset();
+        syncWithSimulation();
         setupPlayerColors();
 
-        platforms = WorldBuilder.createInitialPlatforms();
-        enemies = WorldBuilder.createInitialEnemies();
-        energyOrbs = new ArrayList<>();
-
         cameraController.centerOnPlayer(player);
 
         try {
@@ -1227,8 +546,7 @@ public class GamePanel extends JPanel {
         } catch (Exception e) {
         }
 
-        ReactivePlatformSystem.createReactivePlatforms(platforms);
-        createWindEffects();
+        publishSnapshot();
 
         this.requestFocusInWindow();
 
@@ -1237,238 +555,59 @@ public class GamePanel extends JPanel {
     }
 
     public void resetGame() {
-=======
-        if (gameOver) return; // Evitar múltiplas chamadas
-
-        System.out.println("GAME OVER! Pontuação final: " + scoreSystem.getCurrentScore());
-
-        gameOver = true;
-        stopGameLoop();
-
-        // Notificar o frame principal sobre o game over
-        if (gameFrame != null) {
-            gameFrame.onGameOver(
-                    scoreSystem.getCurrentScore(),
-                    scoreSystem.getEnergyOrbsCollected(),
-                    scoreSystem.getEnemiesDefeated()
-            );
-        }
-
-        // Fallback: se não há gameFrame, notificar diretamente o menuSystem
-        else if (menuSystem != null) {
-            menuSystem.triggerGameOver(
-                    scoreSystem.getCurrentScore(),
-                    scoreSystem.getEnergyOrbsCollected(),
-                    scoreSystem.getEnemiesDefeated()
-            );
-            switchToMenu();
-        }
-    }
-
-    // === RESET E INICIALIZAÇÃO ===
-
-    public void resetGame() {
-        System.out.println("Resetando jogo completamente...");
-
-        // Parar o game loop se estiver ativo
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         if (gameLoopActive) {
             stopGameLoop();
-
-            try {
-                if (gameThread != null) {
-                    gameThread.join(200);
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
         }
 
-<<<<<<< HEAD
-        scoreSystem.resetScore();
-
-        enemyRespawnQueue.clear();
-
-        enemiesEnabled = true;
-
-        infiniteWorldSystem = new InfiniteWorldSystem();
-
-        player.x = infiniteWorldSystem.getPlayerStartX();
-        player.y = infiniteWorldSystem.getPlayerStartY();
-        player.velocityX = 0;
-        player.velocityY = 0;
-        player.resetLives();
-        resetPlayerProperties();
-
-        cameraController.resetCamera();
-
-        platforms = WorldBuilder.createInitialPlatforms();
-        enemies = WorldBuilder.createInitialEnemies();
-        energyOrbs = new ArrayList<>();
-
-        flyingEnemies = WorldBuilder.getFlyingEnemies();
-        for (org.example.objects.FlyingEnemy flyingEnemy : flyingEnemies) {
-            flyingEnemy.setTargetPlayer(player);
-        }
-
-=======
-        // Reset do sistema de pontuação
-        scoreSystem.resetScore();
-        
-        // Limpar fila de respawn de inimigos
-        enemyRespawnQueue.clear();
-        
-        // Reativar inimigos se estiverem desativados
-        enemiesEnabled = true;
-
-        // ⭐ RESETAR SISTEMA DE FASES PARA A FASE 1
-        if (levelSystem != null) {
-            levelSystem.loadLevel(1);
-        } else {
-            levelSystem = new LevelSystem();
-        }
-
-        // Reset player para posição inicial da fase 1
-        LevelSystem.LevelData levelData = levelSystem.getCurrentLevelData();
-        player.x = levelData.playerStartX;
-        player.y = levelData.playerStartY;
-        player.velocityX = 0;
-        player.velocityY = 0;
-        player.resetLives(); // Resetar vidas para 3
-        resetPlayerProperties();
+        simulation.reset();
+        syncWithSimulation();
+        setupPlayerColors();
 
-        // Reset câmera
         cameraController.resetCamera();
+        cameraController.centerOnPlayer(player);
+        publishSnapshot();
 
-        // ⭐ RECRIAR MUNDO PARA FASE 1
-        platforms = WorldBuilder.createPlatformsForLevel(1);
-        enemies = WorldBuilder.createEnemiesForLevel(1, 1.0f);
-        energyOrbs = WorldBuilder.createEnergyOrbsForLevel(1, 1.0f);
-
-        // Reset inimigos
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-        for (Enemy enemy : enemies) {
-            resetEnemy(enemy);
-        }
-
-<<<<<<< HEAD
-=======
-        // Reset orbs
-        resetEnergyOrbs();
-
-        // Reset estado do jogo
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         gameOver = false;
         gamePaused = false;
 
         this.requestFocusInWindow();
-<<<<<<< HEAD
-=======
-        System.out.println("Jogo resetado para Fase 1!");
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-    }
-
-    private void resetPlayerProperties() {
-        try {
-<<<<<<< HEAD
-=======
-            // CORREÇÃO: Usar reflexão para verificar campos antes de acessar
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-            setFieldSafely(player, "energyLevel", 100);
-            setFieldSafely(player, "canDash", true);
-            setFieldSafely(player, "dashCooldown", 0);
-        } catch (Exception e) {
-<<<<<<< HEAD
-=======
-            System.out.println("Aviso: Algumas propriedades do player não puderam ser resetadas: " + e.getMessage());
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-        }
-    }
-
-    private void setFieldSafely(Object obj, String fieldName, Object value) {
-        try {
-            java.lang.reflect.Field field = obj.getClass().getField(fieldName);
-            field.set(obj, value);
-        } catch (Exception e) {
-<<<<<<< HEAD
-=======
-            System.out.println("Campo " + fieldName + " não encontrado ou não acessível");
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-        }
-    }
-
-    private void resetEnemy(Enemy enemy) {
-        if (enemy != null) {
-<<<<<<< HEAD
-=======
-            // ⭐ CORREÇÃO: Usar campos públicos do Enemy diretamente
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-            enemy.x = (enemy.patrolLeft + enemy.patrolRight) / 2;
-            enemy.y = 100;
-            enemy.velocityY = 0;
-        }
     }
 
-<<<<<<< HEAD
-=======
-    private void resetEnergyOrbs() {
-        for (EnergyOrb orb : energyOrbs) {
-            if (orb != null) {
-                try {
-                    // CORREÇÃO: Usar métodos públicos em vez de acessar campos diretamente
-                    if (orb.isCollected()) {
-                        // Se não houver método público para resetar, criar um
-                        resetOrbSafely(orb);
-                    }
-                } catch (Exception e) {
-                    System.out.println("Aviso: Erro ao resetar orb: " + e.getMessage());
-                }
-            }
-        }
-    }
-
-    private void resetOrbSafely(EnergyOrb orb) {
-        try {
-            // Usar reflexão para acessar campos privados
-            setFieldSafely(orb, "collected", false);
-            setFieldSafely(orb, "respawnTimer", 0);
-            setFieldSafely(orb, "isAttractedToPlayer", false);
-            setFieldSafely(orb, "attractionSpeed", 2.0f);
-        } catch (Exception e) {
-            System.out.println("Não foi possível resetar o orb completamente: " + e.getMessage());
+    /**
+     * Apresenta o frame atual: no modo ativo desenha direto do loop, no passivo agenda um repaint()
+     */
+    private void presentFrame() {
+        if (activeSurface != null) {
+            activeSurface.render(frameRenderer);
+        } else {
+            repaint();
         }
     }
 
-    // === RENDERIZAÇÃO ===
-
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g.create();
 
-        try {
-<<<<<<< HEAD
-            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        // No modo ativo o Canvas cobre o painel e quem desenha é a thread do loop
+        if (activeSurface == null) {
+            renderFrame((Graphics2D) g.create());
+        }
+    }
 
-            if (gameOver) {
-                drawGameOverMessage(g2d);
-            } else {
-=======
-            // Configurar antialiasing
+    /**
+     * Desenha um frame completo e descarta o Graphics recebido
+     */
+    private void renderFrame(Graphics2D g2d) {
+        try {
             g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
             if (gameOver) {
-                // Durante game over, mostrar tela simples
                 drawGameOverMessage(g2d);
             } else {
-                // Renderizar o jogo normal
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
                 renderGame(g2d);
             }
 
         } catch (Exception e) {
-<<<<<<< HEAD
             // ✅ CORREÇÃO: Sempre fornecer uma mensagem válida
             String errorMsg = "Erro de renderização";
             if (e != null && e.getMessage() != null && !e.getMessage().trim().isEmpty()) {
@@ -1498,20 +637,18 @@ public class GamePanel extends JPanel {
                 g2d.setColor(Color.BLACK);
                 g2d.fillRect(0, 0, GameConfig.SCREEN_WIDTH, GameConfig.SCREEN_HEIGHT);
             }
-=======
-            System.out.println("ERRO CRÍTICO no paintComponent: " + e.getMessage());
-            e.printStackTrace();
-            HUDRenderer.drawErrorScreen(g2d, e.getMessage());
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         } finally {
             g2d.dispose();
         }
     }
 
     private void renderGame(Graphics2D g2d) {
-<<<<<<< HEAD
+        // O renderer lê apenas o último snapshot publicado (cópias), nunca os objetos da simulação
+        FrameSnapshot frame = snapshotExchange.latest();
+        currentFrame = frame;
+
         // ✅ VERIFICAÇÃO CRÍTICA: Garantir que objetos essenciais existem
-        if (player == null || platforms == null || cameraController == null) {
+        if (!frame.hasPlayer || cameraController == null) {
             // Desenhar tela de carregamento
             g2d.setColor(Color.BLACK);
             g2d.fillRect(0, 0, GameConfig.SCREEN_WIDTH, GameConfig.SCREEN_HEIGHT);
@@ -1524,10 +661,11 @@ public class GamePanel extends JPanel {
         boolean backgroundRendered = false;
 
         // Renderizar background
+        profiler.begin(FrameProfiler.Stage.RENDER_BACKGROUND);
         if (backgroundManager != null) {
             try {
-                backgroundManager.renderDistantBackground(g2d, cameraController.getCameraX(), cameraController.getCameraY());
-                backgroundManager.renderMidBackground(g2d, cameraController.getCameraX(), cameraController.getCameraY());
+                backgroundManager.renderDistantBackground(g2d, frame.cameraX, frame.cameraY);
+                backgroundManager.renderMidBackground(g2d, frame.cameraX, frame.cameraY);
                 backgroundRendered = true;
             } catch (Exception e) {
                 // Silencioso - usa fallback
@@ -1543,88 +681,116 @@ public class GamePanel extends JPanel {
             g2d.setPaint(bgGradient);
             g2d.fillRect(0, 0, GameConfig.SCREEN_WIDTH, GameConfig.SCREEN_HEIGHT);
         }
+        profiler.end(FrameProfiler.Stage.RENDER_BACKGROUND);
 
-        // Aplicar transformação da câmera
-        int cameraX = 0;
-        int cameraY = 0;
-
-        try {
-            cameraX = cameraController.getCameraX();
-            cameraY = cameraController.getCameraY();
-        } catch (Exception e) {
-            // Usar posição padrão
-        }
+        // Aplicar transformação da câmera (interpolada entre os dois últimos ticks)
+        double alpha = renderAlpha;
+        double renderCameraX = interpolate(frame.cameraPrevX, frame.cameraX, alpha);
+        double renderCameraY = interpolate(frame.cameraPrevY, frame.cameraY, alpha);
 
-        g2d.translate(-cameraX, -cameraY);
+        g2d.translate(-renderCameraX, -renderCameraY);
 
         // Renderizar plataformas
-        for (Platform platform : platforms) {
-            if (platform != null) {
-                try {
-                    platform.draw(g2d);
-                } catch (Exception e) {
-                    // Pular plataforma com erro
-                }
+        profiler.begin(FrameProfiler.Stage.RENDER_PLATFORMS);
+        for (int i = 0; i < frame.platformCount; i++) {
+            if (frame.platformBroken[i]) continue; // Quebrada não colide mais, então não aparece
+            try {
+                Platform.draw(g2d, frame.platformX[i], frame.platformY[i], frame.platformWidth[i],
+                        frame.platformHeight[i], frame.platformType[i], frame.platformSprite[i]);
+            } catch (Exception e) {
+                // Pular plataforma com erro
             }
         }
+        profiler.end(FrameProfiler.Stage.RENDER_PLATFORMS);
 
         // Renderizar orbs (SISTEMA MISTO)
+        profiler.begin(FrameProfiler.Stage.RENDER_ORBS);
         try {
-            WorldBuilder.renderWorldOrbs(g2d, cameraX, cameraY);
+            WorldBuilder.renderWorldOrbs(g2d, frame.cyanOrbX, frame.cyanOrbY, frame.cyanOrbCount,
+                    frame.goldOrbX, frame.goldOrbY, frame.goldOrbCount);
         } catch (Exception e) {
             // Silencioso
         }
+        profiler.end(FrameProfiler.Stage.RENDER_ORBS);
 
         // Renderizar inimigos terrestres
-        if (enemies != null) {
-            for (Enemy enemy : enemies) {
-                if (enemy != null && enemy.x > -1000) {
-                    try {
-                        enemy.draw(g2d);
-                    } catch (Exception e) {
-                        // Pular inimigo com erro
-                    }
+        // (desenho na posição copiada; o offset leva para a posição interpolada entre os ticks)
+        profiler.begin(FrameProfiler.Stage.RENDER_ENEMIES);
+        for (int i = 0; i < frame.enemyCount; i++) {
+            if (frame.enemyX[i] > -1000) {
+                int drawX = (int) frame.enemyX[i];
+                int drawY = (int) frame.enemyY[i];
+                double offsetX = interpolate(frame.enemyPrevX[i], frame.enemyX[i], alpha) - frame.enemyX[i];
+                double offsetY = interpolate(frame.enemyPrevY[i], frame.enemyY[i], alpha) - frame.enemyY[i];
+                g2d.translate(offsetX, offsetY);
+                try {
+                    Enemy.draw(g2d, drawX, drawY, frame.enemyWidth[i], frame.enemyHeight[i], frame.enemyDirection[i],
+                            frame.enemyAnimation[i], frame.enemyAnimationFrame[i], frame.enemyEyeGlow[i]);
+                } catch (Exception e) {
+                    // Pular inimigo com erro
+                } finally {
+                    g2d.translate(-offsetX, -offsetY);
                 }
             }
         }
 
         // Renderizar inimigos voadores
-        if (flyingEnemies != null) {
-            for (org.example.objects.FlyingEnemy flyingEnemy : flyingEnemies) {
-                if (flyingEnemy != null && flyingEnemy.x > -1000) {
-                    try {
-                        flyingEnemy.draw(g2d);
-                    } catch (Exception e) {
-                        // Pular inimigo voador com erro
+        for (int i = 0; i < frame.flyingEnemyCount; i++) {
+            if (frame.flyingX[i] > -1000) {
+                double offsetX = interpolate(frame.flyingPrevX[i], frame.flyingX[i], alpha) - frame.flyingX[i];
+                double offsetY = interpolate(frame.flyingPrevY[i], frame.flyingY[i], alpha) - frame.flyingY[i];
+                g2d.translate(offsetX, offsetY);
+                try {
+                    if (frame.flyingAlive[i]) {
+                        org.example.objects.FlyingEnemy.draw(g2d, (int) frame.flyingX[i], (int) frame.flyingY[i],
+                                frame.flyingWidth[i], frame.flyingHeight[i], frame.flyingColor[i],
+                                frame.flyingWingFlap[i], frame.flyingAnimation[i], frame.flyingDirection[i]);
                     }
+                    org.example.objects.FlyingEnemy.drawParticles(g2d, frame.flyingParticleX, frame.flyingParticleY,
+                            frame.flyingParticleColor, frame.flyingParticleFrom[i], frame.flyingParticleTo[i]);
+                } catch (Exception e) {
+                    // Pular inimigo voador com erro
+                } finally {
+                    g2d.translate(-offsetX, -offsetY);
                 }
             }
         }
+        profiler.end(FrameProfiler.Stage.RENDER_ENEMIES);
 
         // Renderizar player
-        if (player != null) {
-            try {
-                player.draw(g2d);
-            } catch (Exception e) {
-                // Fallback: retângulo simples
-                g2d.setColor(Color.CYAN);
-                g2d.fillRect((int)player.x, (int)player.y, (int)player.width, (int)player.height);
-            }
+        profiler.begin(FrameProfiler.Stage.RENDER_PLAYER);
+        Player.RenderState renderPlayer = frame.player;
+        double playerOffsetX = interpolate(frame.playerPrevX, frame.playerX, alpha) - renderPlayer.x;
+        double playerOffsetY = interpolate(frame.playerPrevY, frame.playerY, alpha) - renderPlayer.y;
+        g2d.translate(playerOffsetX, playerOffsetY);
+        try {
+            renderPlayer.draw(g2d);
+        } catch (Exception e) {
+            // Fallback: retângulo simples
+            g2d.setColor(Color.CYAN);
+            g2d.fillRect(renderPlayer.x, renderPlayer.y, renderPlayer.width, renderPlayer.height);
+        } finally {
+            g2d.translate(-playerOffsetX, -playerOffsetY);
         }
+        profiler.end(FrameProfiler.Stage.RENDER_PLAYER);
 
         // Resetar transformação da câmera
-        g2d.translate(cameraX, cameraY);
+        g2d.translate(renderCameraX, renderCameraY);
 
         // Renderizar partículas
-        if (particleSystem != null) {
+        profiler.begin(FrameProfiler.Stage.RENDER_PARTICLES);
+        for (int i = 0; i < frame.particleCount; i++) {
             try {
-                particleSystem.render(g2d);
+                ParticleSystem.Particle.render(g2d, frame.particleKind[i], frame.particleX[i], frame.particleY[i],
+                        frame.particleColor[i], frame.particleLife[i], frame.particleIntensity[i]);
             } catch (Exception e) {
                 // Silencioso
             }
         }
+        profiler.end(FrameProfiler.Stage.RENDER_PARTICLES);
 
         // Renderizar HUD
+        profiler.begin(FrameProfiler.Stage.RENDER_HUD);
         try {
             drawSimpleHUD(g2d);
         } catch (Exception e) {
@@ -1632,54 +798,20 @@ public class GamePanel extends JPanel {
             try {
                 g2d.setColor(Color.WHITE);
                 g2d.setFont(new Font("Arial", Font.BOLD, 14));
-                g2d.drawString("Vidas: " + player.getLives(), 10, 20);
-                if (scoreSystem != null) {
-                    g2d.drawString("Score: " + scoreSystem.getCurrentScore(), 10, 40);
-                }
+                g2d.drawString("Vidas: " + frame.lives, 10, 20);
+                g2d.drawString("Score: " + frame.score, 10, 40);
             } catch (Exception ex) {
                 // Desistir do HUD
             }
         }
+        profiler.end(FrameProfiler.Stage.RENDER_HUD);
+        profiler.endRender();
 
-        // Renderizar pausa
-=======
-        // Fundo baseado na fase atual ⭐ NOVO
-        if (levelSystem != null && levelSystem.getCurrentLevelData() != null) {
-            g2d.setColor(levelSystem.getCurrentLevelData().backgroundColor);
-            g2d.fillRect(0, 0, GameConfig.SCREEN_WIDTH, GameConfig.SCREEN_HEIGHT);
-        } else {
-            HUDRenderer.drawBackground(g2d);
-        }
-
-        // Renderizar todos os objetos do jogo
-        GameRenderer.renderAllGameObjects(g2d, platforms, enemies, energyOrbs, player, cameraController);
-
-        // ⭐ RENDERIZAR OBJETIVO DA FASE
-        if (levelSystem != null && levelSystem.getLevelGoal() != null) {
-            // Verificar se está visível na câmera
-            LevelGoal goal = levelSystem.getLevelGoal();
-            if (cameraController.isObjectVisible(
-                    goal.getX() - 50, goal.getY() - 150, 100, 150)) {
-
-                g2d.translate(-cameraController.getCameraX(), -cameraController.getCameraY());
-                goal.draw(g2d);
-                g2d.translate(cameraController.getCameraX(), cameraController.getCameraY());
-            }
-        }
-
-        // HUD simplificado
-        drawSimpleHUD(g2d);
-
-        // ⭐ HUD DE FASE
-        drawLevelHUD(g2d);
-
-        // ⭐ TELA DE TRANSIÇÃO DE FASE
-        if (levelSystem != null && levelSystem.isShowingTransition()) {
-            LevelTransitionScreen.drawLevelComplete(g2d, levelSystem, scoreSystem);
+        if (showProfiler) {
+            drawProfilerOverlay(g2d);
         }
 
-        // Indicador de pausa
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
+        // Renderizar pausa
         if (gamePaused) {
             g2d.setColor(new Color(0, 0, 0, 150));
             g2d.fillRect(0, 0, GameConfig.SCREEN_WIDTH, GameConfig.SCREEN_HEIGHT);
@@ -1693,13 +825,57 @@ public class GamePanel extends JPanel {
         }
     }
 
+    /**
+     * Interpola entre a posição do tick anterior e a atual; saltos grandes
+     * (respawn, teleporte longo) não são interpolados
+     */
+    private static double interpolate(double previous, double current, double alpha) {
+        if (Math.abs(current - previous) > GameConfig.INTERPOLATION_SNAP_DISTANCE) {
+            return current;
+        }
+        return previous + (current - previous) * alpha;
+    }
+
     private void drawSimpleHUD(Graphics2D g2d) {
-<<<<<<< HEAD
         drawLivesHUD(g2d);
         drawScoreHUD(g2d);
         drawEnergyBar(g2d);
     }
 
+    /**
+     * Overlay de desempenho (F3): min / média / p99 de cada etapa na janela móvel
+     */
+    private void drawProfilerOverlay(Graphics2D g2d) {
+        FrameProfiler.Stage[] stages = FrameProfiler.Stage.values();
+        int x = 10;
+        int y = 60;
+        int lineHeight = 14;
+
+        g2d.setColor(new Color(0, 0, 0, 170));
+        g2d.fillRoundRect(x - 5, y - 5, 270, (stages.length + 2) * lineHeight + 10, 5, 5);
+
+        g2d.setFont(new Font("Monospaced", Font.PLAIN, 11));
+        g2d.setColor(Color.GREEN);
+        g2d.drawString("etapa           min    avg    p99 (ms)", x, y + lineHeight - 3);
+
+        for (int i = 0; i < stages.length; i++) {
+            FrameProfiler.Stage stage = stages[i];
+            String line = String.format("%-13s %6.2f %6.2f %6.2f", stage.getLabel(),
+                    FrameProfiler.toMillis(profiler.getMinNanos(stage)),
+                    FrameProfiler.toMillis(profiler.getAverageNanos(stage)),
+                    FrameProfiler.toMillis(profiler.getP99Nanos(stage)));
+            g2d.setColor(Color.WHITE);
+            g2d.drawString(line, x, y + (i + 2) * lineHeight - 3);
+        }
+
+        FramePacer framePacer = getFramePacer();
+        g2d.setColor(framePacer.getMissRate() > 0.05 ? Color.ORANGE : Color.GREEN);
+        g2d.drawString(String.format("pacer: %.1f%% perdidos, jitter %.2f/%.2f ms",
+                framePacer.getMissRate() * 100,
+                FrameProfiler.toMillis(framePacer.getAverageJitterNanos()),
+                FrameProfiler.toMillis(framePacer.getMaxJitterNanos())), x, y + (stages.length + 2) * lineHeight - 3);
+    }
+
     private void drawLivesHUD(Graphics2D g2d) {
         g2d.setFont(new Font("Arial", Font.BOLD, 16));
         g2d.setColor(Color.WHITE);
@@ -1715,7 +891,7 @@ public class GamePanel extends JPanel {
         int iconSize = 20;
 
         for (int i = 0; i < 3; i++) {
-            if (i < player.getLives()) {
+            if (i < currentFrame.lives) {
                 g2d.setColor(new Color(0, 150, 255));
             } else {
                 g2d.setColor(new Color(100, 100, 100));
@@ -1723,55 +899,11 @@ public class GamePanel extends JPanel {
 
             g2d.fillOval(iconX + (i * 25), iconY, iconSize, iconSize);
 
-=======
-        // Vidas no canto superior esquerdo
-        drawLivesHUD(g2d);
-        
-        // Score no canto superior direito
-        drawScoreHUD(g2d);
-        
-        // Barra de energia
-        drawEnergyBar(g2d);
-    }
-    
-    private void drawLivesHUD(Graphics2D g2d) {
-        // Vidas simples no canto superior esquerdo
-        g2d.setFont(new Font("Arial", Font.BOLD, 16));
-        g2d.setColor(Color.WHITE);
-        
-        // Fundo semi-transparente
-        g2d.setColor(new Color(0, 0, 0, 100));
-        g2d.fillRoundRect(10, 5, 120, 35, 5, 5);
-        
-        // Texto "LIVES"
-        g2d.setColor(Color.WHITE);
-        g2d.drawString("LIVES", 15, 25);
-        
-        // Ícones de vida simples
-        int iconX = 80;
-        int iconY = 10;
-        int iconSize = 20;
-        
-        for (int i = 0; i < 3; i++) {
-            if (i < player.getLives()) {
-                // Vida ativa - cor azul
-                g2d.setColor(new Color(0, 150, 255));
-            } else {
-                // Vida perdida - cor cinza
-                g2d.setColor(new Color(100, 100, 100));
-            }
-            
-            // Desenhar ícone simples (círculo)
-            g2d.fillOval(iconX + (i * 25), iconY, iconSize, iconSize);
-            
-            // Borda
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
             g2d.setColor(Color.WHITE);
             g2d.setStroke(new BasicStroke(2));
             g2d.drawOval(iconX + (i * 25), iconY, iconSize, iconSize);
         }
     }
-<<<<<<< HEAD
 
     private void drawScoreHUD(Graphics2D g2d) {
         g2d.setFont(new Font("Arial", Font.BOLD, 20));
@@ -1781,51 +913,22 @@ public class GamePanel extends JPanel {
         g2d.fillRoundRect(GameConfig.SCREEN_WIDTH - 150, 5, 145, 35, 5, 5);
 
         g2d.setColor(Color.WHITE);
-        g2d.drawString(String.format("%06d", scoreSystem.getCurrentScore()),
+        g2d.drawString(String.format("%06d", currentFrame.score),
                 GameConfig.SCREEN_WIDTH - 140, 28);
 
-        if (scoreSystem.getScoreMultiplier() > 1) {
+        if (currentFrame.scoreMultiplier > 1) {
             g2d.setFont(new Font("Arial", Font.BOLD, 14));
             g2d.setColor(Color.YELLOW);
-            g2d.drawString("x" + scoreSystem.getScoreMultiplier(),
+            g2d.drawString("x" + currentFrame.scoreMultiplier,
                     GameConfig.SCREEN_WIDTH - 30, 28);
         }
     }
 
     private void drawEnergyBar(Graphics2D g2d) {
-=======
-    
-    private void drawScoreHUD(Graphics2D g2d) {
-        // Score simples no canto superior direito
-        g2d.setFont(new Font("Arial", Font.BOLD, 20));
-        g2d.setColor(Color.WHITE);
-        
-        // Fundo semi-transparente para o score
-        g2d.setColor(new Color(0, 0, 0, 100));
-        g2d.fillRoundRect(GameConfig.SCREEN_WIDTH - 150, 5, 145, 35, 5, 5);
-        
-        // Score
-        g2d.setColor(Color.WHITE);
-        g2d.drawString(String.format("%06d", scoreSystem.getCurrentScore()), 
-                      GameConfig.SCREEN_WIDTH - 140, 28);
-        
-        // Multiplicador se > 1
-        if (scoreSystem.getScoreMultiplier() > 1) {
-            g2d.setFont(new Font("Arial", Font.BOLD, 14));
-            g2d.setColor(Color.YELLOW);
-            g2d.drawString("x" + scoreSystem.getScoreMultiplier(), 
-                          GameConfig.SCREEN_WIDTH - 30, 28);
-        }
-    }
-    
-    private void drawEnergyBar(Graphics2D g2d) {
-        // Barra de energia no canto superior direito
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         int barX = GameConfig.SCREEN_WIDTH - 200;
         int barY = 50;
         int barWidth = 150;
         int barHeight = 20;
-<<<<<<< HEAD
 
         g2d.setColor(new Color(0, 0, 0, 100));
         g2d.fillRoundRect(barX, barY, barWidth, barHeight, 5, 5);
@@ -1834,7 +937,7 @@ public class GamePanel extends JPanel {
         g2d.setStroke(new BasicStroke(2));
         g2d.drawRoundRect(barX, barY, barWidth, barHeight, 5, 5);
 
-        int energy = (int) player.getCurrentEnergy();
+        int energy = currentFrame.energy;
         int energyWidth = (int)((energy / 100.0) * (barWidth - 4));
 
         Color energyColor;
@@ -1849,104 +952,15 @@ public class GamePanel extends JPanel {
         g2d.setColor(energyColor);
         g2d.fillRoundRect(barX + 2, barY + 2, energyWidth, barHeight - 4, 3, 3);
 
-=======
-        
-        // Fundo da barra
-        g2d.setColor(new Color(0, 0, 0, 100));
-        g2d.fillRoundRect(barX, barY, barWidth, barHeight, 5, 5);
-        
-        // Borda da barra
-        g2d.setColor(Color.WHITE);
-        g2d.setStroke(new BasicStroke(2));
-        g2d.drawRoundRect(barX, barY, barWidth, barHeight, 5, 5);
-        
-        // Energia atual
-        int energy = player.getCurrentEnergy();
-        int energyWidth = (int)((energy / 100.0) * (barWidth - 4));
-        
-        // Cor da energia baseada no nível
-        Color energyColor;
-        if (energy > 60) {
-            energyColor = new Color(0, 255, 0); // Verde
-        } else if (energy > 30) {
-            energyColor = new Color(255, 255, 0); // Amarelo
-        } else {
-            energyColor = new Color(255, 0, 0); // Vermelho
-        }
-        
-        g2d.setColor(energyColor);
-        g2d.fillRoundRect(barX + 2, barY + 2, energyWidth, barHeight - 4, 3, 3);
-        
-        // Texto "ENERGY"
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         g2d.setFont(new Font("Arial", Font.BOLD, 12));
         g2d.setColor(Color.WHITE);
         g2d.drawString("ENERGY", barX, barY - 5);
     }
 
-<<<<<<< HEAD
-    private void createWindEffects() {
-        windEffects.add(new WindEffect(500, 200, 200, 100, 2.0f));
-        windEffects.add(new WindEffect(1200, 300, 150, 80, -1.5f));
-        windEffects.add(new WindEffect(2000, 150, 300, 120, 3.0f));
-        windEffects.add(new WindEffect(3000, 250, 180, 90, -2.0f));
-    }
-
-    private void updateWindEffects() {
-        for (WindEffect wind : windEffects) {
-            wind.update();
-            wind.applyWindEffect(player);
-=======
-    private void drawLevelHUD(Graphics2D g2d) {
-        if (levelSystem == null) return;
-
-        // Informações da fase no canto superior direito
-        g2d.setColor(new Color(0, 0, 0, 150));
-        g2d.fillRoundRect(GameConfig.SCREEN_WIDTH - 200, 10, 190, 80, 10, 10);
-
-        g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 16));
-        g2d.drawString("FASE " + levelSystem.getCurrentLevel(), GameConfig.SCREEN_WIDTH - 190, 30);
-
-        g2d.setFont(new Font("Arial", Font.PLAIN, 12));
-        g2d.setColor(Color.CYAN);
-
-        LevelSystem.LevelData levelData = levelSystem.getCurrentLevelData();
-        if (levelData != null) {
-            g2d.drawString(levelData.themeName, GameConfig.SCREEN_WIDTH - 190, 45);
-
-            // Indicador de proximidade do objetivo
-            if (levelSystem.getLevelGoal() != null) {
-                LevelGoal goal = levelSystem.getLevelGoal();
-                float distance = (float)Math.sqrt(
-                        Math.pow(player.x - goal.getX(), 2) +
-                                Math.pow(player.y - goal.getY(), 2)
-                );
-
-                if (distance < 300) {
-                    g2d.setColor(Color.YELLOW);
-                    g2d.drawString("OBJETIVO PRÓXIMO!", GameConfig.SCREEN_WIDTH - 190, 60);
-                } else {
-                    g2d.setColor(Color.LIGHT_GRAY);
-                    g2d.drawString("Distância: " + (int)distance, GameConfig.SCREEN_WIDTH - 190, 60);
-                }
-            }
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
-        }
-    }
-
     private void drawGameOverMessage(Graphics2D g2d) {
-<<<<<<< HEAD
-        g2d.setColor(new Color(20, 20, 20, 200));
-        g2d.fillRect(0, 0, GameConfig.SCREEN_WIDTH, GameConfig.SCREEN_HEIGHT);
-
-=======
-        // Fundo escuro
         g2d.setColor(new Color(20, 20, 20, 200));
         g2d.fillRect(0, 0, GameConfig.SCREEN_WIDTH, GameConfig.SCREEN_HEIGHT);
 
-        // Mensagem de game over
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         g2d.setColor(Color.RED);
         g2d.setFont(new Font("Arial", Font.BOLD, 48));
         FontMetrics fm = g2d.getFontMetrics();
@@ -1954,10 +968,6 @@ public class GamePanel extends JPanel {
         int textWidth = fm.stringWidth(gameOverText);
         g2d.drawString(gameOverText, (GameConfig.SCREEN_WIDTH - textWidth) / 2, GameConfig.SCREEN_HEIGHT / 2 - 50);
 
-<<<<<<< HEAD
-=======
-        // Pontuação final
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         g2d.setColor(Color.WHITE);
         g2d.setFont(new Font("Arial", Font.BOLD, 24));
         fm = g2d.getFontMetrics();
@@ -1965,7 +975,6 @@ public class GamePanel extends JPanel {
         textWidth = fm.stringWidth(scoreText);
         g2d.drawString(scoreText, (GameConfig.SCREEN_WIDTH - textWidth) / 2, GameConfig.SCREEN_HEIGHT / 2 + 20);
 
-<<<<<<< HEAD
         g2d.setColor(new Color(0, 255, 255));
         g2d.setFont(new Font("Arial", Font.BOLD, 18));
         fm = g2d.getFontMetrics();
@@ -1979,19 +988,6 @@ public class GamePanel extends JPanel {
         g2d.drawString(menuText, (GameConfig.SCREEN_WIDTH - textWidth) / 2, GameConfig.SCREEN_HEIGHT / 2 + 110);
     }
 
-=======
-        // Instrução
-        g2d.setColor(Color.GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
-        fm = g2d.getFontMetrics();
-        String instructionText = "Returning to menu...";
-        textWidth = fm.stringWidth(instructionText);
-        g2d.drawString(instructionText, (GameConfig.SCREEN_WIDTH - textWidth) / 2, GameConfig.SCREEN_HEIGHT / 2 + 80);
-    }
-
-    // === GETTERS E SETTERS ===
-
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     public boolean isGameLoopActive() {
         return gameLoopActive;
     }
@@ -2002,12 +998,6 @@ public class GamePanel extends JPanel {
 
     public void setGameOver(boolean gameOver) {
         this.gameOver = gameOver;
-<<<<<<< HEAD
-=======
-        if (!gameOver) {
-            System.out.println("Game Over resetado - jogo pode continuar");
-        }
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     }
 
     public boolean isGamePaused() {
@@ -2026,71 +1016,41 @@ public class GamePanel extends JPanel {
         return player;
     }
 
-<<<<<<< HEAD
-    public void disableEnemies() {
-        if (enemiesEnabled) {
-            enemiesEnabled = false;
-        }
+    public SimulationKernel getSimulation() {
+        return simulation;
     }
 
-    public void enableEnemies() {
-        if (!enemiesEnabled) {
-            enemiesEnabled = true;
-        }
+    /**
+     * Troca a velocidade da simulação (vale a partir do próximo ciclo do loop)
+     */
+    public void setSimulationSpeed(SimulationSpeed simulationSpeed) {
+        this.simulationSpeed = simulationSpeed != null ? simulationSpeed : SimulationSpeed.realTime();
     }
 
-=======
-    // === MÉTODOS PARA ATIVAR/DESATIVAR INIMIGOS ===
+    public SimulationSpeed getSimulationSpeed() {
+        return simulationSpeed;
+    }
+
+    public FramePacer getFramePacer() {
+        return LoopScheduler.getInstance().getFramePacer();
+    }
 
-    /**
-     * Desativa todos os inimigos temporariamente
-     * Os inimigos param de se mover e não causam dano ao player
-     */
     public void disableEnemies() {
-        if (enemiesEnabled) {
-            enemiesEnabled = false;
-            System.out.println("Inimigos desativados temporariamente");
-        }
+        simulation.disableEnemies();
     }
 
-    /**
-     * Reativa todos os inimigos
-     * Os inimigos voltam a se mover e causar dano normalmente
-     */
     public void enableEnemies() {
-        if (!enemiesEnabled) {
-            enemiesEnabled = true;
-            System.out.println("Inimigos reativados");
-        }
+        simulation.enableEnemies();
     }
 
-    /**
-     * Verifica se os inimigos estão ativos
-     * @return true se os inimigos estão ativos, false caso contrário
-     */
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     public boolean areEnemiesEnabled() {
-        return enemiesEnabled;
+        return simulation.areEnemiesEnabled();
     }
 
-<<<<<<< HEAD
-=======
-    /**
-     * Alterna o estado dos inimigos (ativa/desativa)
-     */
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     public void toggleEnemies() {
-        if (enemiesEnabled) {
-            disableEnemies();
-        } else {
-            enableEnemies();
-        }
+        simulation.toggleEnemies();
     }
 
-<<<<<<< HEAD
-=======
-    // Método auxiliar para trocar para o menu (fallback)
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
     private void switchToMenu() {
         Container parent = getParent();
         if (parent != null) {
@@ -2102,7 +1062,6 @@ public class GamePanel extends JPanel {
         }
     }
 
-<<<<<<< HEAD
     private void handleEscapePressed() {
 
         stopGameLoop();
@@ -2110,14 +1069,7 @@ public class GamePanel extends JPanel {
         gameOver = false;
         gamePaused = false;
 
-        platforms.clear();
-        enemies.clear();
-        energyOrbs.clear();
-        enemyRespawnQueue.clear();
-
-        if (particleSystem != null) {
-            particleSystem.clear();
-        }
+        simulation.clear();
 
         if (gameFrame != null) {
             gameFrame.returnToMainMenu();
@@ -2127,15 +1079,6 @@ public class GamePanel extends JPanel {
                 java.awt.CardLayout layout = (java.awt.CardLayout) parent.getLayout();
                 layout.show(parent, "MENU");
             }
-=======
-    // Método público para ser chamado pelo InputHandler quando ESC for pressionado
-    public void handleEscapePressed() {
-        if (gameFrame != null) {
-            gameFrame.switchToMenu();
-        } else {
-            // Fallback
-            switchToMenu();
->>>>>>> 5909f9628214d32c37618f5fb01e5d573c4da176
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package org.example.ui;
+
+/**
+ * Modo de apresentação dos frames
+ * - PASSIVE: repaint() e pintura do Swing na EDT (padrão)
+ * - ACTIVE: a thread do loop desenha direto num Canvas com BufferStrategy
+ */
+public enum RenderMode {
+    PASSIVE,
+    ACTIVE;
+
+    /**
+     * Lê o modo dos argumentos de linha de comando (--active-render)
+     * ou da propriedade de sistema cyberrunner.render=active
+     */
+    public static RenderMode fromArgs(String[] args) {
+        if (args != null) {
+            for (String arg : args) {
+                if ("--active-render".equals(arg)) {
+                    return ACTIVE;
+                }
+                if ("--passive-render".equals(arg)) {
+                    return PASSIVE;
+                }
+            }
+        }
+
+        String property = System.getProperty("cyberrunner.render", "passive");
+        return "active".equalsIgnoreCase(property) ? ACTIVE : PASSIVE;
+    }
+}
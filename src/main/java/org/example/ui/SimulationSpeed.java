@@ -0,0 +1,104 @@
+package org.example.ui;
+
+/**
+ * Velocidade da simulação em relação ao relógio de parede
+ * - timeScale: 1.0 = tempo real, 8.0 = oito vezes mais rápido
+ * - unthrottled: roda ticks sem esperar o relógio (o mais rápido que a CPU aguentar)
+ * - renderInterval: no modo unthrottled, desenha 1 frame a cada N ticks (0 = não desenha)
+ *
+ * Toda a lógica com tempo (combo, partículas, respawn, background) segue o relógio
+ * da simulação, então uma hora de jogo pode ser simulada em segundos.
+ */
+public final class SimulationSpeed {
+
+    private static final SimulationSpeed REAL_TIME = new SimulationSpeed(1.0, false, 1);
+
+    private final double timeScale;
+    private final boolean unthrottled;
+    private final int renderInterval;
+
+    private SimulationSpeed(double timeScale, boolean unthrottled, int renderInterval) {
+        this.timeScale = timeScale;
+        this.unthrottled = unthrottled;
+        this.renderInterval = renderInterval;
+    }
+
+    public static SimulationSpeed realTime() {
+        return REAL_TIME;
+    }
+
+    /**
+     * Simulação acelerada (ou desacelerada) por um fator fixo do relógio de parede
+     */
+    public static SimulationSpeed scaled(double timeScale) {
+        if (timeScale <= 0) {
+            throw new IllegalArgumentException("timeScale deve ser positivo: " + timeScale);
+        }
+        return new SimulationSpeed(timeScale, false, 1);
+    }
+
+    /**
+     * Sem limite de velocidade; renderiza 1 frame a cada renderInterval ticks (0 = nunca)
+     */
+    public static SimulationSpeed unthrottled(int renderInterval) {
+        return new SimulationSpeed(1.0, true, Math.max(0, renderInterval));
+    }
+
+    /**
+     * Lê dos argumentos (--time-scale=8, --unthrottled, --render-every=600)
+     * ou das propriedades cyberrunner.timeScale / cyberrunner.unthrottled / cyberrunner.renderEvery
+     */
+    public static SimulationSpeed fromArgs(String[] args) {
+        String scale = System.getProperty("cyberrunner.timeScale");
+        boolean unthrottled = Boolean.getBoolean("cyberrunner.unthrottled");
+        String renderEvery = System.getProperty("cyberrunner.renderEvery");
+
+        if (args != null) {
+            for (String arg : args) {
+                if (arg.startsWith("--time-scale=")) {
+                    scale = arg.substring("--time-scale=".length());
+                } else if ("--unthrottled".equals(arg)) {
+                    unthrottled = true;
+                } else if (arg.startsWith("--render-every=")) {
+                    renderEvery = arg.substring("--render-every=".length());
+                }
+            }
+        }
+
+        try {
+            if (unthrottled) {
+                return unthrottled(renderEvery != null ? Integer.parseInt(renderEvery) : GameConfig.TARGET_FPS);
+            }
+            if (scale != null) {
+                return scaled(Double.parseDouble(scale));
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Velocidade de simulação inválida, usando tempo real: " + e.getMessage());
+        }
+        return REAL_TIME;
+    }
+
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    public boolean isUnthrottled() {
+        return unthrottled;
+    }
+
+    public int getRenderInterval() {
+        return renderInterval;
+    }
+
+    public boolean isRealTime() {
+        return !unthrottled && timeScale == 1.0;
+    }
+
+    @Override
+    public String toString() {
+        if (unthrottled) {
+            return "unthrottled (render a cada " + renderInterval + " ticks)";
+        }
+        return timeScale + "x";
+    }
+}
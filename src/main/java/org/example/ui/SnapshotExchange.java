@@ -0,0 +1,52 @@
+package org.example.ui;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Triple buffer sem locks entre a thread da simulação (escrita) e a de renderização (leitura).
+ *
+ * A simulação sempre escreve no buffer "de trás" e o troca pelo "do meio" ao publicar;
+ * o renderer troca o "da frente" pelo do meio quando há um snapshot novo. Nenhum lado
+ * espera pelo outro e o renderer sempre lê um snapshot completo.
+ */
+public class SnapshotExchange {
+
+    private static final int INDEX_MASK = 0b011;
+    private static final int FRESH = 0b100; // Buffer do meio tem snapshot ainda não lido
+
+    private final FrameSnapshot[] buffers = {
+            new FrameSnapshot(), new FrameSnapshot(), new FrameSnapshot()
+    };
+
+    // Índice do buffer do meio + flag FRESH
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    private int back = 0;  // Acessado apenas pela thread da simulação
+    private int front = 2; // Acessado apenas pela thread de renderização
+
+    /**
+     * Buffer onde a simulação deve escrever o próximo snapshot
+     */
+    public FrameSnapshot beginWrite() {
+        return buffers[back];
+    }
+
+    /**
+     * Publica o snapshot escrito em beginWrite()
+     */
+    public void publish() {
+        int previousMiddle = middle.getAndSet(back | FRESH);
+        back = previousMiddle & INDEX_MASK;
+    }
+
+    /**
+     * Snapshot completo mais recente (pode ser o mesmo do frame anterior)
+     */
+    public FrameSnapshot latest() {
+        if ((middle.get() & FRESH) != 0) {
+            int previousMiddle = middle.getAndSet(front);
+            front = previousMiddle & INDEX_MASK;
+        }
+        return buffers[front];
+    }
+}
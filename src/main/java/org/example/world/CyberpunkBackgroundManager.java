@@ -335,6 +335,7 @@ public class CyberpunkBackgroundManager implements IBackgroundManager {
         private Color baseColor;
         private float minHeight, maxHeight;
         protected float parallaxFactor;
+        private long gameTime; // Tempo do jogo recebido no update (animação das janelas/neon)
 
         public CyberpunkSkylineLayer(int screenWidth, int screenHeight, float minHeight, float maxHeight, Color baseColor) {
             super(screenWidth, screenHeight, 0.5f);
@@ -348,6 +349,7 @@ public class CyberpunkBackgroundManager implements IBackgroundManager {
 
         @Override
         public void update(int playerX, int playerY, long gameTime) {
+            this.gameTime = gameTime;
         }
 
         private void generateBuildings() {
@@ -394,7 +396,7 @@ public class CyberpunkBackgroundManager implements IBackgroundManager {
         @Override
         public void render(Graphics2D g2d, int cameraX, int cameraY) {
             for (CyberpunkBuilding building : buildings) {
-                building.render(g2d, cameraX, cameraY, parallaxFactor, screenWidth);
+                building.render(g2d, cameraX, cameraY, parallaxFactor, screenWidth, gameTime);
             }
         }
 
@@ -455,13 +457,13 @@ public class CyberpunkBackgroundManager implements IBackgroundManager {
                 }
             }
 
-            public void render(Graphics2D g2d, int cameraX, int cameraY, float parallaxFactor, int screenWidth) {
+            public void render(Graphics2D g2d, int cameraX, int cameraY, float parallaxFactor, int screenWidth, long layerTime) {
                 float renderX = x - (cameraX * parallaxFactor);
                 float renderY = y;
 
                 if (renderX + width < -200 || renderX > screenWidth + 200) return;
 
-                long gameTime = System.currentTimeMillis() + animationOffset;
+                long gameTime = layerTime + animationOffset;
 
                 Color originalColor = g2d.getColor();
                 Composite originalComposite = g2d.getComposite();
@@ -386,6 +386,7 @@ public class HalloweenBackgroundManager implements IBackgroundManager {
         private Color baseColor;
         private float minHeight, maxHeight;
         protected float parallaxFactor;
+        private long gameTime; // Tempo do jogo recebido no update (animação das janelas/neon)
 
         public HalloweenSkylineLayer(int screenWidth, int screenHeight, float minHeight, float maxHeight, Color baseColor) {
             super(screenWidth, screenHeight, 0.5f);
@@ -399,6 +400,7 @@ public class HalloweenBackgroundManager implements IBackgroundManager {
 
         @Override
         public void update(int playerX, int playerY, long gameTime) {
+            this.gameTime = gameTime;
         }
 
         private void generateBuildings() {
@@ -431,7 +433,7 @@ public class HalloweenBackgroundManager implements IBackgroundManager {
         @Override
         public void render(Graphics2D g2d, int cameraX, int cameraY) {
             for (HalloweenBuilding building : buildings) {
-                building.render(g2d, cameraX, parallaxFactor, screenWidth);
+                building.render(g2d, cameraX, parallaxFactor, screenWidth, gameTime);
             }
         }
 
@@ -469,11 +471,11 @@ public class HalloweenBackgroundManager implements IBackgroundManager {
                 }
             }
 
-            public void render(Graphics2D g2d, int cameraX, float parallaxFactor, int screenWidth) {
+            public void render(Graphics2D g2d, int cameraX, float parallaxFactor, int screenWidth, long layerTime) {
                 float renderX = x - (cameraX * parallaxFactor);
                 if (renderX + width < -200 || renderX > screenWidth + 200) return;
 
-                long gameTime = System.currentTimeMillis() + animationOffset;
+                long gameTime = layerTime + animationOffset;
 
                 // Prédio
                 g2d.setColor(baseColor);
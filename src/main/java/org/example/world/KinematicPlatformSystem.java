@@ -0,0 +1,279 @@
+package org.example.world;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Plataformas MOVING como corpos cinemáticos: todas avançam num único laço sobre arrays primitivos
+ * e cada uma guarda o deslocamento (delta) do tick.
+ *
+ * - A posição fica em float no corpo (velocidades fracionárias andam de verdade) e a view (Platform)
+ *   recebe a parte inteira; só plataformas que mudaram de pixel avisam o listener (grade, store...)
+ * - Corpos fora da janela ativa não andam no tick (delta 0) e retomam de onde pararam
+ * - Riders (player, inimigos, orbs) são índices escolhidos por quem chama. O contato de cada um é
+ *   o que a colisão do tick anterior registrou (slot do PlatformStore em que pousou), então
+ *   carregar não faz nenhuma consulta de colisão: só lê o delta do corpo
+ *
+ * Plataformas registradas aqui não devem passar por Platform.update() (andariam duas vezes).
+ */
+public class KinematicPlatformSystem {
+
+    private static final int NONE = -1;
+
+    // Corpos (um por plataforma MOVING)
+    private Platform[] views = new Platform[16];
+    private int[] x = new int[16];
+    private int[] y = new int[16];
+    private int[] width = new int[16];
+    private int[] height = new int[16];
+    private float[] posX = new float[16];
+    private float[] posY = new float[16];
+    private int[] startX = new int[16];
+    private int[] endX = new int[16];
+    private int[] startY = new int[16];
+    private int[] endY = new int[16];
+    private float[] speed = new float[16];
+    private boolean[] forwardX = new boolean[16];
+    private boolean[] forwardY = new boolean[16];
+    private int[] deltaX = new int[16];
+    private int[] deltaY = new int[16];
+    private int count = 0;
+
+    private int[] bodyBySlot = new int[0];
+
+    // Rider -> corpo em que estava apoiado no tick anterior (NONE = no ar ou em plataforma parada)
+    private int[] riderBody = new int[0];
+
+    private Consumer<Platform> movedListener;
+
+    // === REGISTRO ===
+
+    /**
+     * Registra todas as plataformas MOVING do store (o slot de cada uma vira a chave dos contatos)
+     */
+    public void rebuild(PlatformStore store) {
+        clear();
+        bodyBySlot = new int[store.getHighWater()];
+        Arrays.fill(bodyBySlot, NONE);
+
+        for (int slot = 0; slot < store.getHighWater(); slot++) {
+            Platform view = store.getView(slot);
+            if (view != null && view.getType() == Platform.PlatformType.MOVING) {
+                add(view, slot);
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(views, 0, count, null);
+        count = 0;
+        Arrays.fill(bodyBySlot, NONE);
+        Arrays.fill(riderBody, NONE);
+    }
+
+    private void add(Platform view, int slot) {
+        if (count == views.length) {
+            grow();
+        }
+        int body = count++;
+        views[body] = view;
+        x[body] = view.x;
+        y[body] = view.y;
+        width[body] = view.width;
+        height[body] = view.height;
+        posX[body] = view.x;
+        posY[body] = view.y;
+        // Trajeto como [menor, maior] em cada eixo; começa indo na direção do fim (que pode estar antes do início)
+        startX[body] = Math.min(view.getMoveStartX(), view.getMoveEndX());
+        endX[body] = Math.max(view.getMoveStartX(), view.getMoveEndX());
+        startY[body] = Math.min(view.getMoveStartY(), view.getMoveEndY());
+        endY[body] = Math.max(view.getMoveStartY(), view.getMoveEndY());
+        speed[body] = Math.abs(view.getMoveSpeed());
+        forwardX[body] = view.getMoveEndX() >= view.getMoveStartX();
+        forwardY[body] = view.getMoveEndY() >= view.getMoveStartY();
+        deltaX[body] = 0;
+        deltaY[body] = 0;
+        bodyBySlot[slot] = body;
+    }
+
+    /**
+     * Quem indexa plataformas por posição e precisa saber quando uma delas se desloca
+     */
+    public void setMovedListener(Consumer<Platform> listener) {
+        this.movedListener = listener;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    // === TICK ===
+
+    /**
+     * Avança os corpos que tocam a janela ativa [minX, maxX] x [minY, maxY] e grava o delta de cada um
+     * @return quantas plataformas mudaram de posição
+     */
+    public int step(int minX, int minY, int maxX, int maxY) {
+        int moved = 0;
+        for (int i = 0; i < count; i++) {
+            deltaX[i] = 0;
+            deltaY[i] = 0;
+            if (x[i] > maxX || x[i] + width[i] < minX || y[i] > maxY || y[i] + height[i] < minY) continue;
+            if (views[i].isBroken()) continue;
+
+            // Vai e volta entre início e fim em cada eixo (mesma regra do Platform.updateMovingPlatform)
+            if (startX[i] != endX[i]) {
+                if (forwardX[i]) {
+                    posX[i] += speed[i];
+                    if (posX[i] >= endX[i]) {
+                        posX[i] = endX[i];
+                        forwardX[i] = false;
+                    }
+                } else {
+                    posX[i] -= speed[i];
+                    if (posX[i] <= startX[i]) {
+                        posX[i] = startX[i];
+                        forwardX[i] = true;
+                    }
+                }
+            }
+            if (startY[i] != endY[i]) {
+                if (forwardY[i]) {
+                    posY[i] += speed[i];
+                    if (posY[i] >= endY[i]) {
+                        posY[i] = endY[i];
+                        forwardY[i] = false;
+                    }
+                } else {
+                    posY[i] -= speed[i];
+                    if (posY[i] <= startY[i]) {
+                        posY[i] = startY[i];
+                        forwardY[i] = true;
+                    }
+                }
+            }
+
+            int newX = (int) Math.floor(posX[i]);
+            int newY = (int) Math.floor(posY[i]);
+            deltaX[i] = newX - x[i];
+            deltaY[i] = newY - y[i];
+            x[i] = newX;
+            y[i] = newY;
+            if (deltaX[i] != 0 || deltaY[i] != 0) {
+                moved++;
+            }
+        }
+
+        // Views e índices só depois do laço, e só para quem mudou de pixel
+        for (int i = 0; moved > 0 && i < count; i++) {
+            if (deltaX[i] == 0 && deltaY[i] == 0) continue;
+            views[i].updatePosition(x[i], y[i]);
+            if (movedListener != null) {
+                movedListener.accept(views[i]);
+            }
+        }
+        return moved;
+    }
+
+    // === RIDERS ===
+
+    /**
+     * Prepara riderCount riders, todos sem contato
+     */
+    public void resetRiders(int riderCount) {
+        if (riderBody.length < riderCount) {
+            riderBody = new int[riderCount];
+        }
+        Arrays.fill(riderBody, NONE);
+    }
+
+    /**
+     * Garante espaço para riderCount riders sem perder os contatos atuais. Chamar na thread da
+     * simulação antes de registrar contatos em paralelo (setRiderContact não cresce o array).
+     */
+    public void ensureRiders(int riderCount) {
+        if (riderBody.length < riderCount) {
+            int oldLength = riderBody.length;
+            riderBody = Arrays.copyOf(riderBody, Math.max(riderCount, oldLength * 2));
+            Arrays.fill(riderBody, oldLength, riderBody.length, NONE);
+        }
+    }
+
+    /**
+     * Contato registrado pela colisão: o rider pousou no slot (-1 ou plataforma parada = sem contato).
+     * Cada rider só escreve a própria posição, então inimigos em partições paralelas podem registrar juntos.
+     */
+    public void setRiderContact(int rider, int slot) {
+        if (rider < 0 || rider >= riderBody.length) return;
+        riderBody[rider] = slot >= 0 && slot < bodyBySlot.length ? bodyBySlot[slot] : NONE;
+    }
+
+    public void clearRiderContact(int rider) {
+        setRiderContact(rider, NONE);
+    }
+
+    /**
+     * Corpo do contato do rider se ele se deslocou neste tick, ou -1 (para riders presos à plataforma, como orbs)
+     */
+    public int getRiderBody(int rider) {
+        if (rider < 0 || rider >= riderBody.length) return NONE;
+        int body = riderBody[rider];
+        if (body == NONE || (deltaX[body] == 0 && deltaY[body] == 0)) return NONE;
+        return body;
+    }
+
+    /**
+     * Corpo que carrega o rider neste tick, ou -1. Confere só contra o próprio corpo (posição antes
+     * do tick) que o rider continua em cima: pés na altura do topo e sobreposição horizontal.
+     */
+    public int getCarrier(int rider, double left, double right, double bottom) {
+        int body = getRiderBody(rider);
+        if (body == NONE) return NONE;
+
+        int oldLeft = x[body] - deltaX[body];
+        int oldTop = y[body] - deltaY[body];
+        if (right <= oldLeft || left >= oldLeft + width[body] || Math.abs(bottom - oldTop) > 1) {
+            return NONE;
+        }
+        return body;
+    }
+
+    /**
+     * A plataforma do slot é um corpo cinemático (MOVING registrada no último rebuild)
+     */
+    public boolean isKinematic(int slot) {
+        return slot >= 0 && slot < bodyBySlot.length && bodyBySlot[slot] != NONE;
+    }
+
+    public int getDeltaX(int body) {
+        return deltaX[body];
+    }
+
+    public int getDeltaY(int body) {
+        return deltaY[body];
+    }
+
+    public Platform getView(int body) {
+        return views[body];
+    }
+
+    private void grow() {
+        int capacity = views.length * 2;
+        views = Arrays.copyOf(views, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        posX = Arrays.copyOf(posX, capacity);
+        posY = Arrays.copyOf(posY, capacity);
+        startX = Arrays.copyOf(startX, capacity);
+        endX = Arrays.copyOf(endX, capacity);
+        startY = Arrays.copyOf(startY, capacity);
+        endY = Arrays.copyOf(endY, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        forwardX = Arrays.copyOf(forwardX, capacity);
+        forwardY = Arrays.copyOf(forwardY, capacity);
+        deltaX = Arrays.copyOf(deltaX, capacity);
+        deltaY = Arrays.copyOf(deltaY, capacity);
+    }
+}
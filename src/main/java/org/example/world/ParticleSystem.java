@@ -1,5 +1,6 @@
 package org.example.world;
 
+import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.ArrayList;
 
@@ -89,6 +90,20 @@ public class ParticleSystem {
         }
     }
     
+    /**
+     * Quantidade de partículas ativas
+     */
+    public int getParticleCount() {
+        return particles.size();
+    }
+
+    /**
+     * Partícula na posição indicada (usado para copiar o estado sem iterator)
+     */
+    public Particle getParticle(int index) {
+        return particles.get(index);
+    }
+
     /**
      * Limpa todas as partículas
      */
@@ -116,6 +131,12 @@ public class ParticleSystem {
      * Classe interna para representar uma partícula simples
      */
     public static class Particle {
+        // Tipos de desenho (o snapshot de render copia o tipo e desenha com o render estático)
+        public static final int KIND_BASIC = 0;
+        public static final int KIND_CYBERPUNK = 1;
+        public static final int KIND_ENERGY = 2;
+        public static final int KIND_HOLOGRAM = 3;
+
         protected float x, y;
         protected float velocityX, velocityY;
         protected int life;
@@ -137,20 +158,81 @@ public class ParticleSystem {
         }
         
         public void render(Graphics2D g2d) {
-            // Renderização básica - pode ser sobrescrita
-            g2d.fillOval((int)x, (int)y, 2, 2);
+            render(g2d, getKind(), x, y, getColor(), getLifeRatio(), getIntensity());
+        }
+
+        /**
+         * Desenha uma partícula a partir de estado copiado (ex.: FrameSnapshot), sem ler a instância
+         * @param lifeRatio vida restante / vida inicial
+         * @param intensity brilho, faísca ou transparência, conforme o tipo
+         */
+        public static void render(Graphics2D g2d, int kind, float x, float y, Color color,
+                                  float lifeRatio, float intensity) {
+            switch (kind) {
+                case KIND_CYBERPUNK:
+                    // Efeito de brilho
+                    if (intensity > 0.8f) {
+                        g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(),
+                            (int)(50 * (intensity - 0.8f) * 5)));
+                        g2d.fillOval((int)x - 2, (int)y - 2, 6, 6);
+                    }
+
+                    // Partícula principal
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(),
+                        (int)(255 * lifeRatio)));
+                    g2d.fillOval((int)x, (int)y, 3, 3);
+                    break;
+
+                case KIND_ENERGY:
+                    // Efeito de faísca
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(),
+                        (int)(200 * intensity * lifeRatio)));
+
+                    // Desenhar como uma pequena estrela
+                    int[] starX = {(int)x, (int)x + 2, (int)x + 4, (int)x + 2, (int)x, (int)x - 2, (int)x - 4, (int)x - 2};
+                    int[] starY = {(int)y - 4, (int)y - 2, (int)y, (int)y + 2, (int)y + 4, (int)y + 2, (int)y, (int)y - 2};
+                    g2d.fillPolygon(starX, starY, 8);
+                    break;
+
+                case KIND_HOLOGRAM:
+                    // Efeito holográfico translúcido
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(),
+                        (int)(100 * intensity * lifeRatio)));
+
+                    // Desenhar como um quadrado translúcido
+                    g2d.fillRect((int)x, (int)y, 4, 4);
+
+                    // Borda brilhante
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(),
+                        (int)(150 * intensity * lifeRatio)));
+                    g2d.drawRect((int)x, (int)y, 4, 4);
+                    break;
+
+                default:
+                    // Renderização básica (cor atual do g2d)
+                    g2d.fillOval((int)x, (int)y, 2, 2);
+                    break;
+            }
         }
         
         public boolean isExpired() {
             return life <= 0;
         }
+
+        // Estado de desenho (copiado pelo snapshot de render)
+        public int getKind() { return KIND_BASIC; }
+        public float getX() { return x; }
+        public float getY() { return y; }
+        public Color getColor() { return null; }
+        public float getLifeRatio() { return life / (float)maxLife; }
+        public float getIntensity() { return 0; }
     }
     
     /**
      * Partícula cyberpunk com efeitos neon
      */
     public static class CyberpunkParticle extends Particle {
-        private java.awt.Color color;
+        private Color color;
         private float glowIntensity = 0;
         
         public CyberpunkParticle(float x, float y, float velocityX, float velocityY, int life) {
@@ -160,13 +242,13 @@ public class ParticleSystem {
             int colorType = (int)(Math.random() * 3);
             switch (colorType) {
                 case 0: // Azul cyberpunk
-                    this.color = new java.awt.Color(0, 150, 255);
+                    this.color = new Color(0, 150, 255);
                     break;
                 case 1: // Roxo neon
-                    this.color = new java.awt.Color(150, 0, 255);
+                    this.color = new Color(150, 0, 255);
                     break;
                 default: // Verde matrix
-                    this.color = new java.awt.Color(0, 255, 100);
+                    this.color = new Color(0, 255, 100);
                     break;
             }
         }
@@ -176,33 +258,27 @@ public class ParticleSystem {
             super.update();
             glowIntensity = (float)(Math.sin(life * 0.1) * 0.3 + 0.7);
         }
-        
+
         @Override
-        public void render(Graphics2D g2d) {
-            // Efeito de brilho
-            if (glowIntensity > 0.8f) {
-                g2d.setColor(new java.awt.Color(color.getRed(), color.getGreen(), color.getBlue(), 
-                    (int)(50 * (glowIntensity - 0.8f) * 5)));
-                g2d.fillOval((int)x - 2, (int)y - 2, 6, 6);
-            }
-            
-            // Partícula principal
-            g2d.setColor(new java.awt.Color(color.getRed(), color.getGreen(), color.getBlue(), 
-                (int)(255 * (life / (float)maxLife))));
-            g2d.fillOval((int)x, (int)y, 3, 3);
-        }
+        public int getKind() { return KIND_CYBERPUNK; }
+
+        @Override
+        public Color getColor() { return color; }
+
+        @Override
+        public float getIntensity() { return glowIntensity; }
     }
     
     /**
      * Partícula de energia com efeitos elétricos
      */
     public static class EnergyParticle extends Particle {
-        private java.awt.Color color;
+        private Color color;
         private float sparkIntensity = 0;
         
         public EnergyParticle(float x, float y, float velocityX, float velocityY, int life) {
             super(x, y, velocityX, velocityY, life);
-            this.color = new java.awt.Color(255, 255, 0); // Amarelo energia
+            this.color = new Color(255, 255, 0); // Amarelo energia
         }
         
         @Override
@@ -210,30 +286,27 @@ public class ParticleSystem {
             super.update();
             sparkIntensity = (float)(Math.random() * 0.5 + 0.5);
         }
-        
+
         @Override
-        public void render(Graphics2D g2d) {
-            // Efeito de faísca
-            g2d.setColor(new java.awt.Color(color.getRed(), color.getGreen(), color.getBlue(), 
-                (int)(200 * sparkIntensity * (life / (float)maxLife))));
-            
-            // Desenhar como uma pequena estrela
-            int[] starX = {(int)x, (int)x + 2, (int)x + 4, (int)x + 2, (int)x, (int)x - 2, (int)x - 4, (int)x - 2};
-            int[] starY = {(int)y - 4, (int)y - 2, (int)y, (int)y + 2, (int)y + 4, (int)y + 2, (int)y, (int)y - 2};
-            g2d.fillPolygon(starX, starY, 8);
-        }
+        public int getKind() { return KIND_ENERGY; }
+
+        @Override
+        public Color getColor() { return color; }
+
+        @Override
+        public float getIntensity() { return sparkIntensity; }
     }
     
     /**
      * Partícula de holograma com efeitos translúcidos
      */
     public static class HologramParticle extends Particle {
-        private java.awt.Color color;
+        private Color color;
         private float transparency = 0;
         
         public HologramParticle(float x, float y, float velocityX, float velocityY, int life) {
             super(x, y, velocityX, velocityY, life);
-            this.color = new java.awt.Color(0, 255, 255); // Ciano holográfico
+            this.color = new Color(0, 255, 255); // Ciano holográfico
         }
         
         @Override
@@ -241,20 +314,14 @@ public class ParticleSystem {
             super.update();
             transparency = (float)(Math.sin(life * 0.05) * 0.4 + 0.6);
         }
-        
+
         @Override
-        public void render(Graphics2D g2d) {
-            // Efeito holográfico translúcido
-            g2d.setColor(new java.awt.Color(color.getRed(), color.getGreen(), color.getBlue(), 
-                (int)(100 * transparency * (life / (float)maxLife))));
-            
-            // Desenhar como um quadrado translúcido
-            g2d.fillRect((int)x, (int)y, 4, 4);
-            
-            // Borda brilhante
-            g2d.setColor(new java.awt.Color(color.getRed(), color.getGreen(), color.getBlue(), 
-                (int)(150 * transparency * (life / (float)maxLife))));
-            g2d.drawRect((int)x, (int)y, 4, 4);
-        }
+        public int getKind() { return KIND_HOLOGRAM; }
+
+        @Override
+        public Color getColor() { return color; }
+
+        @Override
+        public float getIntensity() { return transparency; }
     }
 }
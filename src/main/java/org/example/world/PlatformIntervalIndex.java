@@ -0,0 +1,286 @@
+package org.example.world;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Índice de plataformas ordenado pelo x (borda esquerda) para o mundo que corre da esquerda para a direita.
+ *
+ * - Plataformas novas entram no fim (geração sempre à frente do player); fora de ordem caem numa
+ *   inserção por busca binária
+ * - A limpeza à esquerda só avança o início do deque: O(k) para k plataformas removidas
+ * - Consultas por janela de x em O(log n + k), usando a maior largura vista para não perder
+ *   plataformas que começam antes da janela mas entram nela
+ *
+ * Plataformas que mudam de x precisam passar por update(platform, xAntigo) para manter a ordem
+ * (remove/update acham a plataforma pela busca binária no x indexado, não por varredura), ou, quando
+ * muitas andam no mesmo tick, por um único resort() depois de todas.
+ */
+public class PlatformIntervalIndex {
+
+    private Platform[] items = new Platform[256];
+    private int head = 0; // Primeira posição ocupada
+    private int tail = 0; // Uma depois da última
+
+    private int maxWidth = 0;
+
+    public PlatformIntervalIndex() {
+    }
+
+    public PlatformIntervalIndex(List<Platform> platforms) {
+        rebuild(platforms);
+    }
+
+    // === MANUTENÇÃO ===
+
+    /**
+     * Recria o índice a partir de uma lista em qualquer ordem
+     */
+    public void rebuild(List<Platform> platforms) {
+        clear();
+        ensureCapacity(platforms.size());
+        for (Platform platform : platforms) {
+            if (platform != null) {
+                items[tail++] = platform;
+                maxWidth = Math.max(maxWidth, platform.width);
+            }
+        }
+        // Ordenação estável: plataformas com o mesmo x mantêm a ordem da lista
+        Arrays.sort(items, head, tail, (a, b) -> Integer.compare(a.x, b.x));
+    }
+
+    public void clear() {
+        Arrays.fill(items, head, tail, null);
+        head = 0;
+        tail = 0;
+        maxWidth = 0;
+    }
+
+    /**
+     * Adiciona mantendo a ordem por x (caso comum: no fim, O(1) amortizado)
+     */
+    public void add(Platform platform) {
+        if (platform == null) return;
+
+        maxWidth = Math.max(maxWidth, platform.width);
+        ensureCapacity(size() + 1);
+
+        if (tail == head || items[tail - 1].x <= platform.x) {
+            items[tail++] = platform;
+            return;
+        }
+
+        int index = upperBound(platform.x);
+        System.arraycopy(items, index, items, index + 1, tail - index);
+        items[index] = platform;
+        tail++;
+    }
+
+    /**
+     * Remove do início todas as plataformas com x < cleanupX.
+     * As removidas vão para removedOut (pode ser null). Retorna quantas saíram.
+     */
+    public int removeBefore(int cleanupX, List<Platform> removedOut) {
+        int removed = 0;
+        while (head < tail && items[head].x < cleanupX) {
+            if (removedOut != null) {
+                removedOut.add(items[head]);
+            }
+            items[head++] = null;
+            removed++;
+        }
+
+        if (head == tail) {
+            head = 0;
+            tail = 0;
+        }
+        return removed;
+    }
+
+    /**
+     * Remove uma plataforma que ainda está no x com que foi indexada
+     */
+    public boolean remove(Platform platform) {
+        return platform != null && remove(platform, platform.x);
+    }
+
+    /**
+     * Remove a plataforma indexada com a borda esquerda em x (busca binária; identidade só entre as de mesmo x)
+     */
+    public boolean remove(Platform platform, int x) {
+        int index = indexOf(platform, x);
+        if (index < 0) return false;
+
+        System.arraycopy(items, index + 1, items, index, tail - index - 1);
+        items[--tail] = null;
+        return true;
+    }
+
+    /**
+     * Reposiciona uma plataforma cujo x mudou de oldX para platform.x.
+     * Acha pela busca binária em oldX e desloca só o trecho entre a posição antiga e a nova
+     * (um passo de plataforma móvel costuma não passar ninguém: nada a copiar).
+     */
+    public boolean update(Platform platform, int oldX) {
+        int index = indexOf(platform, oldX);
+        if (index < 0) return false;
+
+        maxWidth = Math.max(maxWidth, platform.width);
+        int x = platform.x;
+        if (x > oldX) {
+            // Vai para depois das que ficaram com x <= novo x (mesma regra do add)
+            int target = upperBound(x, index + 1, tail) - 1;
+            System.arraycopy(items, index + 1, items, index, target - index);
+            items[target] = platform;
+        } else if (x < oldX) {
+            int target = upperBound(x, head, index);
+            System.arraycopy(items, target, items, target + 1, index - target);
+            items[target] = platform;
+        }
+        return true;
+    }
+
+    /**
+     * Reordena depois de um lote de plataformas que mudaram de x sem passar por update() (o passo
+     * cinemático move várias de uma vez). Inserção sobre a ordem anterior: quase ordenada, então é
+     * um passe O(n) que só desloca quem realmente passou uma vizinha.
+     */
+    public void resort() {
+        for (int i = head + 1; i < tail; i++) {
+            Platform platform = items[i];
+            int x = platform.x;
+            int j = i - 1;
+            if (items[j].x <= x) continue;
+
+            // Estável: para depois das que têm o mesmo x, como no add()
+            while (j >= head && items[j].x > x) {
+                items[j + 1] = items[j];
+                j--;
+            }
+            items[j + 1] = platform;
+        }
+    }
+
+    // === CONSULTAS ===
+
+    /**
+     * Plataformas cujo intervalo [x, x + width] toca [minX, maxX], em ordem de x
+     */
+    public ArrayList<Platform> queryOverlapping(int minX, int maxX, ArrayList<Platform> out) {
+        out.clear();
+        for (int i = lowerBound(minX - maxWidth); i < tail; i++) {
+            Platform platform = items[i];
+            if (platform.x > maxX) break;
+            if (platform.x + platform.width >= minX) {
+                out.add(platform);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Plataformas com a borda esquerda em [minX, maxX], em ordem de x
+     */
+    public ArrayList<Platform> queryStartingBetween(int minX, int maxX, ArrayList<Platform> out) {
+        out.clear();
+        for (int i = lowerBound(minX); i < tail; i++) {
+            Platform platform = items[i];
+            if (platform.x > maxX) break;
+            out.add(platform);
+        }
+        return out;
+    }
+
+    public int size() {
+        return tail - head;
+    }
+
+    public boolean isEmpty() {
+        return tail == head;
+    }
+
+    /**
+     * i-ésima plataforma em ordem de x (0 = mais à esquerda)
+     */
+    public Platform get(int index) {
+        return items[head + index];
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    // === BUSCA ===
+
+    // Primeira posição com x >= value
+    private int lowerBound(int value) {
+        int low = head, high = tail;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (items[mid].x < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Primeira posição com x > value
+    private int upperBound(int value) {
+        return upperBound(value, head, tail);
+    }
+
+    // Primeira posição em [from, to) com x > value
+    private int upperBound(int value, int from, int to) {
+        int low = from, high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (items[mid].x <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Posição pela busca binária no x indexado e, entre as de mesmo x, pela identidade.
+    // A própria plataforma pode já estar com o x novo: quando a busca cai nela, achou.
+    private int indexOf(Platform platform, int x) {
+        if (platform == null) return -1;
+
+        int low = head, high = tail;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (items[mid] == platform) return mid;
+            if (items[mid].x < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < tail && (items[i].x == x || items[i] == platform); i++) {
+            if (items[i] == platform) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void ensureCapacity(int count) {
+        if (head + count <= items.length) return;
+
+        // Compacta para o começo antes de crescer (espaço liberado pela limpeza)
+        int size = size();
+        Platform[] target = (count > items.length / 2) ? new Platform[Math.max(count * 2, 16)] : items;
+        System.arraycopy(items, head, target, 0, size);
+        if (target == items) {
+            Arrays.fill(items, size, tail, null);
+        }
+        items = target;
+        head = 0;
+        tail = size;
+    }
+}
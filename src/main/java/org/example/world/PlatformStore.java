@@ -0,0 +1,295 @@
+package org.example.world;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Plataformas em colunas paralelas (structure of arrays) para colisão e varreduras em massa.
+ *
+ * Cada plataforma ocupa um slot: x, y, width, height (do hitbox) e tipo ficam em arrays primitivos
+ * contíguos, ~30 bytes por slot contra centenas de um {@link Platform} completo (Rectangle, sprites,
+ * id em String, cores). O Platform continua existindo como "view" opcional do slot para o que
+ * precisa de comportamento rico (desenho, movimento, quebra); slots sem view são só geometria.
+ *
+ * Slots removidos entram numa lista livre e são reaproveitados, então os índices ficam estáveis
+ * enquanto a plataforma existir. Quem guarda um slot entre ticks compara getGeneration(slot):
+ * ela muda toda vez que o slot é ocupado de novo. Laços de alto desempenho leem as colunas públicas diretamente
+ * de 0 até getHighWater(), pulando slots com alive[i] == 0.
+ */
+public class PlatformStore {
+
+    private static final int NO_SLOT = -1;
+    private static final Platform.PlatformType[] TYPES = Platform.PlatformType.values();
+
+    /**
+     * Lista de slots reaproveitável (saída das consultas sem alocar)
+     */
+    public static final class Slots {
+        public int[] ids = new int[32];
+        public int size = 0;
+
+        public void clear() {
+            size = 0;
+        }
+
+        public void add(int slot) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = slot;
+        }
+    }
+
+    // Colunas (realocadas ao crescer: leia o campo a cada laço, não guarde a referência)
+    public int[] x;
+    public int[] y;
+    public int[] width;
+    public int[] height;
+    public byte[] type;   // Platform.PlatformType.ordinal()
+    public byte[] alive;  // 1 = ocupado
+
+    private Platform[] views;
+    private int[] nextFree;
+    private int[] generation; // Sobe a cada ocupação do slot (não volta a zero no clear)
+    private int freeHead = NO_SLOT;
+    private int highWater = 0; // Slots [0, highWater) já foram usados alguma vez
+    private int count = 0;
+    private int minExtent = Integer.MAX_VALUE; // Menor largura/altura já vista (sub-passos da física)
+
+    private final IdentityHashMap<Platform, Integer> slotsByView = new IdentityHashMap<>();
+
+    public PlatformStore() {
+        this(256);
+    }
+
+    public PlatformStore(int initialCapacity) {
+        allocate(Math.max(16, initialCapacity));
+    }
+
+    // === MANUTENÇÃO ===
+
+    /**
+     * Recria o store com uma view por plataforma da lista (slot = posição na lista)
+     */
+    public void rebuild(List<Platform> platforms) {
+        clear();
+        for (Platform platform : platforms) {
+            if (platform != null) {
+                add(platform);
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(alive, 0, highWater, (byte) 0);
+        Arrays.fill(views, 0, highWater, null);
+        slotsByView.clear();
+        freeHead = NO_SLOT;
+        highWater = 0;
+        count = 0;
+        minExtent = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Adiciona uma plataforma completa (a geometria vem do hitbox dela)
+     */
+    public int add(Platform view) {
+        Integer existing = slotsByView.get(view);
+        if (existing != null) return existing;
+
+        int slot = allocateSlot();
+        views[slot] = view;
+        slotsByView.put(view, slot);
+        type[slot] = (byte) (view.getType() != null ? view.getType().ordinal() : 0);
+        copyGeometry(slot, view);
+        return slot;
+    }
+
+    /**
+     * Adiciona só a geometria, sem objeto Platform
+     */
+    public int add(int x, int y, int width, int height, Platform.PlatformType platformType) {
+        int slot = allocateSlot();
+        this.x[slot] = x;
+        this.y[slot] = y;
+        this.width[slot] = width;
+        this.height[slot] = height;
+        type[slot] = (byte) (platformType != null ? platformType.ordinal() : 0);
+        trackExtent(width, height);
+        return slot;
+    }
+
+    public void remove(int slot) {
+        if (!isAlive(slot)) return;
+
+        if (views[slot] != null) {
+            slotsByView.remove(views[slot]);
+            views[slot] = null;
+        }
+        alive[slot] = 0;
+        nextFree[slot] = freeHead;
+        freeHead = slot;
+        count--;
+    }
+
+    public void remove(Platform view) {
+        int slot = slotOf(view);
+        if (slot != NO_SLOT) {
+            remove(slot);
+        }
+    }
+
+    /**
+     * Relê a geometria da view (depois que a plataforma se moveu)
+     */
+    public void sync(Platform view) {
+        int slot = slotOf(view);
+        if (slot != NO_SLOT) {
+            copyGeometry(slot, view);
+        }
+    }
+
+    /**
+     * Mesmo que sync(view) para quem já tem o slot (sem a busca no mapa de views)
+     */
+    public void sync(int slot) {
+        if (isAlive(slot) && views[slot] != null) {
+            copyGeometry(slot, views[slot]);
+        }
+    }
+
+    private void copyGeometry(int slot, Platform view) {
+        Rectangle box = view.getHitbox();
+        if (box != null) {
+            x[slot] = box.x;
+            y[slot] = box.y;
+            width[slot] = box.width;
+            height[slot] = box.height;
+        } else {
+            x[slot] = view.x;
+            y[slot] = view.y;
+            width[slot] = view.width;
+            height[slot] = view.height;
+        }
+        trackExtent(width[slot], height[slot]);
+    }
+
+    private void trackExtent(int slotWidth, int slotHeight) {
+        if (slotWidth > 0) minExtent = Math.min(minExtent, slotWidth);
+        if (slotHeight > 0) minExtent = Math.min(minExtent, slotHeight);
+    }
+
+    // === CONSULTAS ===
+
+    public boolean isAlive(int slot) {
+        return slot >= 0 && slot < highWater && alive[slot] != 0;
+    }
+
+    /**
+     * Objeto Platform do slot (null para slots só de geometria)
+     */
+    public Platform getView(int slot) {
+        return isAlive(slot) ? views[slot] : null;
+    }
+
+    /**
+     * Ocupação atual do slot: um slot guardado com outra geração foi liberado e reaproveitado
+     */
+    public int getGeneration(int slot) {
+        return generation[slot];
+    }
+
+    public int slotOf(Platform view) {
+        Integer slot = slotsByView.get(view);
+        return slot != null ? slot : NO_SLOT;
+    }
+
+    public Platform.PlatformType getType(int slot) {
+        return TYPES[type[slot]];
+    }
+
+    /**
+     * Varredura linear das colunas: slots cujo retângulo toca [minX, maxX] x [minY, maxY]
+     */
+    public Slots queryRect(int minX, int minY, int maxX, int maxY, Slots out) {
+        out.clear();
+        int[] xs = x, ys = y, ws = width, hs = height;
+        byte[] live = alive;
+        for (int i = 0; i < highWater; i++) {
+            if (live[i] != 0 && xs[i] <= maxX && xs[i] + ws[i] >= minX
+                    && ys[i] <= maxY && ys[i] + hs[i] >= minY) {
+                out.add(i);
+            }
+        }
+        return out;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Menor largura ou altura entre as plataformas já registradas (não sobe com remoções até o
+     * próximo clear/rebuild: limite conservador). Integer.MAX_VALUE se o store está vazio.
+     */
+    public int getMinExtent() {
+        return minExtent;
+    }
+
+    /**
+     * Limite superior dos slots já usados (para laços diretos sobre as colunas)
+     */
+    public int getHighWater() {
+        return highWater;
+    }
+
+    public int getCapacity() {
+        return x.length;
+    }
+
+    // === SLOTS ===
+
+    private int allocateSlot() {
+        int slot;
+        if (freeHead != NO_SLOT) {
+            slot = freeHead;
+            freeHead = nextFree[slot];
+        } else {
+            if (highWater == x.length) {
+                grow();
+            }
+            slot = highWater++;
+        }
+        alive[slot] = 1;
+        generation[slot]++;
+        count++;
+        return slot;
+    }
+
+    private void allocate(int capacity) {
+        x = new int[capacity];
+        y = new int[capacity];
+        width = new int[capacity];
+        height = new int[capacity];
+        type = new byte[capacity];
+        alive = new byte[capacity];
+        views = new Platform[capacity];
+        nextFree = new int[capacity];
+        generation = new int[capacity];
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        type = Arrays.copyOf(type, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+        views = Arrays.copyOf(views, capacity);
+        nextFree = Arrays.copyOf(nextFree, capacity);
+        generation = Arrays.copyOf(generation, capacity);
+    }
+}
@@ -3,6 +3,7 @@ package org.example.world;
 import org.example.objects.Player;
 import java.util.ArrayList;
 import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * Sistema de plataformas reativas que respondem ao jogador
@@ -11,12 +12,13 @@ import java.util.Random;
 public class ReactivePlatformSystem {
     
     private static Random random = new Random();
-    private static ArrayList<ReactivePlatform> reactivePlatforms = new ArrayList<>();
+    private final ArrayList<ReactivePlatform> reactivePlatforms = new ArrayList<>();
+    private Consumer<Platform> platformMovedListener; // Índices avisados quando uma plataforma muda de lugar
     
     /**
-     * Plataforma reativa que responde ao jogador
+     * Plataforma reativa que responde ao jogador (avisa o listener do sistema que a criou)
      */
-    public static class ReactivePlatform {
+    public class ReactivePlatform {
         public Platform platform;
         public PlatformType type;
         public float reactionRadius;
@@ -83,6 +85,9 @@ public class ReactivePlatformSystem {
                     // Muda posição aleatoriamente
                     platform.x += (random.nextFloat() - 0.5f) * 100;
                     platform.y += (random.nextFloat() - 0.5f) * 50;
+                    if (platformMovedListener != null) {
+                        platformMovedListener.accept(platform);
+                    }
                     break;
                 case GRAVITY_FIELD:
                     // Aplica efeito de gravidade reduzida
@@ -196,7 +201,7 @@ public class ReactivePlatformSystem {
     /**
      * Cria plataformas reativas para o mapa
      */
-    public static void createReactivePlatforms(ArrayList<Platform> platforms) {
+    public void createReactivePlatforms(ArrayList<Platform> platforms) {
         reactivePlatforms.clear();
         
         // Adicionar plataformas reativas em posições estratégicas
@@ -217,7 +222,7 @@ public class ReactivePlatformSystem {
     /**
      * Atualiza todas as plataformas reativas
      */
-    public static void updateReactivePlatforms(Player player) {
+    public void updateReactivePlatforms(Player player) {
         for (ReactivePlatform reactivePlatform : reactivePlatforms) {
             reactivePlatform.update(player);
         }
@@ -234,14 +239,22 @@ public class ReactivePlatformSystem {
     /**
      * Obtém todas as plataformas reativas
      */
-    public static ArrayList<ReactivePlatform> getReactivePlatforms() {
+    public ArrayList<ReactivePlatform> getReactivePlatforms() {
         return reactivePlatforms;
     }
     
     /**
      * Limpa todas as plataformas reativas
      */
-    public static void clearReactivePlatforms() {
+    public void clearReactivePlatforms() {
         reactivePlatforms.clear();
     }
+    
+    /**
+     * Quem indexa plataformas por posição (grade de colisão, índice por x) e precisa saber
+     * quando uma delas se desloca
+     */
+    public void setPlatformMovedListener(Consumer<Platform> listener) {
+        platformMovedListener = listener;
+    }
 }
@@ -0,0 +1,324 @@
+package org.example.world;
+
+import org.example.objects.Player;
+import org.example.ui.GameConfig;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+
+/**
+ * Volumes de gatilho (áreas de vento e volumes próprios de quem registra) num único índice espacial.
+ *
+ * Cada volume é registrado nas células de um hash espacial que a área dele cobre. A cada tick o ator
+ * (player) faz uma consulta só, com o próprio hitbox, em vez de uma varredura de lista por tipo; o custo
+ * depende de quantos volumes estão perto, então tipos novos de volume não pesam no tick.
+ *
+ * Eventos por ator, sempre na ordem de registro dos volumes:
+ * - onEnter: primeiro tick em que o hitbox sobrepõe a área
+ * - onStay: todo tick com sobreposição (inclusive o primeiro, logo depois do onEnter)
+ * - onExit: primeiro tick sem sobreposição (ou depois que o volume foi removido)
+ *
+ * A sobreposição é a mesma do Rectangle.intersects usado pelos efeitos. Volumes que mudam de área
+ * precisam passar por moved(). Não é thread-safe: tudo na thread da simulação.
+ */
+public class TriggerVolumeSystem {
+
+    public enum Kind {
+        WIND, CUSTOM
+    }
+
+    /**
+     * Reage aos eventos de um volume (só onStay é obrigatório)
+     */
+    public interface Handler {
+        default void onEnter(Volume volume, Player player) {
+        }
+
+        void onStay(Volume volume, Player player);
+
+        default void onExit(Volume volume, Player player) {
+        }
+    }
+
+    /**
+     * Volume registrado. A área é a do próprio objeto (mesma referência), não uma cópia.
+     */
+    public static final class Volume {
+        public final int id; // Ordem de registro
+        public final Kind kind;
+        public final Rectangle area;
+        public final Object owner;
+        public final Handler handler;
+        boolean alive = true;
+        boolean failureLogged; // Erro do handler já apareceu no log (uma vez por volume)
+        int minCellX, minCellY, maxCellX, maxCellY;
+        int queryStamp;
+
+        Volume(int id, Kind kind, Rectangle area, Object owner, Handler handler) {
+            this.id = id;
+            this.kind = kind;
+            this.area = area;
+            this.owner = owner;
+            this.handler = handler;
+        }
+
+        public boolean isAlive() {
+            return alive;
+        }
+    }
+
+    /**
+     * Volumes em que um ator estava no tick anterior (ids em ordem crescente)
+     */
+    public static final class Occupancy {
+        int[] inside = new int[8];
+        int size = 0;
+
+        public int size() {
+            return size;
+        }
+
+        public void clear() {
+            size = 0;
+        }
+    }
+
+    private static final int BUCKET_COUNT = 1024; // Potência de 2
+
+    private final int cellSize;
+
+    // Hash espacial: célula -> balde (colisões de hash só custam um teste de retângulo a mais)
+    private final int[][] buckets = new int[BUCKET_COUNT][];
+    private final int[] bucketSizes = new int[BUCKET_COUNT];
+
+    private Volume[] volumes = new Volume[32];
+    private int volumeCount = 0;
+    private int aliveCount = 0;
+    private int queryStamp = 0;
+
+    private final Occupancy defaultOccupancy = new Occupancy();
+    private int[] current = new int[8];
+
+    public TriggerVolumeSystem() {
+        this(GameConfig.SPATIAL_GRID_CELL_SIZE);
+    }
+
+    public TriggerVolumeSystem(int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("cellSize deve ser positivo: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    // === REGISTRO ===
+
+    public Volume add(Kind kind, Rectangle area, Object owner, Handler handler) {
+        if (area == null || handler == null) {
+            throw new IllegalArgumentException("Volume precisa de área e handler");
+        }
+        if (volumeCount == volumes.length) {
+            volumes = Arrays.copyOf(volumes, volumes.length * 2);
+        }
+        Volume volume = new Volume(volumeCount, kind, area, owner, handler);
+        volumes[volumeCount++] = volume;
+        aliveCount++;
+        insertCells(volume);
+        return volume;
+    }
+
+    public Volume addWind(WindEffect wind) {
+        return add(Kind.WIND, wind.getArea(), wind, (volume, player) -> wind.applyWindEffect(player));
+    }
+
+    public void remove(Volume volume) {
+        if (volume == null || !volume.alive) return;
+        removeCells(volume);
+        volume.alive = false;
+        aliveCount--;
+    }
+
+    /**
+     * Reindexa um volume cuja área mudou
+     */
+    public void moved(Volume volume) {
+        if (volume == null || !volume.alive) return;
+        removeCells(volume);
+        insertCells(volume);
+    }
+
+    /**
+     * Remove todos os volumes (sem disparar onExit) e esquece a ocupação padrão.
+     * Ocupações próprias (update com Occupancy) precisam de clear() também.
+     */
+    public void clear() {
+        Arrays.fill(volumes, 0, volumeCount, null);
+        volumeCount = 0;
+        aliveCount = 0;
+        Arrays.fill(bucketSizes, 0);
+        defaultOccupancy.clear();
+    }
+
+    public int size() {
+        return aliveCount;
+    }
+
+    // === TICK ===
+
+    /**
+     * Uma consulta pelo hitbox do player e os eventos de entrada, permanência e saída
+     */
+    public void update(Player player) {
+        update(player, defaultOccupancy);
+    }
+
+    /**
+     * Igual a update(player), para mais de um ator: cada um guarda a própria ocupação
+     */
+    public void update(Player player, Occupancy occupancy) {
+        if (player == null) return;
+
+        int found = query(player.getHitbox());
+        int[] previous = occupancy.inside;
+        int previousSize = occupancy.size;
+
+        // Merge de duas listas ordenadas: saídas, entradas e permanências na ordem de registro
+        int p = 0;
+        int c = 0;
+        while (p < previousSize || c < found) {
+            int before = p < previousSize ? previous[p] : Integer.MAX_VALUE;
+            int now = c < found ? current[c] : Integer.MAX_VALUE;
+            if (before < now) {
+                dispatchExit(volumes[before], player);
+                p++;
+            } else {
+                Volume volume = volumes[now];
+                if (before != now) {
+                    dispatchEnter(volume, player);
+                } else {
+                    p++;
+                }
+                dispatchStay(volume, player);
+                c++;
+            }
+        }
+
+        if (occupancy.inside.length < found) {
+            occupancy.inside = new int[Math.max(found, occupancy.inside.length * 2)];
+        }
+        System.arraycopy(current, 0, occupancy.inside, 0, found);
+        occupancy.size = found;
+    }
+
+    // Volumes vivos cujo retângulo intersecta a área, em current[0..n) por id
+    private int query(Rectangle rect) {
+        if (++queryStamp == 0) {
+            for (int i = 0; i < volumeCount; i++) {
+                if (volumes[i] != null) volumes[i].queryStamp = 0;
+            }
+            queryStamp = 1;
+        }
+
+        int found = 0;
+        int minX = Math.floorDiv(rect.x, cellSize);
+        int minY = Math.floorDiv(rect.y, cellSize);
+        int maxX = Math.floorDiv(rect.x + rect.width, cellSize);
+        int maxY = Math.floorDiv(rect.y + rect.height, cellSize);
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                int bucket = bucketOf(cx, cy);
+                int[] ids = buckets[bucket];
+                for (int i = 0; i < bucketSizes[bucket]; i++) {
+                    Volume volume = volumes[ids[i]];
+                    if (volume.queryStamp == queryStamp) continue;
+                    volume.queryStamp = queryStamp;
+                    if (volume.area.intersects(rect)) {
+                        if (found == current.length) {
+                            current = Arrays.copyOf(current, found * 2);
+                        }
+                        current[found++] = volume.id;
+                    }
+                }
+            }
+        }
+        Arrays.sort(current, 0, found);
+        return found;
+    }
+
+    // Handlers isolados: erro num volume não impede os outros (e aparece no log uma vez por volume)
+    private void dispatchEnter(Volume volume, Player player) {
+        try {
+            volume.handler.onEnter(volume, player);
+        } catch (Exception e) {
+            reportFailure(volume, "onEnter", e);
+        }
+    }
+
+    private void dispatchStay(Volume volume, Player player) {
+        try {
+            volume.handler.onStay(volume, player);
+        } catch (Exception e) {
+            reportFailure(volume, "onStay", e);
+        }
+    }
+
+    private void dispatchExit(Volume volume, Player player) {
+        try {
+            volume.handler.onExit(volume, player);
+        } catch (Exception e) {
+            reportFailure(volume, "onExit", e);
+        }
+    }
+
+    private static void reportFailure(Volume volume, String event, Exception e) {
+        if (volume.failureLogged) return;
+        volume.failureLogged = true;
+        System.err.println("Erro no " + event + " do volume " + volume.id + " (" + volume.kind + "): " + e);
+    }
+
+    // === HASH ESPACIAL ===
+
+    private void insertCells(Volume volume) {
+        Rectangle area = volume.area;
+        volume.minCellX = Math.floorDiv(area.x, cellSize);
+        volume.minCellY = Math.floorDiv(area.y, cellSize);
+        volume.maxCellX = Math.floorDiv(area.x + area.width, cellSize);
+        volume.maxCellY = Math.floorDiv(area.y + area.height, cellSize);
+        for (int cx = volume.minCellX; cx <= volume.maxCellX; cx++) {
+            for (int cy = volume.minCellY; cy <= volume.maxCellY; cy++) {
+                int bucket = bucketOf(cx, cy);
+                int[] ids = buckets[bucket];
+                int size = bucketSizes[bucket];
+                if (ids != null && size > 0 && ids[size - 1] == volume.id) continue; // Célula com mesmo hash
+                if (ids == null) {
+                    ids = buckets[bucket] = new int[4];
+                } else if (size == ids.length) {
+                    ids = buckets[bucket] = Arrays.copyOf(ids, size * 2);
+                }
+                ids[size] = volume.id;
+                bucketSizes[bucket] = size + 1;
+            }
+        }
+    }
+
+    private void removeCells(Volume volume) {
+        for (int cx = volume.minCellX; cx <= volume.maxCellX; cx++) {
+            for (int cy = volume.minCellY; cy <= volume.maxCellY; cy++) {
+                int bucket = bucketOf(cx, cy);
+                int[] ids = buckets[bucket];
+                int size = bucketSizes[bucket];
+                for (int i = 0; i < size; i++) {
+                    if (ids[i] == volume.id) {
+                        System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+                        bucketSizes[bucket] = size - 1;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private static int bucketOf(int cellX, int cellY) {
+        int hash = cellX * 73856093 ^ cellY * 19349663;
+        return hash & (BUCKET_COUNT - 1);
+    }
+}
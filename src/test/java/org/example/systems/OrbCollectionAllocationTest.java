@@ -0,0 +1,99 @@
+package org.example.systems;
+
+import org.example.entities.EnergyOrbEntity;
+import org.example.objects.EnergyOrb;
+import org.example.objects.Player;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Caminho dos orbs (broadphase + coleta de cianos e dourados) sem alocação por tick em regime.
+ *
+ * O player percorre os orbs em ordem de x, um por tick (como em OrbCollectionBenchmark), então a
+ * janela medida tem pares com o player e coletas de verdade, não só um laço vazio.
+ */
+class OrbCollectionAllocationTest {
+
+    private static final int WARMUP_RUNS = 3;
+
+    @Test
+    void orbPathDoesNotAllocateInSteadyState() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threads.isThreadAllocatedMemorySupported(), "JVM sem contagem de alocação por thread");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        // Aquecimento pelo tick completo em mundos descartáveis: JIT e inicializações de uma vez só
+        // (constantes de classe, limiares de ranking do score) acontecem aqui, não na janela medida
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            SimulationKernel warmup = SimulationKernel.headless();
+            warmup.disableEnemies();
+            long[] route = orbRoute(warmup);
+            for (long point : route) {
+                placePlayer(warmup.getPlayer(), point);
+                warmup.tick();
+                warmup.getProfiler().endUpdate();
+            }
+        }
+
+        SimulationKernel kernel = SimulationKernel.headless();
+        kernel.disableEnemies();
+        long[] route = orbRoute(kernel); // Alocado antes: a janela só escreve campos do player
+        Player player = kernel.getPlayer();
+
+        // Um tick antes da janela: listas internas (varredura do broadphase) já no tamanho de uso
+        kernel.tick();
+        kernel.getProfiler().endUpdate();
+
+        long threadId = Thread.currentThread().getId();
+
+        // Custo da própria leitura do contador, descontado da medição
+        long calibrationStart = threads.getThreadAllocatedBytes(threadId);
+        long calibrationEnd = threads.getThreadAllocatedBytes(threadId);
+        long readCost = calibrationEnd - calibrationStart;
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < route.length; i++) {
+            placePlayer(player, route[i]);
+            kernel.updateBroadphase();
+            kernel.collectOrbs();
+        }
+        long after = threads.getThreadAllocatedBytes(threadId);
+
+        assertTrue(kernel.getScoreSystem().getCurrentScore() > 0, "nenhum orb coletado na janela medida");
+        assertEquals(0L, after - before - readCost, "bytes alocados em " + route.length + " ticks do caminho dos orbs");
+    }
+
+    /**
+     * Posições de todos os orbs (cianos e dourados) ordenadas por x, empacotadas como (x << 32) | y
+     */
+    private static long[] orbRoute(SimulationKernel kernel) {
+        long[] route = new long[kernel.getWorldOrbs().size() + kernel.getGoldOrbs().size()];
+        int count = 0;
+        for (EnergyOrbEntity orb : kernel.getWorldOrbs()) {
+            route[count++] = pack((int) orb.getX(), (int) orb.getY());
+        }
+        for (EnergyOrb orb : kernel.getGoldOrbs()) {
+            route[count++] = pack(orb.x, orb.y);
+        }
+        Arrays.sort(route);
+        return route;
+    }
+
+    private static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static void placePlayer(Player player, long point) {
+        player.x = (int) (point >> 32) - 10;
+        player.y = (int) point - 30;
+        player.velocityY = 0;
+        player.lives = 99;
+        player.getHitbox().setLocation(player.x, player.y); // O que a física do tick faria
+    }
+}